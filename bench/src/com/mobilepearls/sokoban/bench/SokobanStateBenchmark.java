@@ -0,0 +1,460 @@
+package com.mobilepearls.sokoban.bench;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import com.mobilepearls.sokoban.SokobanGameState;
+import com.mobilepearls.sokoban.SokobanLevel;
+import com.mobilepearls.sokoban.SokobanLevels;
+
+/**
+ * Micro benchmarks of the {@link SokobanGameState} hot paths: construction, single steps, long drags, pushes, undo and
+ * the per frame queries, run on the first and the largest level of every set in {@link SokobanLevels}.
+ * Every benchmark is warmed up and then measured in fixed time iterations, and the results are printed and written as
+ * JSON in the layout of JMH's result format, so that they can be compared between runs:
+ *
+ * <pre>
+ * SokobanStateBenchmark [--json bench.json] [--warmup 5] [--iterations 10] [--iteration-ms 200] [--filter regex]
+ * </pre>
+ *
+ * The benchmark lives outside the source folders of the app so that it is not packaged with it, and is compiled against
+ * the classes of the app in bin/classes.
+ */
+public final class SokobanStateBenchmark {
+
+	private abstract static class Benchmark {
+		final String name;
+		/** Free form description of the measured operation on this level, e.g. the length of a drag. */
+		String detail = "";
+		SokobanGameState state;
+
+		Benchmark(String name) {
+			this.name = name;
+		}
+
+		/** Number of operations per timed call of {@link #run(int)}. */
+		int batchSize() {
+			return 1024;
+		}
+
+		/** Set up {@link #state} for the level, or return false if the level has no position for the benchmark. */
+		abstract boolean prepare(int levelSet, int level);
+
+		/** Untimed preparation before every batch. */
+		void reset() {
+			// nothing by default
+		}
+
+		/** Perform the given number of operations and return something depending on them, see {@link #sink}. */
+		abstract long run(int operations);
+	}
+
+	private static final class Result {
+		final Benchmark benchmark;
+		final String detail;
+		final int level;
+		final int levelSet;
+		final double[] nanosPerOperation;
+
+		Result(Benchmark benchmark, int levelSet, int level, double[] nanosPerOperation) {
+			this.benchmark = benchmark;
+			this.detail = benchmark.detail;
+			this.levelSet = levelSet;
+			this.level = level;
+			this.nanosPerOperation = nanosPerOperation;
+		}
+
+		/** Return the error of the score, or 0 for a single iteration, as JMH does, since NaN is not valid JSON. */
+		double error() {
+			if (nanosPerOperation.length < 2)
+				return 0;
+			double mean = score();
+			double squares = 0;
+			for (double value : nanosPerOperation)
+				squares += (value - mean) * (value - mean);
+			double deviation = Math.sqrt(squares / (nanosPerOperation.length - 1));
+			// half width of the 99.9% confidence interval, normal approximation
+			return 3.29 * deviation / Math.sqrt(nanosPerOperation.length);
+		}
+
+		double score() {
+			double sum = 0;
+			for (double value : nanosPerOperation)
+				sum += value;
+			return sum / nanosPerOperation.length;
+		}
+	}
+
+	private static final int[] DX = { 1, -1, 0, 0 };
+	private static final int[] DY = { 0, 0, 1, -1 };
+
+	/** Results of the benchmarks end up here so that the JIT can not remove the measured code. */
+	static volatile long sink;
+
+	private static List<Benchmark> createBenchmarks() {
+		List<Benchmark> result = new ArrayList<Benchmark>();
+		result.add(new Benchmark("constructor") {
+			private int level;
+			private int levelSet;
+
+			@Override
+			int batchSize() {
+				return 16;
+			}
+
+			@Override
+			boolean prepare(int levelSet, int level) {
+				this.levelSet = levelSet;
+				this.level = level;
+				return true;
+			}
+
+			@Override
+			long run(int operations) {
+				long result = 0;
+				for (int i = 0; i < operations; i++)
+					result += new SokobanGameState(level, levelSet).getPlayerCell();
+				return result;
+			}
+		});
+		result.add(new Benchmark("tryMove.step") {
+			private int direction;
+
+			@Override
+			boolean prepare(int levelSet, int level) {
+				state = new SokobanGameState(level, levelSet);
+				state.setUndoLimit(1024);
+				int[] run = longestRun(state, false);
+				direction = run[1];
+				return run[0] >= 0;
+			}
+
+			@Override
+			long run(int operations) {
+				long result = 0;
+				for (int i = 0; i < operations; i++) {
+					int sign = (i & 1) == 0 ? 1 : -1;
+					if (state.tryMove(sign * DX[direction], sign * DY[direction]))
+						result++;
+				}
+				return result;
+			}
+		});
+		result.add(new Benchmark("tryMove.drag") {
+			private int direction;
+			private int length;
+
+			@Override
+			boolean prepare(int levelSet, int level) {
+				state = new SokobanGameState(level, levelSet);
+				state.setUndoLimit(1024);
+				int[] run = longestRun(state, true);
+				if (run[0] < 0 || run[2] < 2)
+					return false;
+				walkTo(state, run[0]);
+				direction = run[1];
+				length = run[2];
+				detail = length + " steps";
+				return true;
+			}
+
+			@Override
+			long run(int operations) {
+				long result = 0;
+				for (int i = 0; i < operations; i++) {
+					int steps = (i & 1) == 0 ? length : -length;
+					if (state.tryMove(steps * DX[direction], steps * DY[direction]))
+						result++;
+				}
+				return result;
+			}
+		});
+		result.add(new Benchmark("tryMove.push") {
+			private int direction;
+
+			@Override
+			boolean prepare(int levelSet, int level) {
+				state = new SokobanGameState(level, levelSet);
+				int[] push = findPush(state);
+				if (push == null)
+					return false;
+				walkTo(state, push[0]);
+				direction = push[1];
+				detail = "push and undo";
+				return true;
+			}
+
+			@Override
+			long run(int operations) {
+				long result = 0;
+				for (int i = 0; i < operations; i++) {
+					if (state.tryMove(DX[direction], DY[direction]))
+						result++;
+					state.performUndo();
+				}
+				return result;
+			}
+		});
+		result.add(new Benchmark("performUndo") {
+			@Override
+			boolean prepare(int levelSet, int level) {
+				state = new SokobanGameState(level, levelSet);
+				int[] run = longestRun(state, false);
+				if (run[0] < 0)
+					return false;
+				for (int i = 0; i < batchSize(); i++) {
+					int sign = (i & 1) == 0 ? 1 : -1;
+					state.tryMove(sign * DX[run[1]], sign * DY[run[1]]);
+				}
+				return true;
+			}
+
+			@Override
+			void reset() {
+				state.jumpToMove(state.getHistorySize());
+			}
+
+			@Override
+			long run(int operations) {
+				long result = 0;
+				for (int i = 0; i < operations; i++)
+					if (state.performUndo())
+						result++;
+				return result;
+			}
+		});
+		result.add(new Benchmark("isDone") {
+			@Override
+			boolean prepare(int levelSet, int level) {
+				state = new SokobanGameState(level, levelSet);
+				return true;
+			}
+
+			@Override
+			long run(int operations) {
+				long result = 0;
+				for (int i = 0; i < operations; i++)
+					if (!state.isDone())
+						result++;
+				return result;
+			}
+		});
+		result.add(new Benchmark("getPlayerPosition") {
+			@Override
+			boolean prepare(int levelSet, int level) {
+				state = new SokobanGameState(level, levelSet);
+				return true;
+			}
+
+			@Override
+			long run(int operations) {
+				long result = 0;
+				for (int i = 0; i < operations; i++) {
+					int[] position = state.getPlayerPosition();
+					result += position[0] + position[1];
+				}
+				return result;
+			}
+		});
+		return result;
+	}
+
+	/** Return a cell next to a diamond which can be pushed, walkable from the start, and the push direction. */
+	private static int[] findPush(SokobanGameState state) {
+		SokobanLevel level = state.getLevel();
+		int[] parents = reachable(state);
+		for (int cell = 0; cell < parents.length; cell++) {
+			if (parents[cell] < 0)
+				continue;
+			for (int direction = 0; direction < 4; direction++) {
+				int step = level.step(DX[direction], DY[direction]);
+				int box = cell + step;
+				if (isBox(state, box) && level.isFloor(box + step) && !isBox(state, box + step))
+					return new int[] { cell, direction };
+			}
+		}
+		return null;
+	}
+
+	private static boolean isBox(SokobanGameState state, int cell) {
+		return (state.getBoxes()[cell >>> 6] & (1L << cell)) != 0;
+	}
+
+	/**
+	 * Return the {cell, direction, length} of the longest straight walk without pushes, starting from a cell walkable
+	 * from the player if anywhere, or else from the player cell. The cell is -1 if the player can not move at all.
+	 */
+	private static int[] longestRun(SokobanGameState state, boolean anywhere) {
+		SokobanLevel level = state.getLevel();
+		int[] parents = reachable(state);
+		int[] best = { -1, 0, 0 };
+		for (int cell = 0; cell < parents.length; cell++) {
+			if (parents[cell] < 0 || !anywhere && cell != state.getPlayerCell())
+				continue;
+			for (int direction = 0; direction < 4; direction++) {
+				int step = level.step(DX[direction], DY[direction]);
+				int length = 0;
+				while (parents[cell + (length + 1) * step] >= 0)
+					length++;
+				if (length > best[2]) {
+					best[0] = cell;
+					best[1] = direction;
+					best[2] = length;
+				}
+			}
+		}
+		return best;
+	}
+
+	public static void main(String[] args) throws IOException {
+		String jsonFile = "bench.json";
+		String filter = null;
+		int warmup = 5;
+		int iterations = 10;
+		long iterationMillis = 200;
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			if ("--json".equals(args[i]))
+				jsonFile = args[i + 1];
+			else if ("--filter".equals(args[i]))
+				filter = args[i + 1];
+			else if ("--warmup".equals(args[i]))
+				warmup = Integer.parseInt(args[i + 1]);
+			else if ("--iterations".equals(args[i]))
+				iterations = Integer.parseInt(args[i + 1]);
+			else if ("--iteration-ms".equals(args[i]))
+				iterationMillis = Long.parseLong(args[i + 1]);
+			else
+				throw new IllegalArgumentException("Unknown option " + args[i]);
+		}
+		if (iterations < 1)
+			throw new IllegalArgumentException("Need at least one iteration: " + iterations);
+
+		List<Result> results = new ArrayList<Result>();
+		for (Benchmark benchmark : createBenchmarks()) {
+			if (filter != null && !benchmark.name.matches(filter))
+				continue;
+			for (int levelSet = 0; levelSet < SokobanLevels.getLevelSetCount(); levelSet++) {
+				for (int level : representativeLevels(levelSet)) {
+					benchmark.detail = "";
+					if (!benchmark.prepare(levelSet, level))
+						continue;
+					for (int i = 0; i < warmup; i++)
+						measure(benchmark, iterationMillis);
+					double[] nanos = new double[iterations];
+					for (int i = 0; i < iterations; i++)
+						nanos[i] = measure(benchmark, iterationMillis);
+					Result result = new Result(benchmark, levelSet, level, nanos);
+					results.add(result);
+					System.out.println(String.format(Locale.US, "%-18s set %d level %3d %10.2f +- %6.2f ns/op %s",
+							benchmark.name, levelSet, level, result.score(), result.error(), benchmark.detail));
+				}
+			}
+		}
+		writeJson(results, jsonFile, warmup, iterations, iterationMillis);
+	}
+
+	/** Run batches for the given time and return the average nanoseconds per operation, excluding the resets. */
+	private static double measure(Benchmark benchmark, long millis) {
+		long budget = millis * 1000000L;
+		long elapsed = 0;
+		long operations = 0;
+		long result = 0;
+		int batch = benchmark.batchSize();
+		while (elapsed < budget) {
+			benchmark.reset();
+			long start = System.nanoTime();
+			result += benchmark.run(batch);
+			elapsed += System.nanoTime() - start;
+			operations += batch;
+		}
+		sink += result;
+		return (double) elapsed / operations;
+	}
+
+	/** Return the cells the player can walk to, with the cell each was first reached from, or -1 if not reachable. */
+	private static int[] reachable(SokobanGameState state) {
+		SokobanLevel level = state.getLevel();
+		int[] parents = new int[level.getCellCount()];
+		Arrays.fill(parents, -1);
+		int[] queue = new int[parents.length];
+		int tail = 0;
+		queue[tail++] = state.getPlayerCell();
+		parents[state.getPlayerCell()] = state.getPlayerCell();
+		for (int head = 0; head < tail; head++) {
+			int cell = queue[head];
+			for (int direction = 0; direction < 4; direction++) {
+				int to = cell + level.step(DX[direction], DY[direction]);
+				if (level.isFloor(to) && !isBox(state, to) && parents[to] < 0) {
+					parents[to] = cell;
+					queue[tail++] = to;
+				}
+			}
+		}
+		return parents;
+	}
+
+	/** Return the first level and the level with the most cells of a set. */
+	private static int[] representativeLevels(int levelSet) {
+		int largest = 0;
+		for (int level = 1; level < SokobanLevels.getLevelCount(levelSet); level++)
+			if (SokobanLevels.getLevel(levelSet, level).getCellCount() > SokobanLevels.getLevel(levelSet, largest)
+					.getCellCount())
+				largest = level;
+		return largest == 0 ? new int[] { 0 } : new int[] { 0, largest };
+	}
+
+	/** Walk the player to a reachable cell with single steps. */
+	private static void walkTo(SokobanGameState state, int target) {
+		SokobanLevel level = state.getLevel();
+		int[] parents = reachable(state);
+		List<Integer> path = new ArrayList<Integer>();
+		for (int cell = target; cell != state.getPlayerCell(); cell = parents[cell])
+			path.add(0, cell);
+		for (int cell : path) {
+			int from = state.getPlayerCell();
+			state.tryMove(level.x(cell) - level.x(from), level.y(cell) - level.y(from));
+		}
+	}
+
+	private static void writeJson(List<Result> results, String file, int warmup, int iterations, long iterationMillis)
+			throws IOException {
+		Writer json = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+		try {
+			json.write("[\n");
+			for (int r = 0; r < results.size(); r++) {
+				Result result = results.get(r);
+				StringBuilder raw = new StringBuilder();
+				for (double value : result.nanosPerOperation)
+					raw.append(raw.length() == 0 ? "" : ", ").append(String.format(Locale.US, "%.3f", value));
+				json.write(String.format(Locale.US, "  {\n" //
+						+ "    \"benchmark\": \"%s.%s\",\n" //
+						+ "    \"mode\": \"avgt\",\n" //
+						+ "    \"threads\": 1,\n" //
+						+ "    \"warmupIterations\": %d,\n" //
+						+ "    \"measurementIterations\": %d,\n" //
+						+ "    \"measurementTime\": \"%d ms\",\n" //
+						+ "    \"params\": {\"levelSet\": \"%d\", \"level\": \"%d\", \"detail\": \"%s\"},\n" //
+						+ "    \"primaryMetric\": {\"score\": %.3f, \"scoreError\": %.3f, \"scoreUnit\": \"ns/op\","
+						+ " \"rawData\": [[%s]]}\n" //
+						+ "  }%s\n", //
+						SokobanStateBenchmark.class.getName(), result.benchmark.name, warmup, iterations,
+						iterationMillis, result.levelSet, result.level, result.detail, result.score(),
+						result.error(), raw, r + 1 < results.size() ? "," : ""));
+			}
+			json.write("]\n");
+		} finally {
+			json.close();
+		}
+	}
+
+	private SokobanStateBenchmark() {
+		// command line tool only
+	}
+
+}
@@ -0,0 +1,24 @@
+package com.mobilepearls.sokoban;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import android.app.Application;
+import android.content.res.AssetManager;
+
+/** Points {@link SokobanLevels} at the APK assets before any activity, also one restored after process death, runs. */
+public class SokobanApplication extends Application {
+
+	@Override
+	public void onCreate() {
+		super.onCreate();
+		final AssetManager assets = getAssets();
+		SokobanLevels.setOpener(new SokobanLevels.Opener() {
+			@Override
+			public InputStream open(String path) throws IOException {
+				return assets.open(path);
+			}
+		});
+	}
+
+}
@@ -0,0 +1,49 @@
+package com.mobilepearls.sokoban;
+
+/** Helpers for bitsets packed into long arrays and indexed by cell, see {@link SokobanLevel#index(int, int)}. */
+public final class SokobanBits {
+
+	public static void clear(long[] bits, int index) {
+		bits[index >>> 6] &= ~(1L << index);
+	}
+
+	public static int count(long[] bits) {
+		int result = 0;
+		for (long word : bits)
+			result += Long.bitCount(word);
+		return result;
+	}
+
+	/** Return the number of bits set in a but not in b. */
+	public static int countAndNot(long[] a, long[] b) {
+		int result = 0;
+		for (int i = 0; i < a.length; i++)
+			result += Long.bitCount(a[i] & ~b[i]);
+		return result;
+	}
+
+	public static long[] create(int size) {
+		return new long[(size + 63) >>> 6];
+	}
+
+	public static boolean get(long[] bits, int index) {
+		return (bits[index >>> 6] & (1L << index)) != 0;
+	}
+
+	/** Return whether every bit set in a is also set in b. */
+	public static boolean isSubset(long[] a, long[] b) {
+		for (int i = 0; i < a.length; i++)
+			if ((a[i] & ~b[i]) != 0)
+				return false;
+		return true;
+	}
+
+	public static void set(long[] bits, int index) {
+		bits[index >>> 6] |= 1L << index;
+	}
+
+	private SokobanBits() {
+		// static helpers only
+	}
+
+}
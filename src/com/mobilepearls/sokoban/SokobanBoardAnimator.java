@@ -0,0 +1,264 @@
+package com.mobilepearls.sokoban;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.view.Choreographer;
+import android.view.View;
+
+/**
+ * Slides the player and a pushed or pulled diamond from cell to cell instead of letting them jump. The game state
+ * changes at once and the board as drawn follows it one step at a time: moves are queued as single steps, and the more
+ * steps are queued the faster each is played, so the board never lags far behind the game. Progress is computed from
+ * the frame time, so frames dropped under load are skipped instead of slowing the animation down. Nothing is allocated
+ * per frame.
+ */
+final class SokobanBoardAnimator implements Runnable {
+
+	/** Receives frames from the Choreographer, which is only available from Jelly Bean on. */
+	@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+	private static final class FrameCallback implements Choreographer.FrameCallback {
+		private final SokobanBoardAnimator animator;
+		private final Choreographer choreographer = Choreographer.getInstance();
+
+		FrameCallback(SokobanBoardAnimator animator) {
+			this.animator = animator;
+		}
+
+		void cancel() {
+			choreographer.removeFrameCallback(this);
+		}
+
+		@Override
+		public void doFrame(long frameTimeNanos) {
+			animator.frame(frameTimeNanos);
+		}
+
+		void post() {
+			choreographer.postFrameCallback(this);
+		}
+	}
+
+	/** Delay between frames posted to the view before Jelly Bean. */
+	private static final long FALLBACK_FRAME_MS = 16;
+	/** The queued steps are played within this time, however many there are. */
+	private static final long MAX_LAG_NANOS = 250 * 1000000L;
+	/** The board jumps to the game state instead of queueing more steps than this. */
+	private static final int MAX_QUEUED_STEPS = 64;
+	/** Duration of a single step when no others are queued. */
+	private static final long STEP_NANOS = 120 * 1000000L;
+
+	private final SokobanBoardController controller;
+	/** Cells changed during the current frame, right and bottom exclusive. */
+	private int dirtyBottom;
+	private int dirtyLeft;
+	private int dirtyRight;
+	private int dirtyTop;
+	/** The diamonds as drawn before the current step, only valid while steps are queued. */
+	private long[] displayBoxes;
+	private final FrameCallback frameCallback;
+	private final SokobanGameState game;
+	/** The diamonds after the last queued step, as they were in the game state when it was queued. */
+	private long[] queuedBoxes;
+	private boolean scheduled;
+	/** Queued steps in a ring buffer starting at {@link #stepHead}, the diamond moves are -1 for plain steps. */
+	private final int[] stepBoxFrom = new int[MAX_QUEUED_STEPS];
+	private final int[] stepBoxTo = new int[MAX_QUEUED_STEPS];
+	private int stepCount;
+	/** Duration of the current step, fixed when it starts. */
+	private long stepDuration;
+	private int stepHead;
+	private final int[] stepPlayerFrom = new int[MAX_QUEUED_STEPS];
+	private final int[] stepPlayerTo = new int[MAX_QUEUED_STEPS];
+	/** Fraction of the current step played as of the last frame. */
+	private float stepProgress;
+	private long stepStart;
+	private final View view;
+
+	SokobanBoardAnimator(SokobanBoardController controller, View view) {
+		this.controller = controller;
+		this.game = controller.game;
+		this.view = view;
+		frameCallback = Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN ? new FrameCallback(this) : null;
+		reset();
+	}
+
+	/** Copy the diamonds and the player as drawn into a snapshot. */
+	void fill(SokobanBoardSnapshot snapshot) {
+		long[] boxes = stepCount == 0 ? game.getBoxes() : displayBoxes;
+		if (snapshot.boxes == null || snapshot.boxes.length != boxes.length)
+			snapshot.boxes = new long[boxes.length];
+		System.arraycopy(boxes, 0, snapshot.boxes, 0, boxes.length);
+		if (stepCount == 0) {
+			snapshot.movingBoxFrom = -1;
+			snapshot.movingBoxTo = -1;
+			snapshot.player = game.getPlayerCell();
+			snapshot.playerTo = snapshot.player;
+			snapshot.progress = 0;
+		} else {
+			snapshot.movingBoxFrom = stepBoxFrom[stepHead];
+			snapshot.movingBoxTo = stepBoxTo[stepHead];
+			snapshot.player = stepPlayerFrom[stepHead];
+			snapshot.playerTo = stepPlayerTo[stepHead];
+			snapshot.progress = stepProgress;
+		}
+	}
+
+	/** Advance the queued steps to the given time, skipping the steps which should already have ended. */
+	void frame(long frameTimeNanos) {
+		scheduled = false;
+		if (stepCount == 0)
+			return;
+
+		dirtyLeft = Integer.MAX_VALUE;
+		dirtyTop = Integer.MAX_VALUE;
+		dirtyRight = Integer.MIN_VALUE;
+		dirtyBottom = Integer.MIN_VALUE;
+		includeStep(stepHead);
+		while (frameTimeNanos - stepStart >= stepDuration) {
+			int box = stepBoxFrom[stepHead];
+			if (box >= 0) {
+				SokobanBits.clear(displayBoxes, box);
+				SokobanBits.set(displayBoxes, stepBoxTo[stepHead]);
+			}
+			stepHead = (stepHead + 1) % MAX_QUEUED_STEPS;
+			if (--stepCount == 0)
+				break;
+			stepStart += stepDuration;
+			stepDuration = stepDuration();
+			includeStep(stepHead);
+		}
+		stepProgress = stepCount == 0 ? 0 : Math.max(0, (float) (frameTimeNanos - stepStart) / stepDuration);
+
+		controller.animationChanged(dirtyLeft, dirtyTop, dirtyRight, dirtyBottom);
+		if (stepCount > 0)
+			schedule();
+	}
+
+	private void include(int cell) {
+		SokobanLevel level = game.getLevel();
+		dirtyLeft = Math.min(dirtyLeft, level.x(cell));
+		dirtyTop = Math.min(dirtyTop, level.y(cell));
+		dirtyRight = Math.max(dirtyRight, level.x(cell) + 1);
+		dirtyBottom = Math.max(dirtyBottom, level.y(cell) + 1);
+	}
+
+	private void includeStep(int index) {
+		include(stepPlayerFrom[index]);
+		include(stepPlayerTo[index]);
+		if (stepBoxFrom[index] >= 0) {
+			include(stepBoxFrom[index]);
+			include(stepBoxTo[index]);
+		}
+	}
+
+	/**
+	 * Queue the steps of a straight line move, undo or redo the game state has just made from the given cell. Jumps to
+	 * the game state instead if the move cannot be followed.
+	 */
+	void moved(int previousPlayer) {
+		SokobanLevel level = game.getLevel();
+		int player = game.getPlayerCell();
+		int distance = Math.abs(level.x(player) - level.x(previousPlayer))
+				+ Math.abs(level.y(player) - level.y(previousPlayer));
+		if (distance == 0)
+			return;
+
+		// at most one diamond moves along the line, found by comparing with the diamonds before the move
+		long[] boxes = game.getBoxes();
+		int boxFrom = -1;
+		int boxTo = -1;
+		int changed = 0;
+		for (int i = 0; i < boxes.length; i++) {
+			long removed = queuedBoxes[i] & ~boxes[i];
+			long added = boxes[i] & ~queuedBoxes[i];
+			changed += Long.bitCount(removed) + Long.bitCount(added);
+			if (removed != 0)
+				boxFrom = (i << 6) + Long.numberOfTrailingZeros(removed);
+			if (added != 0)
+				boxTo = (i << 6) + Long.numberOfTrailingZeros(added);
+		}
+		if (changed > 2 || (boxFrom < 0) != (boxTo < 0) || stepCount + distance > MAX_QUEUED_STEPS) {
+			jump();
+			return;
+		}
+
+		boolean idle = stepCount == 0;
+		if (idle) {
+			System.arraycopy(queuedBoxes, 0, displayBoxes, 0, queuedBoxes.length);
+			stepHead = 0;
+		}
+		int step = (player - previousPlayer) / distance;
+		int box = boxFrom;
+		for (int from = previousPlayer; from != player; from += step) {
+			int index = (stepHead + stepCount++) % MAX_QUEUED_STEPS;
+			stepPlayerFrom[index] = from;
+			stepPlayerTo[index] = from + step;
+			stepBoxFrom[index] = -1;
+			stepBoxTo[index] = -1;
+			if (box == from + step || (box >= 0 && box != boxTo && from + step == player)) {
+				// pushed ahead of the player, or pulled behind it by an undo on the last step
+				stepBoxFrom[index] = box;
+				stepBoxTo[index] = box == from + step ? box + step : boxTo;
+				box = stepBoxTo[index];
+			}
+		}
+		System.arraycopy(boxes, 0, queuedBoxes, 0, boxes.length);
+		if (box != boxTo) {
+			jump();
+			return;
+		}
+
+		if (idle) {
+			stepStart = System.nanoTime();
+			stepDuration = stepDuration();
+			stepProgress = 0;
+		}
+		if (!scheduled)
+			schedule();
+	}
+
+	/** Drop the queued steps and repaint the board as in the game state. */
+	private void jump() {
+		reset();
+		SokobanLevel level = game.getLevel();
+		controller.animationChanged(0, 0, level.getWidth(), level.getHeight());
+	}
+
+	/** Drop the queued steps, e.g. after a restart or when a new level is shown. Does not repaint. */
+	void reset() {
+		if (scheduled) {
+			if (frameCallback != null)
+				frameCallback.cancel();
+			else
+				view.removeCallbacks(this);
+			scheduled = false;
+		}
+		stepCount = 0;
+		stepHead = 0;
+		long[] boxes = game.getBoxes();
+		if (queuedBoxes == null || queuedBoxes.length != boxes.length) {
+			queuedBoxes = new long[boxes.length];
+			displayBoxes = new long[boxes.length];
+		}
+		System.arraycopy(boxes, 0, queuedBoxes, 0, boxes.length);
+	}
+
+	@Override
+	public void run() {
+		frame(System.nanoTime());
+	}
+
+	private void schedule() {
+		scheduled = true;
+		if (frameCallback != null)
+			frameCallback.post();
+		else
+			view.postDelayed(this, FALLBACK_FRAME_MS);
+	}
+
+	/** Shorten the steps as more are queued, so that all of them are played within {@link #MAX_LAG_NANOS}. */
+	private long stepDuration() {
+		return Math.min(STEP_NANOS, MAX_LAG_NANOS / stepCount);
+	}
+
+}
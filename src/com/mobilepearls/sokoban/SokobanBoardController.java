@@ -0,0 +1,325 @@
+package com.mobilepearls.sokoban;
+
+import android.annotation.SuppressLint;
+import android.app.Activity;
+import android.app.AlertDialog;
+import android.content.Context;
+import android.content.DialogInterface;
+import android.content.Intent;
+import android.content.SharedPreferences;
+import android.content.SharedPreferences.Editor;
+import android.graphics.Bitmap;
+import android.os.Vibrator;
+import android.view.KeyEvent;
+import android.view.MotionEvent;
+import android.view.View;
+
+/**
+ * The game logic shared by the views showing the board: touch and key input, undo and redo, scrolling to follow the
+ * player and the end of a level. The view is told what to repaint through its {@link Host} methods, and draws the board
+ * by having the controller {@link #fill(SokobanBoardSnapshot)} a snapshot for a {@link SokobanBoardRenderer}.
+ */
+final class SokobanBoardController {
+
+	static class GameMetrics {
+		boolean levelFitsOnScreen;
+		int tileSize;
+	}
+
+	/** Implemented by the views showing the board. */
+	interface Host {
+		/** Repaint the whole board. */
+		void boardChanged();
+
+		/** Repaint the given area, in view coordinates. */
+		void boardChanged(int left, int top, int right, int bottom);
+
+		SokobanBoardController getController();
+	}
+
+	private final SokobanBoardAnimator animator;
+	/** The tiles at the current tile size, see {@link SokobanTileAtlas}. */
+	private Bitmap atlas;
+	/**
+	 * The walls, floor, targets and outside of the level, which never change, rendered at the current tile size, or
+	 * null for large boards, see {@link SokobanBoardRenderer#renderBoardLayer(SokobanLevel, Bitmap, int)}.
+	 */
+	private Bitmap boardLayer;
+	final SokobanGameState game;
+	private final Host host;
+	boolean ignoreDrag;
+	GameMetrics metrics;
+	private int offsetX;
+	private int offsetY;
+	private final View view;
+
+	/** Create the controller of a view implementing {@link Host}, in a {@link SokobanGameActivity}. */
+	@SuppressLint("ClickableViewAccessibility")
+	SokobanBoardController(View view) {
+		this.view = view;
+		this.host = (Host) view;
+		this.game = ((SokobanGameActivity) view.getContext()).gameState;
+		this.animator = new SokobanBoardAnimator(this, view);
+
+		view.setOnTouchListener(new View.OnTouchListener() {
+			private int xOffset;
+			private int xTouch;
+			private int yOffset;
+			private int yTouch;
+
+			@Override
+			public boolean onTouch(View v, MotionEvent event) {
+				if (event.getAction() == MotionEvent.ACTION_DOWN) {
+					ignoreDrag = false;
+					xTouch = (int) event.getX();
+					yTouch = (int) event.getY();
+					xOffset = 0;
+					yOffset = 0;
+				} else if (event.getAction() == MotionEvent.ACTION_UP) {
+					// perhaps move to clicked tile? if not is moving?
+				} else if (event.getAction() == MotionEvent.ACTION_MOVE) {
+					if (ignoreDrag)
+						return true;
+
+					// System.out.println("MOVING: " + event.getX() + ", " + event.getY());
+					xOffset += xTouch - (int) event.getX();
+					yOffset += yTouch - (int) event.getY();
+
+					int dx = 0, dy = 0;
+
+					if (Math.abs(xOffset) >= Math.abs(yOffset)) {
+						// perhaps move x?
+						dx = (xOffset) / metrics.tileSize;
+						if (dx != 0) {
+							yOffset = 0; // <= since we move horizontally, reset vertical offset
+							xOffset -= dx * metrics.tileSize;
+						}
+					} else {
+						// perhaps move y?
+						dy = (yOffset) / metrics.tileSize;
+						if (dy != 0) {
+							xOffset = 0; // <= since we move vertically, reset horizontal offset
+							yOffset -= dy * metrics.tileSize;
+						}
+					}
+
+					performMove(-dx, -dy);
+
+					xTouch = (int) event.getX();
+					yTouch = (int) event.getY();
+				}
+				return true;
+			}
+		});
+
+		view.setOnKeyListener(new View.OnKeyListener() {
+			@Override
+			public boolean onKey(View v, int keyCode, KeyEvent event) {
+				if (event.getAction() != KeyEvent.ACTION_DOWN)
+					return false;
+
+				switch (keyCode) {
+				case KeyEvent.KEYCODE_DPAD_UP:
+					performMove(0, -1);
+					break;
+				case KeyEvent.KEYCODE_DPAD_RIGHT:
+					performMove(1, 0);
+					break;
+				case KeyEvent.KEYCODE_DPAD_DOWN:
+					performMove(0, 1);
+					break;
+				case KeyEvent.KEYCODE_DPAD_LEFT:
+					performMove(-1, 0);
+					break;
+				default:
+					return false;
+				}
+				return true;
+			}
+		});
+	}
+
+	/** Repaint the given cells for the next frame of an animation, right and bottom exclusive. */
+	void animationChanged(int left, int top, int right, int bottom) {
+		int tileSize = metrics.tileSize;
+		host.boardChanged(offsetX + left * tileSize, offsetY + top * tileSize, offsetX + right * tileSize, offsetY
+				+ bottom * tileSize);
+	}
+
+	/** Called by our own activity. */
+	void backPressed() {
+		int previousPlayer = game.getPlayerCell();
+		if (game.performUndo()) {
+			invalidateMove(previousPlayer);
+		} else if (!game.canUndo()) {
+			Vibrator vibrator = (Vibrator) view.getContext().getSystemService(Context.VIBRATOR_SERVICE);
+			vibrator.vibrate(300);
+		}
+	}
+
+	private void centerScreenOnPlayer() {
+		int[] playerPos = game.getPlayerPosition();
+		int centerX = playerPos[0] * metrics.tileSize + metrics.tileSize / 2;
+		int centerY = playerPos[1] * metrics.tileSize + metrics.tileSize / 2;
+		// // offset + width/2 = centerX =>
+		offsetX = centerX - view.getWidth() / 2;
+		offsetY = centerY - view.getHeight() / 2;
+
+		offsetX = -offsetX;
+		offsetY = -offsetY;
+	}
+
+	/** Return whether the view scrolled to keep the player away from the edges. */
+	private boolean centerScreenOnPlayerIfNecessary() {
+		if (metrics.levelFitsOnScreen) {
+			return false;
+		}
+
+		int[] playerPos = game.getPlayerPosition();
+		int playerX = playerPos[0];
+		int playerY = playerPos[1];
+
+		int tileSize = metrics.tileSize;
+		int tilesLeftOfPlayer = (playerX * tileSize + offsetX) / tileSize;
+		int tilesRightOfPlayer = (view.getWidth() - playerX * tileSize - offsetX) / tileSize;
+		int tilesAboveOfPlayer = (playerY * tileSize + offsetY) / tileSize;
+		int tilesBelowOfPlayer = (view.getHeight() - playerY * tileSize - offsetY) / tileSize;
+
+		final int THRESHOLD = 1;
+		if (tilesLeftOfPlayer <= THRESHOLD || tilesRightOfPlayer <= THRESHOLD || tilesAboveOfPlayer <= THRESHOLD
+				|| tilesBelowOfPlayer <= THRESHOLD) {
+			centerScreenOnPlayer();
+			ignoreDrag = true;
+			return true;
+		}
+		return false;
+	}
+
+	private void computeMetrics() {
+		metrics = new GameMetrics();
+		metrics.tileSize = SokobanGameActivity.IMAGE_SIZE;
+		// "-1" since the whole border tiles does not need to fit on screen:
+		metrics.levelFitsOnScreen = ((game.getWidthInTiles() - 1) * metrics.tileSize <= view.getWidth() && (game
+				.getHeightInTiles() - 1) * metrics.tileSize <= view.getHeight());
+	}
+
+	void customSizeChanged() {
+		computeMetrics();
+
+		atlas = SokobanTileAtlas.get(view.getResources(), metrics.tileSize);
+		// a render thread may still be drawing the old layer, so it is left to the garbage collector
+		boardLayer = SokobanBoardRenderer.renderBoardLayer(game.getLevel(), atlas, metrics.tileSize);
+
+		if (metrics.levelFitsOnScreen) {
+			int w = game.getWidthInTiles() * metrics.tileSize;
+			int h = game.getHeightInTiles() * metrics.tileSize;
+			// 2*offsetX + w = view.getWidth() =>
+			offsetX = (view.getWidth() - w) / 2;
+			offsetY = (view.getHeight() - h) / 2;
+		} else {
+			centerScreenOnPlayer();
+		}
+		host.boardChanged();
+	}
+
+	/** Copy what is needed to draw the board into a snapshot. */
+	void fill(SokobanBoardSnapshot snapshot) {
+		snapshot.atlas = atlas;
+		snapshot.boardLayer = boardLayer;
+		animator.fill(snapshot);
+		snapshot.level = game.getLevel();
+		snapshot.offsetX = offsetX;
+		snapshot.offsetY = offsetY;
+		snapshot.tileSize = metrics.tileSize;
+	}
+
+	void gameOver() {
+		Vibrator vibrator = (Vibrator) view.getContext().getSystemService(Context.VIBRATOR_SERVICE);
+		vibrator.vibrate(300);
+		host.boardChanged();
+
+		SharedPreferences prefs = view.getContext().getSharedPreferences(SokobanPrefs.SHARED_PREFS_NAME,
+				Context.MODE_PRIVATE);
+		final String maxLevelPrefName = SokobanLevelMenuActivity.getMaxLevelPrefName(game.currentLevelSet);
+		int currentMaxLevel = prefs.getInt(maxLevelPrefName, 1);
+		int newMaxLevel = game.getCurrentLevel() + 2; // zero based level from getCurrentLevel()
+		String message = "Level already cleared - no new level unlocked!";
+		boolean levelSetDone = false;
+		if (newMaxLevel > currentMaxLevel) {
+			if (newMaxLevel - 1 >= SokobanLevels.getLevelCount(game.currentLevelSet)) {
+				newMaxLevel--;
+				message = "You completed all levels!";
+				levelSetDone = true;
+			} else {
+				Editor editor = prefs.edit();
+				editor.putInt(maxLevelPrefName, newMaxLevel);
+				editor.commit();
+				message = "New level unlocked!";
+			}
+		}
+
+		AlertDialog.Builder alert = new AlertDialog.Builder(view.getContext());
+		alert.setCancelable(false);
+		alert.setMessage(message);
+		alert.setTitle("Congratulations");
+		final int levelDestination = newMaxLevel - 1; // newMaxLevel was one based
+		final boolean levelSetDoneFinal = levelSetDone;
+		alert.setPositiveButton("Continue", new DialogInterface.OnClickListener() {
+			@Override
+			public void onClick(DialogInterface dialog, int which) {
+				((Activity) view.getContext()).finish();
+				if (!levelSetDoneFinal) {
+					Intent intent = new Intent();
+					intent.putExtra(SokobanGameActivity.GAME_LEVEL_INTENT_EXTRA, levelDestination);
+					intent.putExtra(SokobanGameActivity.GAME_LEVEL_SET_EXTRA, game.currentLevelSet);
+					intent.setClass(view.getContext(), SokobanGameActivity.class);
+					view.getContext().startActivity(intent);
+				}
+			}
+		});
+		alert.show();
+	}
+
+	/** Called by our own activity. */
+	void redoPressed() {
+		int previousPlayer = game.getPlayerCell();
+		if (game.performRedo()) {
+			invalidateMove(previousPlayer);
+
+			if (game.isDone()) {
+				gameOver();
+			}
+		}
+	}
+
+	/**
+	 * Animate the player moving in a straight line from the given cell, which repaints the tiles it passes over, and
+	 * repaint everything if the view scrolled.
+	 */
+	private void invalidateMove(int previousPlayer) {
+		animator.moved(previousPlayer);
+		if (centerScreenOnPlayerIfNecessary())
+			host.boardChanged();
+	}
+
+	void performMove(int dx, int dy) {
+		int previousPlayer = game.getPlayerCell();
+		if (game.tryMove(dx, dy)) {
+			invalidateMove(previousPlayer);
+
+			if (game.isDone()) {
+				gameOver();
+			}
+		}
+	}
+
+	/** Called by our own activity. */
+	void restart() {
+		game.restart();
+		animator.reset();
+		if (!metrics.levelFitsOnScreen)
+			centerScreenOnPlayer();
+		host.boardChanged();
+	}
+
+}
@@ -0,0 +1,141 @@
+package com.mobilepearls.sokoban;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Rect;
+
+/**
+ * Draws a {@link SokobanBoardSnapshot}. A renderer keeps scratch state while drawing, so each thread drawing the board
+ * needs its own.
+ */
+final class SokobanBoardRenderer {
+
+	/** Larger boards are drawn tile by tile instead of keeping a board layer of this size around. */
+	private static final int BOARD_LAYER_MAX_BYTES = 6 << 20;
+
+	/**
+	 * Render the tiles which never change during a level into a new bitmap, or return null if it would be too large.
+	 */
+	static Bitmap renderBoardLayer(SokobanLevel level, Bitmap atlas, int tileSize) {
+		if ((long) level.getCellCount() * tileSize * tileSize * 2 > BOARD_LAYER_MAX_BYTES)
+			return null;
+
+		// the tiles are opaque, so 16 bits per pixel are enough
+		Bitmap result = Bitmap.createBitmap(level.getWidth() * tileSize, level.getHeight() * tileSize,
+				Bitmap.Config.RGB_565);
+		result.setDensity(Bitmap.DENSITY_NONE);
+		Canvas canvas = new Canvas(result);
+		Rect source = new Rect();
+		Rect target = new Rect();
+		for (int cell = 0; cell < level.getCellCount(); cell++) {
+			SokobanTileAtlas.source(staticTile(level, cell), tileSize, source);
+			target.set(source);
+			target.offsetTo(tileSize * level.x(cell), tileSize * level.y(cell));
+			canvas.drawBitmap(atlas, source, target, null);
+		}
+		return result;
+	}
+
+	private static int staticTile(SokobanLevel level, int cell) {
+		if (level.isWall(cell))
+			return SokobanTileAtlas.TILE_WALL;
+		if (!level.isFloor(cell))
+			return SokobanTileAtlas.TILE_OUTSIDE;
+		return level.isGoal(cell) ? SokobanTileAtlas.TILE_TARGET : SokobanTileAtlas.TILE_FLOOR;
+	}
+
+	/** Return the tile column or row of a pixel relative to the board, rounding down for pixels left of or above it. */
+	private static int tileAt(int pixel, int tileSize) {
+		return pixel >= 0 ? pixel / tileSize : (pixel + 1) / tileSize - 1;
+	}
+
+	private final Rect clipBounds = new Rect();
+	private final Rect layerSource = new Rect();
+	private final Rect layerTarget = new Rect();
+	private final Rect tileSource = new Rect();
+	private final Rect tileTarget = new Rect();
+	/** Range of tiles intersecting the clip bounds during {@link #draw}, right and bottom exclusive. */
+	private int visibleBottom;
+	private int visibleLeft;
+	private int visibleRight;
+	private int visibleTop;
+
+	void draw(Canvas canvas, SokobanBoardSnapshot snapshot) {
+		canvas.drawColor(Color.BLACK);
+		canvas.setDensity(Bitmap.DENSITY_NONE);
+
+		// only the tiles intersecting the clip bounds are drawn, which matters when zoomed in on large levels
+		SokobanLevel level = snapshot.level;
+		int tileSize = snapshot.tileSize;
+		canvas.getClipBounds(clipBounds);
+		visibleLeft = Math.max(0, tileAt(clipBounds.left - snapshot.offsetX, tileSize));
+		visibleTop = Math.max(0, tileAt(clipBounds.top - snapshot.offsetY, tileSize));
+		visibleRight = Math.min(level.getWidth(), tileAt(clipBounds.right - 1 - snapshot.offsetX, tileSize) + 1);
+		visibleBottom = Math.min(level.getHeight(), tileAt(clipBounds.bottom - 1 - snapshot.offsetY, tileSize) + 1);
+		if (visibleLeft >= visibleRight || visibleTop >= visibleBottom)
+			return;
+
+		if (snapshot.boardLayer != null) {
+			layerSource.set(visibleLeft * tileSize, visibleTop * tileSize, visibleRight * tileSize, visibleBottom
+					* tileSize);
+			layerTarget.set(layerSource);
+			layerTarget.offset(snapshot.offsetX, snapshot.offsetY);
+			canvas.drawBitmap(snapshot.boardLayer, layerSource, layerTarget, null);
+		} else {
+			for (int y = visibleTop; y < visibleBottom; y++)
+				for (int x = visibleLeft; x < visibleRight; x++)
+					drawTile(canvas, snapshot, staticTile(level, level.index(x, y)), level.index(x, y));
+		}
+
+		long[] boxes = snapshot.boxes;
+		for (int i = 0; i < boxes.length; i++) {
+			for (long word = boxes[i]; word != 0; word &= word - 1) {
+				int cell = (i << 6) + Long.numberOfTrailingZeros(word);
+				if (cell != snapshot.movingBoxFrom)
+					drawTile(canvas, snapshot, level.isGoal(cell) ? SokobanTileAtlas.TILE_DIAMOND_ON_TARGET
+							: SokobanTileAtlas.TILE_DIAMOND_ON_FLOOR, cell);
+			}
+		}
+		if (snapshot.movingBoxFrom >= 0) {
+			int box = snapshot.progress < 0.5f ? snapshot.movingBoxFrom : snapshot.movingBoxTo;
+			drawMovingTile(canvas, snapshot, level.isGoal(box) ? SokobanTileAtlas.TILE_DIAMOND_ON_TARGET
+					: SokobanTileAtlas.TILE_DIAMOND_ON_FLOOR, snapshot.movingBoxFrom, snapshot.movingBoxTo);
+		}
+		int player = snapshot.progress < 0.5f ? snapshot.player : snapshot.playerTo;
+		drawMovingTile(canvas, snapshot, level.isGoal(player) ? SokobanTileAtlas.TILE_MAN_ON_TARGET
+				: SokobanTileAtlas.TILE_MAN_ON_FLOOR, snapshot.player, snapshot.playerTo);
+	}
+
+	/** Draw a tile {@link SokobanBoardSnapshot#progress} of the way between two cells, unless it is clipped. */
+	private void drawMovingTile(Canvas canvas, SokobanBoardSnapshot snapshot, int tile, int from, int to) {
+		SokobanLevel level = snapshot.level;
+		int tileSize = snapshot.tileSize;
+		int left = snapshot.offsetX + tileSize * level.x(from)
+				+ Math.round(tileSize * (level.x(to) - level.x(from)) * snapshot.progress);
+		int top = snapshot.offsetY + tileSize * level.y(from)
+				+ Math.round(tileSize * (level.y(to) - level.y(from)) * snapshot.progress);
+		if (left >= clipBounds.right || top >= clipBounds.bottom || left + tileSize <= clipBounds.left
+				|| top + tileSize <= clipBounds.top)
+			return;
+		SokobanTileAtlas.source(tile, tileSize, tileSource);
+		tileTarget.set(left, top, left + tileSize, top + tileSize);
+		canvas.drawBitmap(snapshot.atlas, tileSource, tileTarget, null);
+	}
+
+	/** Draw a tile if it is within the visible tiles computed by {@link #draw}. */
+	private void drawTile(Canvas canvas, SokobanBoardSnapshot snapshot, int tile, int cell) {
+		SokobanLevel level = snapshot.level;
+		int x = level.x(cell);
+		int y = level.y(cell);
+		if (x < visibleLeft || x >= visibleRight || y < visibleTop || y >= visibleBottom)
+			return;
+		int tileSize = snapshot.tileSize;
+		int left = snapshot.offsetX + tileSize * x;
+		int top = snapshot.offsetY + tileSize * y;
+		SokobanTileAtlas.source(tile, tileSize, tileSource);
+		tileTarget.set(left, top, left + tileSize, top + tileSize);
+		canvas.drawBitmap(snapshot.atlas, tileSource, tileTarget, null);
+	}
+
+}
@@ -0,0 +1,30 @@
+package com.mobilepearls.sokoban;
+
+import android.graphics.Bitmap;
+
+/**
+ * Everything needed to draw the board at one point in time, filled by {@link SokobanBoardController#fill} and drawn by
+ * {@link SokobanBoardRenderer}. A snapshot handed to another thread is not modified until that thread hands it back,
+ * so it can be drawn without locking.
+ */
+final class SokobanBoardSnapshot {
+
+	Bitmap atlas;
+	/** The static tiles of the level, or null if they are drawn one by one. */
+	Bitmap boardLayer;
+	/** A copy of the diamonds as drawn, see {@link SokobanBoardAnimator}. */
+	long[] boxes;
+	SokobanLevel level;
+	/** The cell of the diamond moving to {@link #movingBoxTo}, which is still set in {@link #boxes}, or -1. */
+	int movingBoxFrom;
+	int movingBoxTo;
+	int offsetX;
+	int offsetY;
+	/** The cell of the player, who is moving to {@link #playerTo} unless it is the same. */
+	int player;
+	int playerTo;
+	/** How far the player and the moving diamond have come, from 0 to 1. */
+	float progress;
+	int tileSize;
+
+}
@@ -28,9 +28,11 @@ public class SokobanGameActivity extends Activity {
 	public static final String IMAGE_SIZE_PREFS_KEY = "image_size";
 	/** If the help should be shown (when max level is one). */
 	public static final String SHOW_HELP_INTENT_EXTRA = "SHOW_HELP";
-	public SokobanGameState gameState;
+	/** Key under which it is stored whether to draw the board on a render thread, see {@link SokobanSurfaceGameView} */
+	public static final String SURFACE_VIEW_PREFS_KEY = "surface_view";
 
-	SokobanGameView view;
+	SokobanBoardController board;
+	public SokobanGameState gameState;
 
 	@Override
 	public void onCreate(Bundle savedInstanceState) {
@@ -51,7 +53,8 @@ public class SokobanGameActivity extends Activity {
 			}
 			gameState = new SokobanGameState(level, levelSet);
 		}
-		setContentView(R.layout.main);
+		SharedPreferences prefs = getSharedPreferences(SokobanPrefs.SHARED_PREFS_NAME, MODE_PRIVATE);
+		setContentView(prefs.getBoolean(SURFACE_VIEW_PREFS_KEY, false) ? R.layout.main_surface : R.layout.main);
 
 		Display display = getWindowManager().getDefaultDisplay();
 		Point size = new Point();
@@ -59,16 +62,15 @@ public class SokobanGameActivity extends Activity {
 		int defaultImageSize = Math.min(size.x, size.y) / 11; // 11 = tile size of first level
 		if (defaultImageSize % 2 != 0)
 			defaultImageSize--;
-		IMAGE_SIZE = getSharedPreferences(SokobanPrefs.SHARED_PREFS_NAME, MODE_PRIVATE).getInt(IMAGE_SIZE_PREFS_KEY,
-				defaultImageSize);
+		IMAGE_SIZE = prefs.getInt(IMAGE_SIZE_PREFS_KEY, defaultImageSize);
 
-		view = (SokobanGameView) findViewById(R.id.android_memoryview);
+		board = ((SokobanBoardController.Host) findViewById(R.id.android_memoryview)).getController();
 
 		View undoButton = findViewById(R.id.game_undobutton);
 		undoButton.setOnClickListener(new OnClickListener() {
 			@Override
 			public void onClick(View v) {
-				view.backPressed();
+				board.backPressed();
 			}
 		});
 		undoButton.setOnLongClickListener(new OnLongClickListener() {
@@ -78,19 +80,41 @@ public class SokobanGameActivity extends Activity {
 				.setPositiveButton(android.R.string.ok, new DialogInterface.OnClickListener() {
 					@Override
 					public void onClick(DialogInterface dialog, int which) {
-						gameState.restart();
-						view.invalidate();
+						board.restart();
 					}
 				}).setNegativeButton(android.R.string.cancel, null).show();
 				return true;
 			}
 		});
-		findViewById(R.id.game_leavebutton).setOnClickListener(new OnClickListener() {
+		findViewById(R.id.game_redobutton).setOnClickListener(new OnClickListener() {
+			@Override
+			public void onClick(View v) {
+				board.redoPressed();
+			}
+		});
+		View leaveButton = findViewById(R.id.game_leavebutton);
+		leaveButton.setOnClickListener(new OnClickListener() {
 			@Override
 			public void onClick(View v) {
 				finish();
 			}
 		});
+		leaveButton.setOnLongClickListener(new OnLongClickListener() {
+			@Override
+			public boolean onLongClick(View v) {
+				final boolean surfaceView = getSharedPreferences(SokobanPrefs.SHARED_PREFS_NAME, MODE_PRIVATE)
+						.getBoolean(SURFACE_VIEW_PREFS_KEY, false);
+				new AlertDialog.Builder(SokobanGameActivity.this)
+				.setMessage(surfaceView ? R.string.game_render_ui_thread : R.string.game_render_thread)
+				.setPositiveButton(android.R.string.ok, new DialogInterface.OnClickListener() {
+					@Override
+					public void onClick(DialogInterface dialog, int which) {
+						setSurfaceView(!surfaceView);
+					}
+				}).setNegativeButton(android.R.string.cancel, null).show();
+				return true;
+			}
+		});
 	}
 
 	/** Overridden to handle back button - see {@link SokobanGameActivity#onBackPressed() } */
@@ -147,14 +171,22 @@ public class SokobanGameActivity extends Activity {
 		Editor editor = prefs.edit();
 		editor.putInt(IMAGE_SIZE_PREFS_KEY, newSize);
 		editor.commit();
-		view.customSizeChanged();
-		view.invalidate();
+		board.customSizeChanged();
+	}
+
+	/** Store whether to draw the board on a render thread and recreate the activity with the chosen board view. */
+	private void setSurfaceView(boolean surfaceView) {
+		Editor editor = getSharedPreferences(SokobanPrefs.SHARED_PREFS_NAME, MODE_PRIVATE).edit();
+		editor.putBoolean(SURFACE_VIEW_PREFS_KEY, surfaceView);
+		editor.commit();
+		// the game state is kept through onSaveInstanceState()
+		recreate();
 	}
 
 	public void showHelp() {
 		AlertDialog.Builder builder = new AlertDialog.Builder(this);
 		builder.setMessage(
-				"Push all red diamonds on the green targets to complete a level. Complete levels to unlock new ones.\n\nZoom in and out using the volume control.\n\nUndo moves with the back button.");
+				"Push all red diamonds on the green targets to complete a level. Complete levels to unlock new ones.\n\nZoom in and out using the volume control.\n\nUndo moves with the back button.\n\nLong press Leave to switch how the board is drawn.");
 		builder.setPositiveButton("Ok", null);
 		builder.create().show();
 	}
@@ -1,69 +1,55 @@
 package com.mobilepearls.sokoban;
 
 import java.io.Serializable;
-import java.util.LinkedList;
 
+/**
+ * The state of a level being played. Walls, floor and goals are shared with the {@link SokobanLevel}, while the
+ * diamonds are kept as a bitset over the flattened cell index and the player as a single cell index, so that moves and
+ * the goal check are a few bit operations.
+ */
 @SuppressWarnings("serial")
 public class SokobanGameState implements Serializable {
 
-	static class Undo implements Serializable {
-
-		public char c1;
-		public char c2;
-		public char c3;
-
-		public byte x1;
-		public byte x2;
-		public byte x3;
-
-		public byte y1;
-		public byte y2;
-		public byte y3;
-	}
-
 	public static final char CHAR_DIAMOND_ON_FLOOR = '$';
 	public static final char CHAR_DIAMOND_ON_TARGET = '*';
 	public static final char CHAR_FLOOR = ' ';
 	public static final char CHAR_MAN_ON_FLOOR = '@';
 	public static final char CHAR_MAN_ON_TARGET = '+';
+	public static final char CHAR_OUTSIDE = '\'';
 	public static final char CHAR_TARGET = '.';
 	public static final char CHAR_WALL = '#';
 
-	private static char newCharWhenDiamondPushed(char current) {
-		return (current == CHAR_FLOOR) ? CHAR_DIAMOND_ON_FLOOR : CHAR_DIAMOND_ON_TARGET;
-	}
-
-	private static char newCharWhenManEnters(char current) {
-		switch (current) {
-		case CHAR_FLOOR:
-		case CHAR_DIAMOND_ON_FLOOR:
-			return CHAR_MAN_ON_FLOOR;
-		case CHAR_TARGET:
-		case CHAR_DIAMOND_ON_TARGET:
-			return CHAR_MAN_ON_TARGET;
-		}
-		throw new RuntimeException("Invalid current char: '" + current + "'");
-	}
+	/** Steps of the four directions a move is recorded with in the {@link SokobanMoveHistory}. */
+	private static final int[] DIRECTION_DX = { 1, -1, 0, 0 };
+	private static final int[] DIRECTION_DY = { 0, 0, 1, -1 };
 
-	private static char originalCharWhenManLeaves(char current) {
-		return (current == CHAR_MAN_ON_FLOOR) ? CHAR_FLOOR : CHAR_TARGET;
-	}
-
-	private static char[][] stringArrayToCharMatrix(String[] s) {
-		char[][] result = new char[s[0].length()][s.length];
-		for (int x = 0; x < s[0].length(); x++) {
-			for (int y = 0; y < s.length; y++) {
-				result[x][y] = s[y].charAt(x);
-			}
-		}
-		return result;
+	private static int direction(int dx, int dy) {
+		if (dx != 0)
+			return dx > 0 ? 0 : 1;
+		return dy > 0 ? 2 : 3;
 	}
 
+	/** Zobrist hash of the diamonds, see {@link SokobanZobrist}. */
+	private long boxHash;
+	/** Cells holding a diamond. */
+	private long[] boxes;
+	/** Number of diamonds not on a target, kept up to date by every move so that {@link #isDone()} is O(1). */
+	private int boxesOffGoal;
 	private int currentLevel;
 	final int currentLevelSet;
-	private char[][] map;
-	private transient final int[] playerPosition = new int[2];
-	final LinkedList<Undo> undos = new LinkedList<Undo>();
+	/** The {@link SokobanMoveHistory#moveNumber()} at which the position became unsolvable, or -1 if no deadlock has been detected. */
+	private int deadlockedAt = -1;
+	private transient SokobanDeadlockDetector deadlockDetector;
+	private SokobanLevel level;
+	/** The cell the player stands on. */
+	private int player;
+	/** The lowest cell the player can walk to, valid if {@link #playerRegionKnown}. */
+	private transient int normalizedPlayer;
+	/** Only pushes change the player region, so it is recomputed lazily the first time it is needed after a push. */
+	private transient boolean playerRegionKnown;
+	private transient int[] playerPosition;
+	private transient SokobanReachability reachability;
+	private final SokobanMoveHistory history = new SokobanMoveHistory(SokobanMoveHistory.UNLIMITED);
 
 	public SokobanGameState(int level, int levelSet) {
 		currentLevel = level;
@@ -71,62 +57,203 @@ public class SokobanGameState implements Serializable {
 		loadLevel(currentLevel, levelSet);
 	}
 
+	/** Create a state for a level not part of the bundled level sets, e.g. for solvers and replay tools. */
+	public SokobanGameState(SokobanLevel level) {
+		currentLevel = -1;
+		currentLevelSet = -1;
+		this.level = level;
+		restart();
+	}
+
+	public boolean canRedo() {
+		return history.canRedo();
+	}
+
+	public boolean canUndo() {
+		return history.canUndo();
+	}
+
+	private void applyMove(int move) {
+		int from = SokobanMoveHistory.decodeFrom(move);
+		int step = moveStep(move);
+		if (SokobanMoveHistory.decodePushed(move)) {
+			moveBox(from + step, from + 2 * step);
+			checkDeadlock(from + 2 * step);
+		}
+		player = from + step;
+	}
+
+	/** Check whether the push that has just been recorded moved a diamond into a deadlock. */
+	private void checkDeadlock(int pushedBox) {
+		if (deadlockedAt >= 0)
+			return;
+		if (deadlockDetector == null)
+			deadlockDetector = new SokobanDeadlockDetector(level);
+		if (SokobanBits.get(level.deadSquares, pushedBox) || deadlockDetector.isFreezeDeadlock(boxes, pushedBox))
+			deadlockedAt = history.moveNumber();
+	}
+
+	/** Return the cells currently holding a diamond. The returned array must not be modified. */
+	public long[] getBoxes() {
+		return boxes;
+	}
+
 	public int getCurrentLevel() {
 		return currentLevel;
 	}
 
 	public int getHeightInTiles() {
-		return map[0].length;
+		return level.height;
 	}
 
 	public char getItemAt(int x, int y) {
-		return map[x][y];
+		int cell = level.index(x, y);
+		if (!SokobanBits.get(level.floor, cell))
+			return SokobanBits.get(level.walls, cell) ? CHAR_WALL : CHAR_OUTSIDE;
+		boolean goal = SokobanBits.get(level.goals, cell);
+		if (cell == player)
+			return goal ? CHAR_MAN_ON_TARGET : CHAR_MAN_ON_FLOOR;
+		if (SokobanBits.get(boxes, cell))
+			return goal ? CHAR_DIAMOND_ON_TARGET : CHAR_DIAMOND_ON_FLOOR;
+		return goal ? CHAR_TARGET : CHAR_FLOOR;
 	}
 
-	public int[] getPlayerPosition() {
-		for (int x = 0; x < map.length; x++) {
-			for (int y = 0; y < map[0].length; y++) {
-				char c = map[x][y];
-				if (CHAR_MAN_ON_FLOOR == c || CHAR_MAN_ON_TARGET == c) {
-					playerPosition[0] = x;
-					playerPosition[1] = y;
-				}
-			}
+	public SokobanLevel getLevel() {
+		return level;
+	}
+
+	/**
+	 * Return a 64-bit Zobrist hash of the position: the diamonds plus the region the player can walk to. The diamond part
+	 * is updated incrementally by every push, and the region is flood filled at most once per push.
+	 */
+	public long getHash() {
+		if (!playerRegionKnown) {
+			if (reachability == null)
+				reachability = new SokobanReachability(level);
+			normalizedPlayer = reachability.fill(level.floor, boxes, player);
+			playerRegionKnown = true;
 		}
+		return boxHash ^ SokobanZobrist.playerKey(normalizedPlayer);
+	}
+
+	/** Return the number of moves recorded, including undone moves that can be redone. */
+	public int getHistorySize() {
+		return history.size();
+	}
+
+	/** Return the number of moves currently applied, i.e. the position of the cursor in the move history. */
+	public int getMoveCount() {
+		return history.cursor();
+	}
+
+	/** Return the cell index of the player, see {@link SokobanLevel#index(int, int)}. */
+	public int getPlayerCell() {
+		return player;
+	}
+
+	public int[] getPlayerPosition() {
+		if (playerPosition == null)
+			playerPosition = new int[2];
+		playerPosition[0] = level.x(player);
+		playerPosition[1] = level.y(player);
 		return playerPosition;
 	}
 
 	public int getWidthInTiles() {
-		return map.length;
+		return level.width;
+	}
+
+	/**
+	 * Return whether the level can no longer be solved because a diamond has been pushed onto a dead square or frozen off
+	 * target. Cleared again when the deadlocking push is undone.
+	 */
+	public boolean isDeadlocked() {
+		return deadlockedAt >= 0;
+	}
+
+	/** Return whether a diamond on the given tile can never reach a target, e.g. a corner without a target. */
+	public boolean isDeadSquare(int x, int y) {
+		return level.isDeadSquare(level.index(x, y));
 	}
 
 	public boolean isDone() {
-		for (int x = 0; x < map.length; x++)
-			for (int y = 0; y < map[0].length; y++)
-				if (map[x][y] == CHAR_DIAMOND_ON_FLOOR)
-					return false;
-		return true;
+		return boxesOffGoal == 0;
+	}
+
+	/**
+	 * Undo or redo moves until the given number of moves from the history is applied. The recorded moves are applied
+	 * directly without checking them again, so this is much cheaper than replaying them with {@link #tryMove(int, int)}.
+	 */
+	public void jumpToMove(int moveIndex) {
+		if (moveIndex < 0 || moveIndex > history.size())
+			throw new IllegalArgumentException("Move index " + moveIndex + " outside history of size " + history.size());
+		while (history.cursor() > moveIndex)
+			revertMove(history.undo());
+		while (history.cursor() < moveIndex)
+			applyMove(history.redo());
 	}
 
 	private void loadLevel(int level, int levelSet) {
 		this.currentLevel = level;
-		map = stringArrayToCharMatrix(SokobanLevels.levelMaps.get(levelSet)[level]);
+		this.level = SokobanLevels.getLevel(levelSet, level);
+		restart();
+	}
+
+	private int moveStep(int move) {
+		int direction = SokobanMoveHistory.decodeDirection(move);
+		return level.step(DIRECTION_DX[direction], DIRECTION_DY[direction]);
+	}
+
+	private void moveBox(int from, int to) {
+		SokobanBits.clear(boxes, from);
+		SokobanBits.set(boxes, to);
+		boxHash ^= SokobanZobrist.boxKey(from) ^ SokobanZobrist.boxKey(to);
+		playerRegionKnown = false;
+		if (SokobanBits.get(level.goals, from))
+			boxesOffGoal++;
+		if (SokobanBits.get(level.goals, to))
+			boxesOffGoal--;
+	}
+
+	public boolean performRedo() {
+		if (!history.canRedo())
+			return false;
+		applyMove(history.redo());
+		return true;
 	}
 
 	public boolean performUndo() {
-		if (undos.isEmpty())
+		if (!history.canUndo())
 			return false;
-		Undo undo = undos.removeLast();
-		map[undo.x1][undo.y1] = undo.c1;
-		map[undo.x2][undo.y2] = undo.c2;
-		if (undo.c3 != 0)
-			map[undo.x3][undo.y3] = undo.c3;
+		revertMove(history.undo());
 		return true;
 	}
 
 	public void restart() {
-		loadLevel(currentLevel, currentLevelSet);
-		undos.clear();
+		boxes = level.getBoxes();
+		boxesOffGoal = SokobanBits.countAndNot(boxes, level.goals);
+		boxHash = SokobanZobrist.hashBoxes(boxes);
+		playerRegionKnown = false;
+		player = level.player;
+		history.clear();
+		deadlockedAt = -1;
+	}
+
+	private void revertMove(int move) {
+		int from = SokobanMoveHistory.decodeFrom(move);
+		if (SokobanMoveHistory.decodePushed(move)) {
+			int step = moveStep(move);
+			int box = from + 2 * step;
+			moveBox(box, box - step);
+		}
+		player = from;
+		if (history.moveNumber() < deadlockedAt)
+			deadlockedAt = -1;
+	}
+
+	/** Limit the number of moves kept in the history, or pass 0 to keep the whole history (the default). */
+	public void setUndoLimit(int maxMoves) {
+		history.setLimit(maxMoves);
 	}
 
 	/** Return whether something was changed. */
@@ -139,88 +266,35 @@ public class SokobanGameState implements Serializable {
 		}
 
 		int steps = Math.max(Math.abs(dx), Math.abs(dy));
-		int stepX = (dx == 0) ? 0 : (int) Math.signum(dx);
-		int stepY = (dy == 0) ? 0 : (int) Math.signum(dy);
+		int direction = direction(dx, dy);
+		int step = level.step(DIRECTION_DX[direction], DIRECTION_DY[direction]);
+		long[] floor = level.floor;
 
 		boolean somethingChanged = false;
 
-		int playerX = -1;
-		int playerY = -1;
-		// find player position
-		for (int x = 0; x < map.length; x++) {
-			for (int y = 0; y < map[0].length; y++) {
-				char c = map[x][y];
-				if (CHAR_MAN_ON_FLOOR == c || CHAR_MAN_ON_TARGET == c) {
-					playerX = x;
-					playerY = y;
-				}
-			}
-		}
-
 		for (int i = 0; i < steps; i++) {
-			int newX = playerX + stepX;
-			int newY = playerY + stepY;
-
-			boolean ok = false;
-			boolean pushed = false;
-
-			switch (map[newX][newY]) {
-			case CHAR_FLOOR:
-				// move to empty space
-			case CHAR_TARGET:
-				// move to empty target
-				ok = true;
+			int target = player + step;
+			if (!SokobanBits.get(floor, target))
 				break;
-			case CHAR_DIAMOND_ON_FLOOR:
-				// pushing away diamond on floor
-			case CHAR_DIAMOND_ON_TARGET:
-				// pushing away diamond on target
-				char pushTo = map[newX + stepX][newY + stepY];
-				ok = (pushTo == CHAR_FLOOR || pushTo == CHAR_TARGET);
+
+			boolean pushed = SokobanBits.get(boxes, target);
+			if (pushed) {
+				int pushTo = target + step;
 				// ok if pushing to empty space
-				if (ok) {
-					pushed = true;
-				}
-				break;
+				if (!SokobanBits.get(floor, pushTo) || SokobanBits.get(boxes, pushTo))
+					break;
+				moveBox(target, pushTo);
 			}
 
-			if (ok) {
-				Undo undo;
-				if (undos.size() > 2000) {
-					// size of undo: 9 bytes + object overhead = 25?
-					// reuse and clear undo object
-					undo = undos.removeFirst();
-					undo.c3 = 0;
-				} else {
-					undo = new Undo();
-				}
-				undos.add(undo);
-				somethingChanged = true;
-
-				if (pushed) {
-					byte pushedX = (byte) (newX + stepX);
-					byte pushedY = (byte) (newY + stepY);
-					undo.x3 = pushedX;
-					undo.y3 = pushedY;
-					undo.c3 = map[pushedX][pushedY];
-					map[pushedX][pushedY] = newCharWhenDiamondPushed(map[pushedX][pushedY]);
-				}
-
-				undo.x1 = (byte) playerX;
-				undo.y1 = (byte) playerY;
-				undo.c1 = map[playerX][playerY];
-				map[playerX][playerY] = originalCharWhenManLeaves(map[playerX][playerY]);
-				undo.x2 = (byte) newX;
-				undo.y2 = (byte) newY;
-				undo.c2 = map[newX][newY];
-				map[newX][newY] = newCharWhenManEnters(map[newX][newY]);
-
-				playerX = newX;
-				playerY = newY;
-				if (isDone()) {
-					// if moving multiple steps at once, stop if an intermediate step may finish the game:
-					return true;
-				}
+			history.push(SokobanMoveHistory.encode(player, direction, pushed));
+			somethingChanged = true;
+			if (pushed)
+				checkDeadlock(target + step);
+
+			player = target;
+			if (boxesOffGoal == 0) {
+				// if moving multiple steps at once, stop if an intermediate step may finish the game:
+				return true;
 			}
 		}
 		return somethingChanged;
@@ -0,0 +1,190 @@
+package com.mobilepearls.sokoban;
+
+import java.io.Serializable;
+
+/**
+ * A parsed level. Cells are flattened row by row into a single index (see {@link #index(int, int)}) and the walls,
+ * floor, goals and starting diamonds are kept as bitsets over that index (see {@link SokobanBits}).
+ */
+@SuppressWarnings("serial")
+public final class SokobanLevel implements Serializable {
+
+	public static SokobanLevel parse(String[] rows) {
+		int width = rows[0].length();
+		int height = rows.length;
+		int cells = width * height;
+		long[] boxes = SokobanBits.create(cells);
+		long[] floor = SokobanBits.create(cells);
+		long[] goals = SokobanBits.create(cells);
+		long[] walls = SokobanBits.create(cells);
+
+		int playerCell = -1;
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				int cell = y * width + x;
+				char c = rows[y].charAt(x);
+				switch (c) {
+				case SokobanGameState.CHAR_OUTSIDE:
+					break;
+				case SokobanGameState.CHAR_WALL:
+					SokobanBits.set(walls, cell);
+					break;
+				case SokobanGameState.CHAR_MAN_ON_TARGET:
+					SokobanBits.set(goals, cell);
+					// fall through
+				case SokobanGameState.CHAR_MAN_ON_FLOOR:
+					playerCell = cell;
+					SokobanBits.set(floor, cell);
+					break;
+				case SokobanGameState.CHAR_DIAMOND_ON_TARGET:
+					SokobanBits.set(goals, cell);
+					// fall through
+				case SokobanGameState.CHAR_DIAMOND_ON_FLOOR:
+					SokobanBits.set(boxes, cell);
+					SokobanBits.set(floor, cell);
+					break;
+				case SokobanGameState.CHAR_TARGET:
+					SokobanBits.set(goals, cell);
+					// fall through
+				case SokobanGameState.CHAR_FLOOR:
+					SokobanBits.set(floor, cell);
+					break;
+				default:
+					throw new IllegalArgumentException(String.format("Invalid character at (%d,%d): %c", x, y, c));
+				}
+			}
+		}
+		return new SokobanLevel(width, height, walls, floor, goals, boxes, playerCell);
+	}
+
+	final long[] boxes;
+	/** Floor cells from which a diamond can never be pushed to any target. */
+	final long[] deadSquares;
+	/** Cells a player or diamond may stand on: everything but walls and the outside. */
+	final long[] floor;
+	final long[] goals;
+	final int height;
+	final int player;
+	final long[] walls;
+	final int width;
+
+	/** Create a level from bitsets over {@link #index(int, int)}, which are taken over and must not be modified. */
+	SokobanLevel(int width, int height, long[] walls, long[] floor, long[] goals, long[] boxes, int player) {
+		if (player < 0)
+			throw new IllegalArgumentException("Level has no player");
+		this.width = width;
+		this.height = height;
+		this.walls = walls;
+		this.floor = floor;
+		this.goals = goals;
+		this.boxes = boxes;
+		this.player = player;
+		deadSquares = computeDeadSquares();
+	}
+
+	/**
+	 * Pull diamonds backwards from every target: a diamond on a cell can be pulled one step if both the destination and
+	 * the cell beyond it, where the pulling player ends up, are floor. Floor never reached this way is dead.
+	 */
+	private long[] computeDeadSquares() {
+		int cells = getCellCount();
+		long[] live = goals.clone();
+		int[] queue = new int[cells];
+		int tail = 0;
+		for (int cell = 0; cell < cells; cell++)
+			if (SokobanBits.get(goals, cell))
+				queue[tail++] = cell;
+
+		int[] steps = { 1, -1, width, -width };
+		for (int head = 0; head < tail; head++) {
+			int cell = queue[head];
+			for (int step : steps) {
+				int to = cell + step;
+				// floor never touches the border of a validated level, but other levels must not fail here
+				if (to + step < 0 || to + step >= cells || to < 0 || to >= cells)
+					continue;
+				if (SokobanBits.get(floor, to) && SokobanBits.get(floor, to + step) && !SokobanBits.get(live, to)) {
+					SokobanBits.set(live, to);
+					queue[tail++] = to;
+				}
+			}
+		}
+
+		long[] result = floor.clone();
+		for (int i = 0; i < result.length; i++)
+			result[i] &= ~live[i];
+		return result;
+	}
+
+	/** Return a copy of the cells holding a diamond at the start of the level. */
+	public long[] getBoxes() {
+		return boxes.clone();
+	}
+
+	public int getCellCount() {
+		return width * height;
+	}
+
+	/** Return a copy of the floor cells a diamond can never be pushed from onto a target. */
+	public long[] getDeadSquares() {
+		return deadSquares.clone();
+	}
+
+	public long[] getFloor() {
+		return floor.clone();
+	}
+
+	public long[] getGoals() {
+		return goals.clone();
+	}
+
+	public int getHeight() {
+		return height;
+	}
+
+	public int getPlayer() {
+		return player;
+	}
+
+	public long[] getWalls() {
+		return walls.clone();
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int index(int x, int y) {
+		return y * width + x;
+	}
+
+	public boolean isDeadSquare(int cell) {
+		return SokobanBits.get(deadSquares, cell);
+	}
+
+	public boolean isFloor(int cell) {
+		return SokobanBits.get(floor, cell);
+	}
+
+	public boolean isGoal(int cell) {
+		return SokobanBits.get(goals, cell);
+	}
+
+	public boolean isWall(int cell) {
+		return SokobanBits.get(walls, cell);
+	}
+
+	/** Return the index offset of a single step in the given direction. */
+	public int step(int dx, int dy) {
+		return dy * width + dx;
+	}
+
+	public int x(int cell) {
+		return cell % width;
+	}
+
+	public int y(int cell) {
+		return cell / width;
+	}
+
+}
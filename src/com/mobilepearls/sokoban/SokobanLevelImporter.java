@@ -0,0 +1,223 @@
+package com.mobilepearls.sokoban;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Streaming reader of level collections in the common XSB, SOK and plain text formats. Levels are read one at a time
+ * with {@link #next()}, so only the level being read is held in memory however large the collection is:
+ *
+ * <ul>
+ * <li>a level is a block of consecutive board lines, which may be run length encoded and use {@code -}, {@code _},
+ * {@code p}, {@code P}, {@code b} and {@code B} as in XSB;</li>
+ * <li>its title is a {@code Title:} line after the board, or else the last plain line or {@code ;} comment before
+ * it, or a {@code ;} comment directly after it;</li>
+ * <li>a {@code Solution} line starts its solution, in LURD notation on the same line or the lines below;</li>
+ * <li>{@code Comment:} to {@code Comment-End:} blocks, other {@code Key: value} lines and other comments are
+ * skipped.</li>
+ * </ul>
+ *
+ * The main method imports a collection into a level pack, skipping levels rejected by {@link SokobanLevelValidator}:
+ *
+ * <pre>
+ * SokobanLevelImporter &lt;collection.xsb&gt; &lt;output.pack&gt;
+ * </pre>
+ */
+public final class SokobanLevelImporter {
+
+	private static final Pattern METADATA = Pattern.compile("[A-Za-z][A-Za-z _-]*:");
+
+	private static boolean isBoardLine(String line) {
+		boolean wall = false;
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (!SokobanLevelNormalizer.isBoardCharacter(c))
+				return false;
+			wall |= c == SokobanGameState.CHAR_WALL;
+		}
+		return wall;
+	}
+
+	private static boolean isSolutionLine(String line) {
+		for (int i = 0; i < line.length(); i++)
+			if ("lurdLURD0123456789() \t".indexOf(line.charAt(i)) < 0)
+				return false;
+		return true;
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2) {
+			System.err.println("Usage: SokobanLevelImporter <collection.xsb> <output.pack>");
+			System.exit(1);
+		}
+		InputStream in = new FileInputStream(args[0]);
+		try {
+			SokobanLevelPackWriter writer = new SokobanLevelPackWriter(new File(args[1]));
+			try {
+				SokobanLevelImporter importer = new SokobanLevelImporter(in);
+				while (importer.next()) {
+					try {
+						SokobanLevel level = SokobanLevel.parse(SokobanLevelValidator.validate(importer.getRows()));
+						writer.add(level, importer.getTitle(), importer.getSolution());
+					} catch (IllegalArgumentException e) {
+						System.err.println("Skipping level " + importer.getLevelNumber() + " (" + importer.getTitle()
+								+ "): " + e.getMessage());
+					}
+				}
+			} finally {
+				writer.close();
+			}
+			System.out.println("Imported " + writer.getLevelCount() + " levels into " + args[1]);
+		} finally {
+			in.close();
+		}
+	}
+
+	private static String trimTrailing(String line) {
+		int end = line.length();
+		while (end > 0 && Character.isWhitespace(line.charAt(end - 1)))
+			end--;
+		return line.substring(0, end);
+	}
+
+	/** Whether the previous line was the last line of the board. */
+	private boolean afterBoard;
+	private boolean inComment;
+	private boolean inSolution;
+	private int levelNumber;
+	/** The first line of the next board, read while looking for the end of the current level. */
+	private String nextBoardLine;
+	/** The title candidate seen before the next board. */
+	private String nextTitle;
+	private String[] normalizedRows;
+	private final BufferedReader reader;
+	private final List<String> rows = new ArrayList<String>();
+	private final StringBuilder solution = new StringBuilder();
+	private String title;
+
+	public SokobanLevelImporter(InputStream in) throws IOException {
+		reader = new BufferedReader(new InputStreamReader(in, "UTF-8"));
+	}
+
+	/** Return the number of the current level in the collection, starting at 1. */
+	public int getLevelNumber() {
+		return levelNumber;
+	}
+
+	/** Return the normalized rows of the current level, see {@link SokobanLevelNormalizer}. */
+	public String[] getRows() {
+		if (normalizedRows == null)
+			normalizedRows = SokobanLevelNormalizer.normalize(rows);
+		return normalizedRows;
+	}
+
+	/** Return the first solution of the current level, or an empty string if it has none. */
+	public String getSolution() {
+		return solution.toString();
+	}
+
+	/** Return the title of the current level, or an empty string if it has none. */
+	public String getTitle() {
+		return title == null ? "" : title;
+	}
+
+	/** Advance to the next level and return true, or return false at the end of the collection. */
+	public boolean next() throws IOException {
+		rows.clear();
+		normalizedRows = null;
+		solution.setLength(0);
+		title = null;
+
+		String line = nextBoardLine;
+		nextBoardLine = null;
+		while (line == null) {
+			String read = readLine();
+			if (read == null)
+				return false;
+			if (!inComment && isBoardLine(read))
+				line = read;
+			else
+				readMetadata(read);
+		}
+		title = nextTitle;
+		nextTitle = null;
+		levelNumber++;
+
+		while (line != null && isBoardLine(line)) {
+			rows.add(line);
+			line = readLine();
+		}
+		afterBoard = true;
+		inSolution = false;
+		for (; line != null; line = readLine()) {
+			if (!inComment && isBoardLine(line)) {
+				nextBoardLine = line;
+				break;
+			}
+			readMetadata(line);
+		}
+		return true;
+	}
+
+	private void appendSolution(String text) {
+		String expanded = SokobanLevelNormalizer.expandRunLengths(text);
+		for (int i = 0; i < expanded.length(); i++)
+			if (!Character.isWhitespace(expanded.charAt(i)))
+				solution.append(expanded.charAt(i));
+	}
+
+	private String readLine() throws IOException {
+		String line = reader.readLine();
+		return line == null ? null : trimTrailing(line);
+	}
+
+	/** Read a line which is not part of a board: metadata of the current level or the title of the next one. */
+	private void readMetadata(String line) {
+		String lower = line.trim().toLowerCase(Locale.US);
+		if (inComment) {
+			inComment = !lower.startsWith("comment-end:") && !lower.startsWith("comment_end:");
+			return;
+		}
+		if (inSolution && line.length() > 0 && isSolutionLine(line)) {
+			appendSolution(line);
+			return;
+		}
+		inSolution = false;
+		boolean directlyAfterBoard = afterBoard;
+		afterBoard = false;
+
+		if (lower.equals("comment:")) {
+			inComment = true;
+		} else if (levelNumber == 0) {
+			readTitleCandidate(line);
+		} else if (lower.startsWith("title:")) {
+			title = line.substring(line.indexOf(':') + 1).trim();
+		} else if (lower.startsWith("solution")) {
+			// keep the first solution only
+			inSolution = solution.length() == 0;
+			int colon = line.indexOf(':');
+			if (inSolution && colon >= 0 && isSolutionLine(line.substring(colon + 1)))
+				appendSolution(line.substring(colon + 1));
+		} else if (directlyAfterBoard && title == null && line.startsWith(";")) {
+			title = line.substring(1).trim();
+		} else {
+			readTitleCandidate(line);
+		}
+	}
+
+	/** Remember a plain line or comment as the title of the next level, unless it is {@code Key: value} metadata. */
+	private void readTitleCandidate(String line) {
+		String text = line.startsWith(";") ? line.substring(1).trim() : line.trim();
+		if (text.length() > 0 && !METADATA.matcher(text).lookingAt())
+			nextTitle = text;
+	}
+
+}
@@ -47,7 +47,7 @@ public class SokobanLevelMenuActivity extends Activity {
 		SharedPreferences prefs = getSharedPreferences(SHARED_PREFS_NAME, MODE_PRIVATE);
 		final String maxLevelNamePref = getMaxLevelPrefName(levelSetIndex);
 		final int maxLevel = Math.min(prefs.getInt(maxLevelNamePref, 1),
-				SokobanLevels.levelMaps.get(levelSetIndex).length);
+				SokobanLevels.getLevelCount(levelSetIndex));
 
 		if (maxLevel == 1) {
 			Intent intent = new Intent();
@@ -103,8 +103,8 @@ public class SokobanLevelMenuActivity extends Activity {
 
 		SharedPreferences prefs = getSharedPreferences(SHARED_PREFS_NAME, MODE_PRIVATE);
 		final String maxLevelNamePref = getMaxLevelPrefName(levelSetIndex);
-		final int maxLevel = Math.min(prefs.getInt(maxLevelNamePref, 1), SokobanLevels.levelMaps.get(levelSetIndex).length);
-		int availableLevels = SokobanLevels.levelMaps.get(levelSetIndex).length;
+		final int maxLevel = Math.min(prefs.getInt(maxLevelNamePref, 1), SokobanLevels.getLevelCount(levelSetIndex));
+		int availableLevels = SokobanLevels.getLevelCount(levelSetIndex);
 		button.setText(buttonText + " - " + maxLevel + "/" + availableLevels);
 	}
 
@@ -0,0 +1,168 @@
+package com.mobilepearls.sokoban;
+
+import java.util.List;
+
+/**
+ * Brings level rows from outside sources into the form of the bundled levels: run lengths expanded, the XSB
+ * alternatives for floor, player and diamonds replaced by the characters of {@link SokobanGameState}, surrounding blank
+ * rows and columns trimmed, rows padded to a rectangle and the blank cells outside the walls marked with
+ * {@link SokobanGameState#CHAR_OUTSIDE}.
+ */
+public final class SokobanLevelNormalizer {
+
+	/** Expand run lengths such as {@code 3#} or {@code 2(lu)}, and split rows joined by {@code |}. */
+	public static String expandRunLengths(String encoded) {
+		StringBuilder result = new StringBuilder(encoded.length());
+		expandRunLengths(encoded, 0, result);
+		return result.toString().replace('|', '\n');
+	}
+
+	/** Expand up to the closing parenthesis of a group or the end, and return the position after it. */
+	private static int expandRunLengths(String encoded, int start, StringBuilder result) {
+		int count = 0;
+		int i = start;
+		while (i < encoded.length()) {
+			char c = encoded.charAt(i++);
+			if (c >= '0' && c <= '9') {
+				count = count * 10 + c - '0';
+			} else if (c == ')') {
+				return i;
+			} else {
+				int groupStart = result.length();
+				if (c == '(')
+					i = expandRunLengths(encoded, i, result);
+				else
+					result.append(c);
+				String group = result.substring(groupStart);
+				for (int n = 1; n < count; n++)
+					result.append(group);
+				count = 0;
+			}
+		}
+		return i;
+	}
+
+	/** Return whether a character may appear in a level row, possibly run length encoded. */
+	static boolean isBoardCharacter(char c) {
+		switch (c) {
+		case SokobanGameState.CHAR_WALL:
+		case SokobanGameState.CHAR_MAN_ON_FLOOR:
+		case SokobanGameState.CHAR_MAN_ON_TARGET:
+		case SokobanGameState.CHAR_DIAMOND_ON_FLOOR:
+		case SokobanGameState.CHAR_DIAMOND_ON_TARGET:
+		case SokobanGameState.CHAR_TARGET:
+		case SokobanGameState.CHAR_FLOOR:
+		case SokobanGameState.CHAR_OUTSIDE:
+		case '-':
+		case '_':
+		case 'p':
+		case 'P':
+		case 'b':
+		case 'B':
+		case '|':
+			return true;
+		default:
+			return c >= '0' && c <= '9';
+		}
+	}
+
+	/** Return the rows of a level in normalized form, see the class comment. */
+	public static String[] normalize(List<String> encodedRows) {
+		StringBuilder text = new StringBuilder();
+		for (String row : encodedRows)
+			text.append(expandRunLengths(row)).append('\n');
+		String[] rows = text.toString().split("\n");
+
+		int first = 0;
+		int last = rows.length - 1;
+		int indent = Integer.MAX_VALUE;
+		int width = 0;
+		for (int y = 0; y < rows.length; y++) {
+			StringBuilder row = new StringBuilder(rows[y].length());
+			for (int x = 0; x < rows[y].length(); x++)
+				row.append(toLevelCharacter(rows[y].charAt(x)));
+			int end = row.length();
+			while (end > 0 && row.charAt(end - 1) == SokobanGameState.CHAR_FLOOR)
+				end--;
+			rows[y] = row.substring(0, end);
+			if (end == 0)
+				continue;
+			int start = 0;
+			while (rows[y].charAt(start) == SokobanGameState.CHAR_FLOOR)
+				start++;
+			indent = Math.min(indent, start);
+			width = Math.max(width, end);
+		}
+		while (first <= last && rows[first].length() == 0)
+			first++;
+		while (last >= first && rows[last].length() == 0)
+			last--;
+		if (first > last)
+			throw new IllegalArgumentException("Level has no rows");
+
+		char[][] cells = new char[last - first + 1][width - indent];
+		for (int y = 0; y < cells.length; y++) {
+			String row = rows[first + y];
+			for (int x = 0; x < cells[y].length; x++)
+				cells[y][x] = indent + x < row.length() ? row.charAt(indent + x) : SokobanGameState.CHAR_FLOOR;
+		}
+		markOutside(cells);
+
+		String[] result = new String[cells.length];
+		for (int y = 0; y < cells.length; y++)
+			result[y] = new String(cells[y]);
+		return result;
+	}
+
+	/** Flood fill the blank cells connected to the border, which lie outside of the walls. */
+	static void markOutside(char[][] cells) {
+		int height = cells.length;
+		int width = cells[0].length;
+		int[] queue = new int[width * height];
+		int tail = 0;
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				boolean border = x == 0 || y == 0 || x == width - 1 || y == height - 1;
+				if (border && cells[y][x] == SokobanGameState.CHAR_FLOOR) {
+					cells[y][x] = SokobanGameState.CHAR_OUTSIDE;
+					queue[tail++] = y * width + x;
+				}
+			}
+		}
+		for (int head = 0; head < tail; head++) {
+			int x = queue[head] % width;
+			int y = queue[head] / width;
+			for (int direction = 0; direction < 4; direction++) {
+				int nx = x + (direction == 0 ? 1 : direction == 1 ? -1 : 0);
+				int ny = y + (direction == 2 ? 1 : direction == 3 ? -1 : 0);
+				if (nx >= 0 && ny >= 0 && nx < width && ny < height && cells[ny][nx] == SokobanGameState.CHAR_FLOOR) {
+					cells[ny][nx] = SokobanGameState.CHAR_OUTSIDE;
+					queue[tail++] = ny * width + nx;
+				}
+			}
+		}
+	}
+
+	private static char toLevelCharacter(char c) {
+		switch (c) {
+		case '-':
+		case '_':
+			return SokobanGameState.CHAR_FLOOR;
+		case 'p':
+			return SokobanGameState.CHAR_MAN_ON_FLOOR;
+		case 'P':
+			return SokobanGameState.CHAR_MAN_ON_TARGET;
+		case 'b':
+			return SokobanGameState.CHAR_DIAMOND_ON_FLOOR;
+		case 'B':
+			return SokobanGameState.CHAR_DIAMOND_ON_TARGET;
+		default:
+			return c;
+		}
+	}
+
+	private SokobanLevelNormalizer() {
+		// static helpers only
+	}
+
+}
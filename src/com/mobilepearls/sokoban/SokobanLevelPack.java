@@ -0,0 +1,181 @@
+package com.mobilepearls.sokoban;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Reader of a binary level pack, written by {@link SokobanLevelPackWriter}. All numbers are big endian:
+ *
+ * <pre>
+ * header:  int magic 'SKPK', int version, int level count, int offset of the offset table
+ * levels:  short width, short height, the cells at 3 bits each packed from the most significant bit of every byte,
+ *          short title length and UTF-8 title, int solution length and LURD solution
+ * table:   int offset of every level, followed by the offset of the table itself
+ * </pre>
+ *
+ * Only the header and the offset table are read when opening a pack, and {@link #getLevel(int)} reads nothing but the
+ * bytes of the requested level, decoding them straight into the bitsets of a {@link SokobanLevel}. For collections
+ * too large to keep the offset table on the heap use {@link SokobanMappedLevelPack}.
+ */
+public final class SokobanLevelPack implements SokobanLevelSource {
+
+	static final int CELL_BOX = 4;
+	static final int CELL_BOX_ON_GOAL = 5;
+	static final int CELL_FLOOR = 2;
+	static final int CELL_GOAL = 3;
+	static final int CELL_OUTSIDE = 0;
+	static final int CELL_PLAYER = 6;
+	static final int CELL_PLAYER_ON_GOAL = 7;
+	static final int CELL_WALL = 1;
+	static final int HEADER_SIZE = 16;
+	static final int MAGIC = 0x534B504B;
+	static final Charset UTF_8 = Charset.forName("UTF-8");
+	static final int VERSION = 1;
+
+	/** Return the number of bytes the packed cells of a level take. */
+	static int cellBytes(int width, int height) {
+		return (width * height * 3 + 7) >>> 3;
+	}
+
+	/** Return the 3 bit code of a cell of a level. */
+	static int cellCode(SokobanLevel level, int cell) {
+		if (!SokobanBits.get(level.floor, cell))
+			return SokobanBits.get(level.walls, cell) ? CELL_WALL : CELL_OUTSIDE;
+		int goal = SokobanBits.get(level.goals, cell) ? 1 : 0;
+		if (cell == level.player)
+			return CELL_PLAYER + goal;
+		if (SokobanBits.get(level.boxes, cell))
+			return CELL_BOX + goal;
+		return CELL_FLOOR + goal;
+	}
+
+	/**
+	 * Decode the level at the position of the buffer, which is advanced past the cells. Nothing but the bytes of the
+	 * level is touched, so the buffer may be a view of a much larger pack.
+	 */
+	static SokobanLevel decode(ByteBuffer buffer) {
+		int width = buffer.getShort() & 0xFFFF;
+		int height = buffer.getShort() & 0xFFFF;
+		int cells = width * height;
+		long[] boxes = SokobanBits.create(cells);
+		long[] floor = SokobanBits.create(cells);
+		long[] goals = SokobanBits.create(cells);
+		long[] walls = SokobanBits.create(cells);
+		int player = -1;
+
+		int bits = 0;
+		int available = 0;
+		for (int cell = 0; cell < cells; cell++) {
+			if (available < 3) {
+				bits = (bits << 8) | (buffer.get() & 0xFF);
+				available += 8;
+			}
+			available -= 3;
+			int code = (bits >>> available) & 7;
+			if (code == CELL_WALL) {
+				SokobanBits.set(walls, cell);
+			} else if (code != CELL_OUTSIDE) {
+				SokobanBits.set(floor, cell);
+				if ((code & 1) != 0)
+					SokobanBits.set(goals, cell);
+				if (code >= CELL_PLAYER) {
+					if (player >= 0)
+						throw new IllegalArgumentException("Level has more than one player");
+					player = cell;
+				} else if (code >= CELL_BOX) {
+					SokobanBits.set(boxes, cell);
+				}
+			}
+		}
+		return new SokobanLevel(width, height, walls, floor, goals, boxes, player);
+	}
+
+	/** Read the solution of the level at the position of the buffer. */
+	static String readSolution(ByteBuffer record) {
+		skipToTitle(record);
+		int titleLength = record.getShort() & 0xFFFF;
+		record.position(record.position() + titleLength);
+		byte[] solution = new byte[record.getInt()];
+		record.get(solution);
+		return new String(solution, UTF_8);
+	}
+
+	/** Read the title of the level at the position of the buffer. */
+	static String readTitle(ByteBuffer record) {
+		skipToTitle(record);
+		byte[] title = new byte[record.getShort() & 0xFFFF];
+		record.get(title);
+		return new String(title, UTF_8);
+	}
+
+	private static void skipToTitle(ByteBuffer record) {
+		int width = record.getShort() & 0xFFFF;
+		int height = record.getShort() & 0xFFFF;
+		record.position(record.position() + cellBytes(width, height));
+	}
+
+	private final RandomAccessFile file;
+	private final int levelCount;
+	/** Offsets of the levels, plus the end of the last level. */
+	private final int[] offsets;
+
+	public SokobanLevelPack(File packFile) throws IOException {
+		file = new RandomAccessFile(packFile, "r");
+		try {
+			if (file.readInt() != MAGIC)
+				throw new IOException("Not a level pack: " + packFile);
+			int version = file.readInt();
+			if (version != VERSION)
+				throw new IOException("Unsupported level pack version " + version + ": " + packFile);
+			levelCount = file.readInt();
+			int tableOffset = file.readInt();
+			byte[] table = new byte[(levelCount + 1) * 4];
+			file.seek(tableOffset);
+			file.readFully(table);
+			offsets = new int[levelCount + 1];
+			ByteBuffer.wrap(table).asIntBuffer().get(offsets);
+		} catch (IOException e) {
+			file.close();
+			throw e;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		file.close();
+	}
+
+	@Override
+	public SokobanLevel getLevel(int index) throws IOException {
+		return decode(read(index));
+	}
+
+	@Override
+	public int getLevelCount() {
+		return levelCount;
+	}
+
+	@Override
+	public String getSolution(int index) throws IOException {
+		return readSolution(read(index));
+	}
+
+	@Override
+	public String getTitle(int index) throws IOException {
+		return readTitle(read(index));
+	}
+
+	/** Read the bytes of a single level. */
+	private synchronized ByteBuffer read(int index) throws IOException {
+		if (index < 0 || index >= levelCount)
+			throw new IllegalArgumentException("No level " + index + " in a pack of " + levelCount);
+		byte[] record = new byte[offsets[index + 1] - offsets[index]];
+		file.seek(offsets[index]);
+		file.readFully(record);
+		return ByteBuffer.wrap(record);
+	}
+
+}
@@ -0,0 +1,122 @@
+package com.mobilepearls.sokoban;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+/**
+ * Writes levels one at a time to a binary level pack, see {@link SokobanLevelPack} for the format. Only the offsets
+ * of the levels are kept in memory, and the offset table is appended and the header completed on {@link #close()}.
+ * The main method converts the bundled {@link SokobanLevels} to one pack per level set:
+ *
+ * <pre>
+ * SokobanLevelPackWriter &lt;output directory&gt;
+ * </pre>
+ */
+public final class SokobanLevelPackWriter implements Closeable {
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 1) {
+			System.err.println("Usage: SokobanLevelPackWriter <output directory>");
+			System.exit(1);
+		}
+		File directory = new File(args[0]);
+		if (!directory.isDirectory() && !directory.mkdirs())
+			throw new IOException("Could not create " + directory);
+		for (int set = 0; set < SokobanLevels.getLevelSetCount(); set++) {
+			String name = SokobanLevels.getLevelSetName(set);
+			File file = new File(directory, name.toLowerCase().replaceAll("[^a-z0-9]+", "_").replaceAll("^_|_$", "")
+					+ ".pack");
+			SokobanLevelPackWriter writer = new SokobanLevelPackWriter(file);
+			try {
+				for (int level = 0; level < SokobanLevels.getLevelCount(set); level++)
+					writer.add(SokobanLevels.getLevel(set, level), name + " " + (level + 1), "");
+			} finally {
+				writer.close();
+			}
+			System.out.println(file + ": " + SokobanLevels.getLevelCount(set) + " levels, " + file.length() + " bytes");
+		}
+	}
+
+	private final File file;
+	private int levelCount;
+	private int[] offsets = new int[64];
+	private final DataOutputStream out;
+
+	public SokobanLevelPackWriter(File file) throws IOException {
+		this.file = file;
+		out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+		out.writeInt(SokobanLevelPack.MAGIC);
+		out.writeInt(SokobanLevelPack.VERSION);
+		// level count and table offset, completed on close
+		out.writeInt(0);
+		out.writeInt(0);
+	}
+
+	/** Append a level with an optional title and LURD solution, which may be empty but not null. */
+	public void add(SokobanLevel level, String title, String solution) throws IOException {
+		if (level.width > 0xFFFF || level.height > 0xFFFF)
+			throw new IllegalArgumentException("Level too large: " + level.width + "x" + level.height);
+		byte[] titleBytes = title.getBytes(SokobanLevelPack.UTF_8);
+		if (titleBytes.length > 0xFFFF)
+			throw new IllegalArgumentException("Title too long: " + title.substring(0, 40) + "...");
+		if (levelCount + 1 >= offsets.length) {
+			int[] grown = new int[offsets.length * 2];
+			System.arraycopy(offsets, 0, grown, 0, levelCount);
+			offsets = grown;
+		}
+		offsets[levelCount++] = out.size();
+
+		out.writeShort(level.width);
+		out.writeShort(level.height);
+		int bits = 0;
+		int pending = 0;
+		for (int cell = 0; cell < level.getCellCount(); cell++) {
+			bits = (bits << 3) | SokobanLevelPack.cellCode(level, cell);
+			pending += 3;
+			if (pending >= 8) {
+				pending -= 8;
+				out.write(bits >>> pending);
+				bits &= (1 << pending) - 1;
+			}
+		}
+		if (pending > 0)
+			out.write(bits << (8 - pending));
+
+		out.writeShort(titleBytes.length);
+		out.write(titleBytes);
+		byte[] solutionBytes = solution.getBytes(SokobanLevelPack.UTF_8);
+		out.writeInt(solutionBytes.length);
+		out.write(solutionBytes);
+		if (out.size() == Integer.MAX_VALUE)
+			throw new IOException("Level pack larger than 2 GiB: " + file);
+	}
+
+	/** Write the offset table and complete the header. */
+	@Override
+	public void close() throws IOException {
+		int tableOffset = out.size();
+		offsets[levelCount] = tableOffset;
+		for (int i = 0; i <= levelCount; i++)
+			out.writeInt(offsets[i]);
+		out.close();
+
+		RandomAccessFile header = new RandomAccessFile(file, "rw");
+		try {
+			header.seek(8);
+			header.writeInt(levelCount);
+			header.writeInt(tableOffset);
+		} finally {
+			header.close();
+		}
+	}
+
+	public int getLevelCount() {
+		return levelCount;
+	}
+
+}
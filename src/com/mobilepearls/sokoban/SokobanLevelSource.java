@@ -0,0 +1,19 @@
+package com.mobilepearls.sokoban;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/** A collection of levels read one at a time, e.g. a {@link SokobanLevelPack} or a {@link SokobanMappedLevelPack}. */
+public interface SokobanLevelSource extends Closeable {
+
+	SokobanLevel getLevel(int index) throws IOException;
+
+	int getLevelCount();
+
+	/** Return the solution stored with a level in LURD notation, or an empty string if it has none. */
+	String getSolution(int index) throws IOException;
+
+	/** Return the title of a level, or an empty string if it has none. */
+	String getTitle(int index) throws IOException;
+
+}
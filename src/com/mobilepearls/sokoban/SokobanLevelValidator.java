@@ -0,0 +1,133 @@
+package com.mobilepearls.sokoban;
+
+/**
+ * Checks that level rows are well formed before they are parsed: rows padded to a rectangle, known characters only,
+ * exactly one player, as many diamonds as targets and walls closed around everything that is not outside of them.
+ * Blank cells outside the walls are marked with {@link SokobanGameState#CHAR_OUTSIDE}. Levels are checked once when
+ * they are imported or first loaded, and the game itself only ever sees checked levels, see
+ * {@link SokobanLevels#getLevel(int, int)}.
+ */
+public final class SokobanLevelValidator {
+
+	/**
+	 * Return the rows with the blank cells outside the walls marked as outside if they form a valid level, or throw an
+	 * IllegalArgumentException describing the first problem.
+	 */
+	public static String[] validate(String[] rows) {
+		if (rows.length == 0 || rows[0].length() == 0)
+			throw new IllegalArgumentException("Level is empty");
+		int width = rows[0].length();
+		int height = rows.length;
+		int players = 0;
+		int playerX = 0;
+		int playerY = 0;
+		int boxes = 0;
+		int goals = 0;
+		for (int y = 0; y < height; y++) {
+			if (rows[y].length() != width)
+				throw new IllegalArgumentException(String.format("Row %d has length %d instead of %d", y, rows[y].length(),
+						width));
+			for (int x = 0; x < width; x++) {
+				char c = rows[y].charAt(x);
+				switch (c) {
+				case SokobanGameState.CHAR_MAN_ON_TARGET:
+					goals++;
+					// fall through
+				case SokobanGameState.CHAR_MAN_ON_FLOOR:
+					players++;
+					playerX = x;
+					playerY = y;
+					break;
+				case SokobanGameState.CHAR_DIAMOND_ON_TARGET:
+					goals++;
+					// fall through
+				case SokobanGameState.CHAR_DIAMOND_ON_FLOOR:
+					boxes++;
+					break;
+				case SokobanGameState.CHAR_TARGET:
+					goals++;
+					break;
+				case SokobanGameState.CHAR_FLOOR:
+				case SokobanGameState.CHAR_OUTSIDE:
+				case SokobanGameState.CHAR_WALL:
+					break;
+				default:
+					throw new IllegalArgumentException(String.format("Invalid character at (%d,%d): %c", x, y, c));
+				}
+			}
+		}
+		if (players != 1)
+			throw new IllegalArgumentException("Level has " + players + " players instead of one");
+		if (boxes == 0 || boxes != goals)
+			throw new IllegalArgumentException("Level has " + boxes + " diamonds and " + goals + " targets");
+
+		checkClosed(rows, playerX, playerY);
+
+		char[][] cells = new char[height][];
+		for (int y = 0; y < height; y++)
+			cells[y] = rows[y].toCharArray();
+		SokobanLevelNormalizer.markOutside(cells);
+		checkEnclosed(cells);
+		String[] result = new String[height];
+		for (int y = 0; y < height; y++)
+			result[y] = new String(cells[y]);
+		return result;
+	}
+
+	/** Flood fill from the player and fail on reaching the border or the outside, i.e. on a gap in the walls. */
+	private static void checkClosed(String[] rows, int playerX, int playerY) {
+		int width = rows[0].length();
+		int height = rows.length;
+		boolean[] reached = new boolean[width * height];
+		int[] queue = new int[width * height];
+		int tail = 0;
+		queue[tail++] = playerY * width + playerX;
+		reached[queue[0]] = true;
+		for (int head = 0; head < tail; head++) {
+			int x = queue[head] % width;
+			int y = queue[head] / width;
+			if (x == 0 || y == 0 || x == width - 1 || y == height - 1
+					|| rows[y].charAt(x) == SokobanGameState.CHAR_OUTSIDE)
+				throw new IllegalArgumentException(String.format("Walls are not closed at (%d,%d)", x, y));
+			for (int direction = 0; direction < 4; direction++) {
+				int nx = x + (direction == 0 ? 1 : direction == 1 ? -1 : 0);
+				int ny = y + (direction == 2 ? 1 : direction == 3 ? -1 : 0);
+				int cell = ny * width + nx;
+				if (!reached[cell] && rows[ny].charAt(nx) != SokobanGameState.CHAR_WALL) {
+					reached[cell] = true;
+					queue[tail++] = cell;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Fail on a cell which is not a wall or outside but lies on the border, or next to the outside, e.g. in a region the
+	 * player cannot reach. Diamonds on targets may touch the outside, as some levels are decorated with them and they
+	 * can never be moved there.
+	 */
+	private static void checkEnclosed(char[][] cells) {
+		int width = cells[0].length;
+		int height = cells.length;
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				char c = cells[y][x];
+				if (c == SokobanGameState.CHAR_WALL || c == SokobanGameState.CHAR_OUTSIDE)
+					continue;
+				if (x == 0 || y == 0 || x == width - 1 || y == height - 1)
+					throw new IllegalArgumentException(String.format("Walls are not closed at (%d,%d)", x, y));
+				if (c != SokobanGameState.CHAR_DIAMOND_ON_TARGET
+						&& (cells[y][x - 1] == SokobanGameState.CHAR_OUTSIDE
+								|| cells[y][x + 1] == SokobanGameState.CHAR_OUTSIDE
+								|| cells[y - 1][x] == SokobanGameState.CHAR_OUTSIDE
+								|| cells[y + 1][x] == SokobanGameState.CHAR_OUTSIDE))
+					throw new IllegalArgumentException(String.format("Walls are not closed at (%d,%d)", x, y));
+			}
+		}
+	}
+
+	private SokobanLevelValidator() {
+		// static helpers only
+	}
+
+}
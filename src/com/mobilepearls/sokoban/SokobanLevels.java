@@ -1,9110 +1,164 @@
 package com.mobilepearls.sokoban;
 
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-public class SokobanLevels {
-	public static final List<String[][]> levelMaps = new ArrayList<String[][]>();
-	static {
+import java.util.Map;
 
-		// level: Original
-		levelMaps.add(new String[][] {
-				{
-					"'''###'''''"
-					,
-					"''## #'####"
-					,
-					"'##  ###  #"
-					,
-					"## $      #"
-					,
-					"#   @$ #  #"
-					,
-					"### $###  #"
-					,
-					"''#  #..  #"
-					,
-					"'## ##.# ##"
-					,
-					"'#      ##'"
-					,
-					"'#     ##''"
-					,
-					"'#######'''"
-				}
-				,
-				{
-					"'##'#####"
-					,
-					"##'## . #"
-					,
-					"#'## $. #"
-					,
-					"'## $   #"
-					,
-					"## $@ ###"
-					,
-					"# $  ##''"
-					,
-					"#.. ##'##"
-					,
-					"#   #'##'"
-					,
-					"#####'#''"
-				}
-				,
-				{
-					"'''''''''''#####"
-					,
-					"''''''''''##   #"
-					,
-					"''''''''''#    #"
-					,
-					"''''####''# $ ##"
-					,
-					"''''#  ####$ $#'"
-					,
-					"''''#     $ $ #'"
-					,
-					"'''## ## $ $ $#'"
-					,
-					"'''#  .#  $ $ #'"
-					,
-					"'''#  .#      #'"
-					,
-					"##### #########'"
-					,
-					"#.... @  #''''''"
-					,
-					"#....    #''''''"
-					,
-					"##  ######''''''"
-					,
-					"'####'''''''''''"
-				}
-				,
-				{
-					"''###########"
-					,
-					"'##     #  @#"
-					,
-					"### $ $$#   #"
-					,
-					"#'##$    $$ #"
-					,
-					"#''#  $ #   #"
-					,
-					"###### ######"
-					,
-					"#.. ..$ #*##'"
-					,
-					"# ..    ###''"
-					,
-					"#  ..#####'''"
-					,
-					"#########''''"
-				}
-				,
-				{
-					"''###########''"
-					,
-					"'##    #    ##'"
-					,
-					"### $ $#$ $ ###"
-					,
-					"# #$ $ # $ $# #"
-					,
-					"# $  ..#..  $ #"
-					,
-					"#  $...#...$  #"
-					,
-					"# $ .. * .. $ #"
-					,
-					"###### @ ######"
-					,
-					"# $ ..   .. $ #"
-					,
-					"#  $...#...$  #"
-					,
-					"# $  ..#..  $ #"
-					,
-					"# #$ $ # $ $# #"
-					,
-					"### $ $#$ $ ###"
-					,
-					"'##    #    ##'"
-					,
-					"''###########''"
-				}
-				,
-				{
-					"''###########''"
-					,
-					"###.  .$.  .###"
-					,
-					"'## $  $  $ ##'"
-					,
-					"''## ..$.. ##''"
-					,
-					"'''##$#$#$##'''"
-					,
-					"''''#.$ $.#''''"
-					,
-					"''''#  @  #''''"
-					,
-					"''''### ###''''"
-					,
-					"'''## $ $ ##'''"
-					,
-					"'''#.  $  .#'''"
-					,
-					"'''### . ###'''"
-					,
-					"'''''#####'''''"
-				}
-				,
-				{
-					"'''''''''''######''"
-					,
-					"''''####''##    #''"
-					,
-					"''###  #''#  ## ###"
-					,
-					"###    #### #   $ #"
-					,
-					"#  $ @ ...*..  $  #"
-					,
-					"# $ $  ## ###   ###"
-					,
-					"### ###   #'#####''"
-					,
-					"'#      ###''''''''"
-					,
-					"'#   ####''''''''''"
-					,
-					"'#####'''''''''''''"
-				}
-				,
-				{
-					"''''#######''"
-					,
-					"''''#     ##'"
-					,
-					"##### ###  ##"
-					,
-					"#       #  ##"
-					,
-					"#@$***. ##$ #"
-					,
-					"#  #    ## .#"
-					,
-					"##  ##  # $ #"
-					,
-					"'##  ####.$.#"
-					,
-					"''##        #"
-					,
-					"'''######  ##"
-					,
-					"''''''''####'"
-				}
-				,
-				{
-					"#########"
-					,
-					"#. .    #"
-					,
-					"#.$. .  #"
-					,
-					"## ###@ #"
-					,
-					"'#  $  ##"
-					,
-					"'# $$ ##'"
-					,
-					"'#  $ #''"
-					,
-					"'#  ###''"
-					,
-					"'####''''"
-				}
-				,
-				{
-					"''''''######''''''"
-					,
-					"''''''#    #''''''"
-					,
-					"''''''# @  ###''''"
-					,
-					"####''#      #''''"
-					,
-					"#  ####..#.#$#####"
-					,
-					"# $ $ ##...      #"
-					,
-					"#     .....#$$   #"
-					,
-					"###### ##$## #####"
-					,
-					"'''''#  $    #''''"
-					,
-					"'''''#### ####''''"
-					,
-					"'''''''#  #'''''''"
-					,
-					"'''''''#  #####'''"
-					,
-					"'''''### $    #'''"
-					,
-					"'''''#  $ $   #'''"
-					,
-					"'''''# #$# ####'''"
-					,
-					"'''''#     #''''''"
-					,
-					"'''''#######''''''"
-				}
-				,
-				{
-					"''####'''''"
-					,
-					"###  ####''"
-					,
-					"#   @   ##'"
-					,
-					"# #. .#.###"
-					,
-					"# $$$ $$$ #"
-					,
-					"###.#.#.# #"
-					,
-					"'##       #"
-					,
-					"''####  ###"
-					,
-					"'''''####''"
-				}
-				,
-				{
-					"''''''''''''''#####''''''''"
-					,
-					"''''''''''''''#   #''''''''"
-					,
-					"''''#####'''''#   #######''"
-					,
-					"''''#   #####'#   ..... #''"
-					,
-					"##### # ##  #'#     # # #''"
-					,
-					"# $ $ $ $ $ #'##   ## $ #''"
-					,
-					"# # ##......#### ### $$ ###"
-					,
-					"#      ## * #    #'#  $$  #"
-					,
-					"##########+$$   ##'#      #"
-					,
-					"'''''''''#.$ $# #''########"
-					,
-					"'''''''''#.##   #''''''''''"
-					,
-					"'''''''''########''''''''''"
-				}
-				,
-				{
-					"'''#######''"
-					,
-					"'###     ##'"
-					,
-					"'#   ###  #'"
-					,
-					"'#      # #'"
-					,
-					"###$#@  # #'"
-					,
-					"#   ##### #'"
-					,
-					"#   #  *. #'"
-					,
-					"##$$#  *.##'"
-					,
-					"'#     *..#'"
-					,
-					"'#### #...##"
-					,
-					"''''# #$$$ #"
-					,
-					"''''#   $  #"
-					,
-					"''''#####  #"
-					,
-					"''''''''####"
-				}
-				,
-				{
-					"'#######''"
-					,
-					"##     #'#"
-					,
-					"#  *.$.#''"
-					,
-					"#  *.#.###"
-					,
-					"# #$@$$  #"
-					,
-					"#   ## # #"
-					,
-					"######   #"
-					,
-					"'''''#####"
-				}
-				,
-				{
-					"'''####''''"
-					,
-					"'''#@ #''''"
-					,
-					"''##  ##'''"
-					,
-					"''# .$#####"
-					,
-					"''#$. #   #"
-					,
-					"###..$# # #"
-					,
-					"#  ..$  $ #"
-					,
-					"# $ $ # ###"
-					,
-					"##### # #''"
-					,
-					"''''#   #''"
-					,
-					"''''###.#''"
-					,
-					"''''''###''"
-				}
-				,
-				{
-					"''######'''''''"
-					,
-					"'##'#  ###'''''"
-					,
-					"##'#   #'##''''"
-					,
-					"#'#   $.#'#''''"
-					,
-					"##  $ $.#'#''''"
-					,
-					"# #####. ##''''"
-					,
-					"#     $. @#''''"
-					,
-					"#     $. ####''"
-					,
-					"### # #*# # ###"
-					,
-					"''#### .$     #"
-					,
-					"''''#  .$     #"
-					,
-					"''''## .##### #"
-					,
-					"''''#'#.$ $  ##"
-					,
-					"''''#'#.$   #'#"
-					,
-					"''''##'#   #'##"
-					,
-					"'''''###  #'##'"
-					,
-					"'''''''######''"
-				}
-				,
-				{
-					"''''###########''''''''"
-					,
-					"'''## . . . . ###''''''"
-					,
-					"'''#  $$ $ $ $  #''''''"
-					,
-					"'''#   ######## #'#####"
-					,
-					"'#### ##  $     #'#   #"
-					,
-					"'#    #  $ $ #  ### # #"
-					,
-					"##  # #   ####     $  #"
-					,
-					"#...  ##### $  #### ###"
-					,
-					"#... @     $     #    #"
-					,
-					"#...############ $  $ #"
-					,
-					"#####''''''''''#####  #"
-					,
-					"'''''''''''''''''''####"
-				}
-				,
-				{
-					"''''####"
-					,
-					"#####  #"
-					,
-					"#      #"
-					,
-					"#$ $ $ #"
-					,
-					"#.*.*.*#"
-					,
-					"#*.*.*.#"
-					,
-					"# $ $ $#"
-					,
-					"#......#"
-					,
-					"#.*.*.*#"
-					,
-					"#$ $ $ #"
-					,
-					"# $ $ $#"
-					,
-					"#$ $ $ #"
-					,
-					"#      #"
-					,
-					"#@ #####"
-					,
-					"####''''"
-				}
-				,
-				{
-					"#####''''''''''''''''''''"
-					,
-					"#   #######''''''''''''''"
-					,
-					"#  $      ##'''''''''''''"
-					,
-					"## ######  ##''''''''''''"
-					,
-					"'# #    # # ########'''''"
-					,
-					"'# # ##    $       ##''''"
-					,
-					"'# #.   #@###### $  ##'''"
-					,
-					"'# #.#  ###''''## $  ##''"
-					,
-					"'# #.    #''''''## $  ##'"
-					,
-					"'# #.#   #''##'''## $  ##"
-					,
-					"## #.#  ##''###'''## $  #"
-					,
-					"#  #.#   #''#*##'''##   #"
-					,
-					"#   .# # #''##*##'''#####"
-					,
-					"######   #''######'''''''"
-					,
-					"'''''#####'''''''''''''''"
-				}
-				,
-				{
-					"'''''####"
-					,
-					"'''''#  #"
-					,
-					"######$.#"
-					,
-					"#   $ $.#"
-					,
-					"# $@$...#"
-					,
-					"# $$$..##"
-					,
-					"#  $ ..#'"
-					,
-					"########'"
-				}
-				,
-				{
-					"#####'########'"
-					,
-					"#   ### . $  #'"
-					,
-					"#   $ *.. #$ ##"
-					,
-					"## $# ..* $  @#"
-					,
-					"'#  $ . ###   #"
-					,
-					"'########'#####"
-				}
-				,
-				{
-					"'''#####'####''"
-					,
-					"'''#@ .###  ###"
-					,
-					"####  $$ $    #"
-					,
-					"#   # . . ##  #"
-					,
-					"#  $ # . . ## #"
-					,
-					"## .  $ $$  # #"
-					,
-					"'# #  ###.  # #"
-					,
-					"'# #### ##### #"
-					,
-					"'#       #    #"
-					,
-					"'####### # ####"
-					,
-					"'''''''# .$ #''"
-					,
-					"'''''####   #''"
-					,
-					"'''''##'#####''"
-					,
-					"''''''###''''''"
-				}
-				,
-				{
-					"'''''#######'''''"
-					,
-					"######     ######"
-					,
-					"#  . ..$#$.. .  #"
-					,
-					"#  $ $  .  $ $  #"
-					,
-					"###$####@####$###"
-					,
-					"#  $ $  .  $ $  #"
-					,
-					"#  . ..$#$.. .  #"
-					,
-					"######     ######"
-					,
-					"'''''#######'''''"
-				}
-				,
-				{
-					"''''''''######"
-					,
-					"''''''''#   ##"
-					,
-					"''####### $  #"
-					,
-					"''# $ $ $ #$ #"
-					,
-					"''#   #. $   #"
-					,
-					"'####.#.# $###"
-					,
-					"'#   ..... #''"
-					,
-					"'#  $ ..##$#''"
-					,
-					"### ## ..  #''"
-					,
-					"#  $.#$ # $#''"
-					,
-					"#   $   #  #''"
-					,
-					"##@  #  ####''"
-					,
-					"'##  ####'''''"
-					,
-					"''####''''''''"
-				}
-				,
-				{
-					"'''''''''#####''''"
-					,
-					"'''''#####  #####'"
-					,
-					"'''''#  .#$   $ #'"
-					,
-					"'''''# #. $$$ @ ##"
-					,
-					"'''''#  .#$   $  #"
-					,
-					"'''''###.#  $ $  #"
-					,
-					"'''''''#.  ##$ ###"
-					,
-					"'#######*###.$ #''"
-					,
-					"'# $    ....####''"
-					,
-					"## #$#$$....#'''''"
-					,
-					"#  $ $   #..#'''''"
-					,
-					"#     $  #..#'''''"
-					,
-					"#  ##########'''''"
-					,
-					"#####'''''''''''''"
-				}
-				,
-				{
-					"'''''''''''####'''"
-					,
-					"'###########  #'''"
-					,
-					"'#  $ $ $ $   ##''"
-					,
-					"'#  # # # # #$##''"
-					,
-					"'##. . . . . .#'''"
-					,
-					"''#$# # # # #$####"
-					,
-					"###. . . . . .   #"
-					,
-					"###$# # # # # @  #"
-					,
-					"''#   $ $ $ $  ###"
-					,
-					"''#  ###########''"
-					,
-					"''####''''''''''''"
-				}
-				,
-				{
-					"''''''########''''''''''"
-					,
-					"'######      ##########'"
-					,
-					"## $     ###          ##"
-					,
-					"# $ $ ## #  #########  #"
-					,
-					"#  $  #              # #"
-					,
-					"# $ $ # #  ######### # #"
-					,
-					"#  $  #  # #. . . .  # #"
-					,
-					"# $ $ # #    . . . .## #"
-					,
-					"#  $  # # # . . . . #  #"
-					,
-					"##$ $## #  #### # #   ##"
-					,
-					"'#   #@ #       #  ####'"
-					,
-					"'######  #####  #  #''''"
-					,
-					"''''''##     #  #  #''''"
-					,
-					"'''''''#####  ##  ##''''"
-					,
-					"'''''''''''##    ##'''''"
-					,
-					"''''''''''''######''''''"
-				}
-				,
-				{
-					"'''''''######''''''''"
-					,
-					"'''''''#    ###''''''"
-					,
-					"'''##### $ $  #''''''"
-					,
-					"####   #.#    ##'''''"
-					,
-					"#  $ #$#.##$#####''''"
-					,
-					"# $$. .#.$      ##'''"
-					,
-					"#  $.#.#.#####  ####'"
-					,
-					"##  ....... @#     #'"
-					,
-					"'####$ #.### #$###$##"
-					,
-					"''## $  .  #  $ $ $ #"
-					,
-					"'''# $ ###          #"
-					,
-					"'''#   #'############"
-					,
-					"'''#####'''''''''''''"
-				}
-				,
-				{
-					"####''''''''''''''''''"
-					,
-					"#  #''''''''''''''####"
-					,
-					"#  ########'#######  #"
-					,
-					"#         ###  ##  $ #"
-					,
-					"##.###### ...     #. #"
-					,
-					"'#.#      # .#   # $ #"
-					,
-					"'#$$$$#$$$ #.#   ##. #"
-					,
-					"'#.# $   $ #..      ##"
-					,
-					"'#.#  $  $   # #   ##'"
-					,
-					"'#  #   $$ #   #####''"
-					,
-					"'#.  ##$  ######''''''"
-					,
-					"'#.   #  $.  #''''''''"
-					,
-					"##. @ ###.#$ #''''''''"
-					,
-					"#     #'#    #''''''''"
-					,
-					"#    ##'######''''''''"
-					,
-					"######''''''''''''''''"
-				}
-				,
-				{
-					"'''''#####''''''''''''''''"
-					,
-					"'''''#   #''''''''''''''''"
-					,
-					"'''''#   #''''''''######''"
-					,
-					"'''###  ##'#####''#    ###"
-					,
-					"'''#    #''''''''## #$$  #"
-					,
-					"''##$   ########## $  $  #"
-					,
-					"###  ## ..........$  #$$@#"
-					,
-					"#    # $$# ####### $     #"
-					,
-					"#   $  #...#'''''###  ####"
-					,
-					"#   #   $ ###'##'''####'''"
-					,
-					"########    #'''''''''''''"
-					,
-					"'''''''#    #'''''''''''''"
-					,
-					"'''''''#    #'''''''''''''"
-					,
-					"'''''''######'''''''''''''"
-				}
-				,
-				{
-					"'''#####'''''''''''''"
-					,
-					"'''#   #####'''''''''"
-					,
-					"'''# $$#   ######''''"
-					,
-					"'###.  . $ #''''#''''"
-					,
-					"'#  .##.#######'#''''"
-					,
-					"'# $.  . #    #'#''''"
-					,
-					"##.##$$$$#$$$ ######'"
-					,
-					"'#...    .    #    #'"
-					,
-					"'#..##.####.### ##@#'"
-					,
-					"'## # $ $ $ # $ $  #'"
-					,
-					"''# #       #     ###"
-					,
-					"''# #.##.#.######  #'"
-					,
-					"''#  $ # $.     $  #'"
-					,
-					"''#    ###.## ###$##'"
-					,
-					"''######'#        #''"
-					,
-					"'''''''''##########''"
-				}
-				,
-				{
-					"'''''''''''''''''''#####"
-					,
-					"'''''''''''''''''''#   #"
-					,
-					"'''''''''''######### $ #"
-					,
-					"''''######'#   #   #   #"
-					,
-					"''''#    #'# $     $ #@#"
-					,
-					"''### ## #### ### ## ###"
-					,
-					"''#   $  $     #   #   #"
-					,
-					"''#  $  $ # #$ # $$ $$ #"
-					,
-					"'######  $  #  #   #   #"
-					,
-					"##    ## ###############"
-					,
-					"#  .#   $ #''''#''''''''"
-					,
-					"#..    #  ######''''''''"
-					,
-					"#...####  #'''''''''''''"
-					,
-					"#....#'####'''''''''''''"
-					,
-					"#....#''''''''''''''''''"
-					,
-					"######''''''''''''''''''"
-				}
-				,
-				{
-					"'''#######'''''''''''''''"
-					,
-					"''##     ##''''''''''''''"
-					,
-					"''#  ###  #''''''''''''''"
-					,
-					"''# ## $  ####'''''''''''"
-					,
-					"''# # .#   $.####''''''''"
-					,
-					"''# # * *###.$  #''''''''"
-					,
-					"''# # *#   ### #####'''''"
-					,
-					"''# # @ * *  # #   #'''''"
-					,
-					"''# #  ### #*#  *  #'''''"
-					,
-					"''# ## #  * *.# # #######"
-					,
-					"''# #  #     ....$  $   #"
-					,
-					"''# # ## $# $####$      #"
-					,
-					"###*   *     #    #######"
-					,
-					"#   ########## ####''''''"
-					,
-					"#              #'''''''''"
-					,
-					"##  ############'''''''''"
-					,
-					"'####''''''''''''''''''''"
-				}
-				,
-				{
-					"''''''''''''#####'''''''''"
-					,
-					"''''''''''''# ..########''"
-					,
-					"''''''''''''# ......#  #''"
-					,
-					"''''''''''''#.. ##$$  $#''"
-					,
-					"'''''''''#####.##   $  #''"
-					,
-					"'''''''''#  ....# $  $$#''"
-					,
-					"#####'##'#  .. .#$  $  #''"
-					,
-					"#   #''''# ##.###  $$ $###"
-					,
-					"#   ###''# ## #  $  #    #"
-					,
-					"# @   #### #  # # ###$ # #"
-					,
-					"#             #  $    $  #"
-					,
-					"#   ####      ### ####$$##"
-					,
-					"#  ##''####     #       #'"
-					,
-					"#  #''''''##    ######  #'"
-					,
-					"####'''''''##     #'# $ #'"
-					,
-					"''''''''''''##    #'#   #'"
-					,
-					"'''''''''''''######'#####'"
-				}
-				,
-				{
-					"'#####''''''''''''''''''''"
-					,
-					"'#   #''''''''''''''''''''"
-					,
-					"## # #####''''''''''''''''"
-					,
-					"#    ##  #######''''''''''"
-					,
-					"# #     $      ####'''''''"
-					,
-					"#   #### $  $$ #  #'''''''"
-					,
-					"#####''# $$$ $ #$ #'''''''"
-					,
-					"'''''''# $  $ $ $ ######''"
-					,
-					"'''''###$   #$ $  $    #''"
-					,
-					"'''''# $ $$      ### @ ##'"
-					,
-					"'''''#  $ $$$$####...   #'"
-					,
-					"'''''#  $     $ #. .#...#'"
-					,
-					"'''''### $$$$   ......  #'"
-					,
-					"'''''''#      ##..#.....#'"
-					,
-					"'''''''###### ##.....####'"
-					,
-					"''''''''''''#   .....#'''#"
-					,
-					"''''''''''''##########''''"
-				}
-				,
-				{
-					"''''''''''''''''#####'''''''"
-					,
-					"''''####''''''''#   ######''"
-					,
-					"''''#  #''''''''# $    $ #''"
-					,
-					"''''#  ####'''''#  $##$  ###"
-					,
-					"''''#     #########  # $ $ #"
-					,
-					"''''#      ..........#   $ #"
-					,
-					"''###### ##....@###  # $$  #"
-					,
-					"''#    # #####.##'# ##   $ #"
-					,
-					"''#            #''#$  $$ $ #"
-					,
-					"'#### #  ##### #''#  $  #  #"
-					,
-					"'#    # #      #''###   ####"
-					,
-					"'#      #  #   #''''#####'''"
-					,
-					"'#   #     #####''''''''''''"
-					,
-					"'#####     #''''''''''''''''"
-					,
-					"'''''#######''''''''''''''''"
-				}
-				,
-				{
-					"''#####'''''''#########''''''"
-					,
-					"''#   #'''''''#       #''''''"
-					,
-					"### #$###'##### # # # #####''"
-					,
-					"# $. .  #'#    . . . .    #''"
-					,
-					"# # # #$### # # # # # # #$#''"
-					,
-					"#  . . . .  $ $ $ $  . .  #''"
-					,
-					"###$# # #$###########$# #$#''"
-					,
-					"''#  . .  ##''''''''#  .  #''"
-					,
-					"''###$# #$#######'#'#$# #$###"
-					,
-					"''''#  . .$ $ $ #'''#  . .  #"
-					,
-					"''''#$# # # # # #####$# # # #"
-					,
-					"''''#  . . . . .  $  . . .  #"
-					,
-					"''''### # # # # # # # # # # #"
-					,
-					"''''''# $ $. . .$ $ $ $ $ $ #"
-					,
-					"''''''##### # # #############"
-					,
-					"''''''''''#  @  #''''''''''''"
-					,
-					"''''''''''#######''''''''''''"
-				}
-				,
-				{
-					"''''''''''''''''''''''####"
-					,
-					"''####'''''''''########  #"
-					,
-					"###@ ##''''''''#      #  #"
-					,
-					"#     #''''''''# ### $ $ #"
-					,
-					"# ....##########   #  #..#"
-					,
-					"# . #  ## $   $ $# #  #..#"
-					,
-					"### #     $  $$$ # # $ $ #"
-					,
-					"''# ...# $  $$   # #  #  #"
-					,
-					"''#  ..# $   $ $ # # ##  #"
-					,
-					"''##...#  $ $$ $ #$# #####"
-					,
-					"'''#   ## $  $ $   # #''''"
-					,
-					"'''### ######  ### # ###''"
-					,
-					"'''# .   ##'#### .   . #''"
-					,
-					"''##   . #'''''# #.#.# #''"
-					,
-					"''#  .   #'#'#'#   #   #''"
-					,
-					"''# . ####'''''#########''"
-					,
-					"''#  ##'''''''''''''''''''"
-					,
-					"''####''''''''''''''''''''"
-				}
-				,
-				{
-					"'''####'''''''''''#####"
-					,
-					"'''#  #######''####   #"
-					,
-					"'''# @  $   ####   $  #"
-					,
-					"'''#  ###.#    #  $$  #"
-					,
-					"'###.## $ #$ #    #  ##"
-					,
-					"'#  ..# $ ...# ###  ##'"
-					,
-					"'# $ ...$##.##     ##''"
-					,
-					"'##.###$ $..   $$ ##'''"
-					,
-					"''#.  #. .### $ $ #''''"
-					,
-					"''#  $...##'## #  #''''"
-					,
-					"'## ######'''#   ##''''"
-					,
-					"##   ##''''''#####'''''"
-					,
-					"# $$  #''''''''''''''''"
-					,
-					"#   $ #''''''''''''''''"
-					,
-					"### $ #''''''''''''''''"
-					,
-					"''#  ##''''''''''''''''"
-					,
-					"''####'''''''''''''''''"
-				}
-				,
-				{
-					"'''''#######''''''''''''"
-					,
-					"####'#     #''''''''''''"
-					,
-					"#  ### $$$ #''''''''''''"
-					,
-					"#  ....$  #####'''''''''"
-					,
-					"#  ..# $  #  @#'''''''''"
-					,
-					"###$##$#### # ######''''"
-					,
-					"'#.*....$  $  ###  #####"
-					,
-					"'# ..#####  ##   $ $   #"
-					,
-					"'#....*.... #  $$  # $ #"
-					,
-					"'########## #$$ ## #   #"
-					,
-					"''''# $.###        $  ##"
-					,
-					"''''#       $###$# #  #'"
-					,
-					"''''#####   $    $ ####'"
-					,
-					"''''''''####    ####''''"
-					,
-					"'''''''''''######'''''''"
-				}
-				,
-				{
-					"'''#####''''''''''''''''"
-					,
-					"'''#'''#''''''''''''''''"
-					,
-					"'###'''########'''''''''"
-					,
-					"##''***''''#'#'#''''''''"
-					,
-					"'#''*'*''''##'#'#####'''"
-					,
-					"##''***'''##'#'##   ##''"
-					,
-					"'###'''####'#'#'#   #'''"
-					,
-					"'''#'''#'#'#'####$ $###'"
-					,
-					"''##'''##'#'##  $...$ ##"
-					,
-					"'''#####'#'##    .@.  #'"
-					,
-					"''''''''#'#'#   $...$ ##"
-					,
-					"'''''''''########$ $###'"
-					,
-					"''''''''''''''''#   #'''"
-					,
-					"''''''''''''''''#####'''"
-				}
-				,
-				{
-					"####'''''''''''''''"
-					,
-					"#  ######''''''''''"
-					,
-					"#       ####'''''''"
-					,
-					"# $ $   #  #####'''"
-					,
-					"##### ###    $ #'''"
-					,
-					"'#  #   $  #   #'''"
-					,
-					"'#      ##$######''"
-					,
-					"'# $###  # ...#'#''"
-					,
-					"'## #@#$ ##.#.#'#''"
-					,
-					"'#    #   #...#'#''"
-					,
-					"'# $ ##$ $#...#####"
-					,
-					"'### ##   #...    #"
-					,
-					"''#  #  $ $ $ # # #"
-					,
-					"''# $### ###### # #"
-					,
-					"''#             # #"
-					,
-					"''#############   #"
-					,
-					"''''''''''''''#####"
-				}
-				,
-				{
-					"'''####'''''''''''''''''''''''"
-					,
-					"''##  #############'''''''''''"
-					,
-					"'##    .......... #'''''''''''"
-					,
-					"##    #  ####$### ##''''''''''"
-					,
-					"#      # #      #  ##'''''''''"
-					,
-					"#     #  # $$$  # # #####'''''"
-					,
-					"#####  # . .# ### . . . ##''''"
-					,
-					"''''#   $. .#  # $$ $ $ @#''''"
-					,
-					"'''####### ### #   #######''''"
-					,
-					"'''# $   $   # ## ###'''''''''"
-					,
-					"'''#    $  $ #  # ##'#'####'''"
-					,
-					"'''# $### ####  # #'#'##  ####"
-					,
-					"'''#  $ $$$  # ## #''##      #"
-					,
-					"'''##        # ## #### $$$   #"
-					,
-					"''''## ####### .....     #####"
-					,
-					"''''#  $         ######  #''''"
-					,
-					"''''#   ######  ##''''####''''"
-					,
-					"''''#####''''####'''''''''''''"
-				}
-				,
-				{
-					"'#############''''''''''"
-					,
-					"##       #   ###''''''''"
-					,
-					"#  $ $$$$$     #''''''''"
-					,
-					"### $   $  ### #''''''''"
-					,
-					"''# $ $ $###'# #''''''''"
-					,
-					"''##   $ ##''# ###''''''"
-					,
-					"'''####   ####   #''''''"
-					,
-					"'''''###       # ###''''"
-					,
-					"'''####   ####     #''''"
-					,
-					"'''#@ $   ###  #.# #####"
-					,
-					"'''# $ $ ##'#  ....    #"
-					,
-					"'''# $$ ##''####.....  #"
-					,
-					"''## $  #'''''#..#.##  #"
-					,
-					"''# $ $ ##''''#......  #"
-					,
-					"''#  $ $ #''''# . ..# ##"
-					,
-					"''##  $  #''''## ##.# #'"
-					,
-					"'''#    ##'''''#      #'"
-					,
-					"'''######''''''########'"
-				}
-				,
-				{
-					"''####''''''########'''"
-					,
-					"''#  #####'##   #  #'''"
-					,
-					"''#    $ ### $  $  #'''"
-					,
-					"''#  $ # ##    $   ####"
-					,
-					"''###  #    # ###$##  #"
-					,
-					"#####  ###  ####   $  #"
-					,
-					"#   # $  $$## .. ##$  #"
-					,
-					"#  $$   # $          ##"
-					,
-					"##  # $##  #### # ####'"
-					,
-					"### #  ##$ ###..#..#'''"
-					,
-					"#   ###..  #  .....###'"
-					,
-					"#   #  *.### #  #..  #'"
-					,
-					"##$$#  *.##@ #  #    #'"
-					,
-					"'#     *. ####  ###  #'"
-					,
-					"'######   #''#       #'"
-					,
-					"''''''#####''##    ###'"
-					,
-					"''''''''''''''#  ###'''"
-					,
-					"''''''''''''''####'''''"
-				}
-				,
-				{
-					"''''''####'###################"
-					,
-					"''#####  ###            .$   #"
-					,
-					"###  $.       #####$####   # #"
-					,
-					"#    $.  #### #     .   ### .#"
-					,
-					"#  $ $.###'## # #### #  $.# $#"
-					,
-					"###  $.##'#'# # #  #  # $ #  #"
-					,
-					"''######'#'## #$ $ ##   #. # #"
-					,
-					"''''''''##### #.#.  #  ### # #"
-					,
-					"'#####''#   # ### ###   #    #"
-					,
-					"'##*##''#     .#  #   #$$*  ##"
-					,
-					"'#*###'### ## ## ## #  .#. ##'"
-					,
-					"'###*#'#  .$ .# $.$.## ### #''"
-					,
-					"'##*##'# #.####     # $.   ##'"
-					,
-					"'#*###'# $$   ### ###   ##  ##"
-					,
-					"'###*#'# #   . $@$  #######. #"
-					,
-					"'#####'# ### ####.#        $ #"
-					,
-					"'''''''#     #''###########  #"
-					,
-					"'''''''#######''''''''''''####"
-				}
-				,
-				{
-					"#########'''''''''''''"
-					,
-					"#       #''''######'''"
-					,
-					"#   $   ######    ###'"
-					,
-					"# #$#$ $ $  # $     #'"
-					,
-					"# $   $@$  $ $ $ $$ #'"
-					,
-					"# $ $# $ #     $$$  #'"
-					,
-					"#  $ $ #######   #####"
-					,
-					"##    ###....##### ..#"
-					,
-					"'###$$# $$$$ #...* ..#"
-					,
-					"''#         ##   #.. #"
-					,
-					"''#  #  #$###....##*##"
-					,
-					"''#   ##..$. ....    #"
-					,
-					"''### .*   .#....#   #"
-					,
-					"''''##################"
-				}
-				,
-				{
-					"'''####'####'''''''''''"
-					,
-					"''##  #'#  #''#######''"
-					,
-					"###   ###$ ##'#     ###"
-					,
-					"#  $      $ ###       #"
-					,
-					"# $ $ ###$   #  #     #"
-					,
-					"### ### #    #   #    #"
-					,
-					"#  $ #  ## ###    # ###"
-					,
-					"#    $   # #@        ##"
-					,
-					"# $# # ### ###   #   #'"
-					,
-					"#  $ # # $ $ #  #  # #'"
-					,
-					"##   #    $  # #.    #'"
-					,
-					"'##  # #   ##'#..  ###'"
-					,
-					"''## # #  ##'#... ##'''"
-					,
-					"'### # #### #....##''''"
-					,
-					"'#          $.*.##'''''"
-					,
-					"'############..##''''''"
-					,
-					"''''''''''''####'''''''"
-				}
-				,
-				{
-					"'#########################'"
-					,
-					"'#  #  #  #  #  #  #  #  #'"
-					,
-					"'# $#$ # $#$ # $#$ # $#$ #'"
-					,
-					"'#  #  #  #  #  #  #  #  #'"
-					,
-					"'## # ### # ### # ### # ##'"
-					,
-					"'#  #  #  #  #  #  #  #  #'"
-					,
-					"'#     #     #     #     #'"
-					,
-					"## ### # ### # ### # ### ##"
-					,
-					"#   #  #  #  #  #  #  #   #"
-					,
-					"#   #     #  @  #     #   #"
-					,
-					"##  # ### # ### # ### #  ##"
-					,
-					"'#  .  . . .   . . .  .  #'"
-					,
-					"'#########################'"
-				}
-				,
-				{
-					"'''#'#'#'#'#'#'#'#'#'#'#'#''"
-					,
-					"''# # # # # # # # # # # # #'"
-					,
-					"'#   .$    . $.  . $   .$  #"
-					,
-					"''# $# #$# # # #$# # # #  #'"
-					,
-					"'#  .  .    $.  .  .$ .  . #"
-					,
-					"''# #$# # # # #$#$ $# #$# #'"
-					,
-					"'# .     .$ .$    . $.  .  #"
-					,
-					"''# $# # # # #@# # # # #$ #'"
-					,
-					"'#  .  .$ .    $. $.     . #"
-					,
-					"''# #$# #$ $#$# # # # #$# #'"
-					,
-					"'# .  . $.  .  .$    .  .  #"
-					,
-					"''#  # # # #$# # # #$# #$ #'"
-					,
-					"'#  $.   $ .  .$ .    $.   #"
-					,
-					"''# # # # # # # # # # # # #'"
-					,
-					"'''#'#'#'#'#'#'#'#'#'#'#'#''"
-				}
-		});
+/**
+ * The bundled level sets. The levels are stored in text files under {@code assets/levels/}, one row per line and a
+ * blank line between levels, and {@code levels/index.txt} lists the sets with the byte offset of every level. Only
+ * the index is read up front; a level is read and parsed the first time it is asked for, and the most recently used
+ * levels are cached.
+ */
+public final class SokobanLevels {
 
-		// level: Mas Sasquatch
-		levelMaps.add(new String[][] {
-				{
-					"#####'''''"
-					,
-					"#   #####'"
-					,
-					"# $ $ $ #'"
-					,
-					"### # # #'"
-					,
-					"''# #   #'"
-					,
-					"'## ### ##"
-					,
-					"'# .....@#"
-					,
-					"'# $ $   #"
-					,
-					"'# ### ###"
-					,
-					"'#     #''"
-					,
-					"'#######''"
-				}
-				,
-				{
-					"'''''####'"
-					,
-					"######..#'"
-					,
-					"#     . #'"
-					,
-					"#  #  ..#'"
-					,
-					"#  ## ###'"
-					,
-					"#    $  ##"
-					,
-					"#  # #$ @#"
-					,
-					"#  # $ $ #"
-					,
-					"#  ## $ ##"
-					,
-					"#####   #'"
-					,
-					"''''#####'"
-				}
-				,
-				{
-					"''''''''''#####''"
-					,
-					"'''''''''##   ##'"
-					,
-					"'''''''''#     ##"
-					,
-					"'''''''''#    @ #"
-					,
-					"############ #. #"
-					,
-					"#            #.##"
-					,
-					"# ############.#'"
-					,
-					"#             .#'"
-					,
-					"##$#$#$#$#$#$#.#'"
-					,
-					"'#            .#'"
-					,
-					"'###############'"
-				}
-				,
-				{
-					"'''''''#####''''"
-					,
-					"'''''###   #''''"
-					,
-					"####'#  $$ ####'"
-					,
-					"#  ###  $  #  #'"
-					,
-					"#    ###$$  $ #'"
-					,
-					"# *#  @  ## # #'"
-					,
-					"## ##### #..# ##"
-					,
-					"'#    ## #..#  #"
-					,
-					"'##  $ # #..   #"
-					,
-					"#'## $ #  ..####"
-					,
-					"'#'##    #  #'''"
-					,
-					"''#'####   ##'''"
-					,
-					"'''#'''#####''''"
-				}
-				,
-				{
-					"'''''#####''"
-					,
-					"''####   #''"
-					,
-					"''#  . # ###"
-					,
-					"''# $. $ $ #"
-					,
-					"''# #.## $ #"
-					,
-					"###@#..#$  #"
-					,
-					"#   ##.#  ##"
-					,
-					"# $ $ .# $#'"
-					,
-					"## ###.## #'"
-					,
-					"'#        #'"
-					,
-					"'#####  ###'"
-					,
-					"'''''####'''"
-				}
-				,
-				{
-					"''''#####''''''''''"
-					,
-					"'''##   ######'''''"
-					,
-					"'''#  @   #  #'''''"
-					,
-					"'''#  #  $ * #'''''"
-					,
-					"####  ###$#. #'''''"
-					,
-					"#.....#    .##'''''"
-					,
-					"#.....# #$#. ###'''"
-					,
-					"###     . ##   #'''"
-					,
-					"'#  ## ##$ ### ####"
-					,
-					"'#   #  #  $  $   #"
-					,
-					"'#   $$$# #  $  $ #"
-					,
-					"'#####  # ######  #"
-					,
-					"'''''#$    #'''####"
-					,
-					"''''## $ # #'''''''"
-					,
-					"''''# $    #'''''''"
-					,
-					"''''#    ###'''''''"
-					,
-					"''''######'''''''''"
-				}
-				,
-				{
-					"'''''''''#####''''"
-					,
-					"##########   #''''"
-					,
-					"#. ........ .##'''"
-					,
-					"#  ####    #  ##''"
-					,
-					"## $   #    #  ##'"
-					,
-					"'# $  #'#    #  ##"
-					,
-					"'# $ $ # #    #  #"
-					,
-					"'# $  $   #    @ #"
-					,
-					"'# $ $$  #       #"
-					,
-					"'# $## ###########"
-					,
-					"'#  #  #''''''''''"
-					,
-					"'#    ##''''''''''"
-					,
-					"'######'''''''''''"
-				}
-				,
-				{
-					"'''''#########''"
-					,
-					"'#####       #''"
-					,
-					"##      #### #''"
-					,
-					"# $ #  @ *..*###"
-					,
-					"#  #  # #....  #"
-					,
-					"#  #$#  #....  #"
-					,
-					"# $# # ##$###  #"
-					,
-					"#    #$       ##"
-					,
-					"##  $  $#  ####'"
-					,
-					"'##  $  ####''''"
-					,
-					"''### $$ #'''#''"
-					,
-					"''''#    #'###''"
-					,
-					"''''######''''''"
-				}
-				,
-				{
-					"''''''''''''''####'''''''''''"
-					,
-					"'''''''''''####  ##'###''''''"
-					,
-					"''''''''####  $   #'#*#'####'"
-					,
-					"'########  $   $  #'###'#  #'"
-					,
-					"'#  $ $ $   $ ##  #'''''#  ##"
-					,
-					"## $     $ #### $ #######   #"
-					,
-					"#   $$ ##### $   ##      #  #"
-					,
-					"#  ## ##  $   $  #          #"
-					,
-					"#.#  $ # $ $  ####  ## ##   #"
-					,
-					"#.#  $ $ $ ####        #    #"
-					,
-					"#.#.#   $  #           #    #"
-					,
-					"#.#.  ###  #     ########   #"
-					,
-					"#.#.###@#### ##  #         ##"
-					,
-					"#.............   # ######  #'"
-					,
-					"#  .########### ## #''''####'"
-					,
-					"#####'''''''''#    #'''''''''"
-					,
-					"''''''''''''''######'''''''''"
-				}
-				,
-				{
-					"'''''''''''''####'''"
-					,
-					"'''#####'#####  ##''"
-					,
-					"''##   ###       ##'"
-					,
-					"'##   * * . $ # @ ##"
-					,
-					"'#  ## * ## ### #  #"
-					,
-					"'# ## *  #  # $  # #"
-					,
-					"'# # *  #  #     # #"
-					,
-					"## #   ## # # ###  #"
-					,
-					"#  ## #'#. $ .##  ##"
-					,
-					"# #.# ##'## #.#  ##'"
-					,
-					"# #  $  #. $ .$ ##''"
-					,
-					"#   #*  $.#  . ##'''"
-					,
-					"##### ## ## # ##''''"
-					,
-					"''''# # $  #  #'''''"
-					,
-					"''''# #    # ##'''''"
-					,
-					"''''#  #$##  #''''''"
-					,
-					"''''##      ##''''''"
-					,
-					"'''''########'''''''"
-				}
-				,
-				{
-					"''''####''''''''''''"
-					,
-					"''''#  ####'''''''''"
-					,
-					"''''# $   #########'"
-					,
-					"''''# .#    $ ##  #'"
-					,
-					"''''# $# .## $    ##"
-					,
-					"'#### .###   #$$   #"
-					,
-					"##  ## #  .. # $$  #"
-					,
-					"#  $      ...#   $ #"
-					,
-					"# $  #####... #   ##"
-					,
-					"#  $#   #  .**@####'"
-					,
-					"###   # #    # #''''"
-					,
-					"''#####  ####  #'#''"
-					,
-					"''''''##      ##''''"
-					,
-					"'''''''########'''''"
-				}
-				,
-				{
-					"#''###'''''"
-					,
-					"'##   ##'''"
-					,
-					"'#*.$  #'''"
-					,
-					"# .$.$ .##'"
-					,
-					"# $.$.$  #'"
-					,
-					"#  $.@.$  #"
-					,
-					"'#  $.$.$ #"
-					,
-					"'##. $.$. #"
-					,
-					"'''#  $.*#'"
-					,
-					"'''##   ##'"
-					,
-					"'''''###''#"
-				}
-				,
-				{
-					"''''#####''''''''"
-					,
-					"''''#   #####''''"
-					,
-					"''''# # #   #''''"
-					,
-					"''''#     # #''''"
-					,
-					"'#####.# ...#####"
-					,
-					"'#  .$$ ###$#   #"
-					,
-					"'# #.#     $. # #"
-					,
-					"'#  .# $$$  #   #"
-					,
-					"###  # $@$ #  ###"
-					,
-					"#   #  $$$ #.  #'"
-					,
-					"# # .$     #.# #'"
-					,
-					"#   #$### $$.  #'"
-					,
-					"#####... #.#####'"
-					,
-					"''''# #     #''''"
-					,
-					"''''#   # # #''''"
-					,
-					"''''#####   #''''"
-					,
-					"''''''''#####''''"
-				}
-				,
-				{
-					"''''#######'''"
-					,
-					"''''#     ###'"
-					,
-					"''''# ###$  ##"
-					,
-					"''''#....$   #"
-					,
-					"''### ## #   #"
-					,
-					"###@.$  #'# ##"
-					,
-					"# .*.$   ## #'"
-					,
-					"#  $.$  #.$$#'"
-					,
-					"#  ## ##    #'"
-					,
-					"#####   # ###'"
-					,
-					"''''###  $ #''"
-					,
-					"''''''##   #''"
-					,
-					"'''''''#####''"
-				}
-				,
-				{
-					"''#####''''''''''''''''''''"
-					,
-					"''#   #####''''''''''''''''"
-					,
-					"''# $$#   #####''''''''''''"
-					,
-					"''#   . $ #   #####''''''''"
-					,
-					"'### ##   . $ #   #####''''"
-					,
-					"'#   ##.### ....$ #   #####"
-					,
-					"'# $$#   ###.##.  # $ #   #"
-					,
-					"'#   # $ #  .##.###   .$$ #"
-					,
-					"### ##   .$$$#   ###.##   #"
-					,
-					"#   ##.###   #$$$.   ## ###"
-					,
-					"# $$.   ###.##.  # $ #   #'"
-					,
-					"#   # $ #  .##.###   #$$ #'"
-					,
-					"#####   # $.... ###.##   #'"
-					,
-					"''''#####   # $ .   ## ###'"
-					,
-					"''''''''#####   # $ .   #''"
-					,
-					"''''''''''''#####   #$$ #''"
-					,
-					"''''''''''''''''#####  @#''"
-					,
-					"''''''''''''''''''''#####''"
-				}
-				,
-				{
-					"#############"
-					,
-					"#           #"
-					,
-					"# .$.$.$.$. #"
-					,
-					"# $.$.$.$.$ #"
-					,
-					"# .$.$.$.$. #"
-					,
-					"# $.$.$.$.$ #"
-					,
-					"# .$.$@$.$. #"
-					,
-					"# $.$.$.$.$ #"
-					,
-					"# .$.$.$.$. #"
-					,
-					"# $.$.$.$.$ #"
-					,
-					"# .$.$.$.$. #"
-					,
-					"#           #"
-					,
-					"#############"
-				}
-				,
-				{
-					"#############################"
-					,
-					"#                           #"
-					,
-					"# .$.$.$.$.$.$.$.$.$.$.$.$. #"
-					,
-					"# $.$.$.$.$.$.$.$.$.$.$.$.$ #"
-					,
-					"# .$.$.$.$.$.$.$.$.$.$.$.$. #"
-					,
-					"# $.$.$.$.$.$.$.$.$.$.$.$.$ #"
-					,
-					"# .$.$.$.$.$.$.$.$.$.$.$.$. #"
-					,
-					"# $.$.$.$.$.$.$.$.$.$.$.$.$ #"
-					,
-					"# .$.$.$.$.$.$@$.$.$.$.$.$. #"
-					,
-					"# $.$.$.$.$.$.$.$.$.$.$.$.$ #"
-					,
-					"# .$.$.$.$.$.$.$.$.$.$.$.$. #"
-					,
-					"# $.$.$.$.$.$.$.$.$.$.$.$.$ #"
-					,
-					"# .$.$.$.$.$.$.$.$.$.$.$.$. #"
-					,
-					"# $.$.$.$.$.$.$.$.$.$.$.$.$ #"
-					,
-					"# .$.$.$.$.$.$.$.$.$.$.$.$. #"
-					,
-					"#                           #"
-					,
-					"#############################"
-				}
-				,
-				{
-					"''#####################''"
-					,
-					"'##        #     #    #''"
-					,
-					"'#  $ $ $  #$ $ $ $  $###"
-					,
-					"'# $##### $$  $## ## $  #"
-					,
-					"'#  #  ..#   # #    #   #"
-					,
-					"'##$   ... # #   ...#$ ##"
-					,
-					"##   $ ... #$ #  ...$  ##"
-					,
-					"#  $####..#    ##...##$ #"
-					,
-					"#    *.*..$$@$$..*.*    #"
-					,
-					"# $##...##    #..####$  #"
-					,
-					"##  $...  # $# ... $   ##"
-					,
-					"## $#...   # # ...   $##'"
-					,
-					"#   #    # #   #..  #  #'"
-					,
-					"#  $ ## ##$  $$ #####$ #'"
-					,
-					"###$  $ $ $ $#  $ $ $  #'"
-					,
-					"''#    #     #        ##'"
-					,
-					"''#####################''"
-				}
-				,
-				{
-					"'''''''#####''#####"
-					,
-					"'''''''#   #''#   #"
-					,
-					"'''''''# #.####.# #"
-					,
-					"'''''''# ..    .. #"
-					,
-					"#####''### #### ###"
-					,
-					"#   #''''# #    #''"
-					,
-					"# # ##'''# #@## #''"
-					,
-					"#  $ ##''# #  # ###"
-					,
-					"##  $ ##'# $  $.. #"
-					,
-					"'##  $ ### #  #.# #"
-					,
-					"''##  $ ## ## #   #"
-					,
-					"'''##  $ # #  #####"
-					,
-					"''''##  $  $ ##''''"
-					,
-					"'''''#####  ##'''''"
-					,
-					"'''''''''####''''''"
-				}
-				,
-				{
-					"''''''''''#########"
-					,
-					"'''''####'#       #"
-					,
-					"''####  #'# $     #"
-					,
-					"''#  #  ####.#    #"
-					,
-					"''#   $ $   .#### #"
-					,
-					"''#  $#$## #.#....#"
-					,
-					"### # $  # #.#....#"
-					,
-					"#  $ $  # #..*....#"
-					,
-					"# # ## $  # ####  #"
-					,
-					"#  $ # # $#      ##"
-					,
-					"##  $  #    ######'"
-					,
-					"'##  $ # $$$#''''''"
-					,
-					"''## $$@##  #''''''"
-					,
-					"'''##      ##''''''"
-					,
-					"''''########'''''''"
-				}
-				,
-				{
-					"'''#############'''"
-					,
-					"'''#     #     #'''"
-					,
-					"'''# $ $ $ $ $ #'''"
-					,
-					"'''### ##### ###'''"
-					,
-					"####.$   $   $.####"
-					,
-					"# ...# $ # $ #... #"
-					,
-					"#  $##*#.#.#*##$  #"
-					,
-					"##   . . @ . .   ##"
-					,
-					"#  $##*#.#.#*##$  #"
-					,
-					"# ...# $ # $ #... #"
-					,
-					"####.$   $   $.####"
-					,
-					"'''### ##### ###'''"
-					,
-					"'''# $ $ $ $ $ #'''"
-					,
-					"'''#     #     #'''"
-					,
-					"'''#############'''"
-				}
-				,
-				{
-					"'''##########''''''''"
-					,
-					"''##        #''''''''"
-					,
-					"'##    ###  #######''"
-					,
-					"'# $$ #    $#  #  #''"
-					,
-					"'#  ###  #$$      #''"
-					,
-					"'#    $$ #     #$$#''"
-					,
-					"'#  #   #### #$   #''"
-					,
-					"'## # ###.*. # ## #''"
-					,
-					"## *.*.#..*.##    ###"
-					,
-					"#  ***...**.### $$  #"
-					,
-					"# #....#...#  #   # #"
-					,
-					"#  ## ##.*. $ # ### #"
-					,
-					"##  # $ ..##   $  # #"
-					,
-					"'## # $$### $#$$  # #"
-					,
-					"''#  @  #   $    #  #"
-					,
-					"''#####   ##$####  ##"
-					,
-					"''''''######      ##'"
-					,
-					"'''''''''''########''"
-				}
-				,
-				{
-					"##############'#######''''''''"
-					,
-					"#             #       #'''''''"
-					,
-					"#.##########  #$#####  #''''''"
-					,
-					"#           #        #  #'''''"
-					,
-					"#*########  # ######  #  #''''"
-					,
-					"#         #         #  #  #'''"
-					,
-					"#*######  # #######  #  #  #''"
-					,
-					"#       #          #  #  #  #'"
-					,
-					"#*####  # ########  #  #  #  #"
-					,
-					"#     #           #  #  #  # #"
-					,
-					"#*##  # #########  #  #  # # #"
-					,
-					"#   #            #  #  # # # #"
-					,
-					"#$  # ##########  #  # # # # #"
-					,
-					"# #             #  # # # # # #"
-					,
-					"# # ###########  # # # # # # #"
-					,
-					"#. @           $ * * * * * . #"
-					,
-					"##############################"
-				}
-				,
-				{
-					"''''''''''''''''''''####'"
-					,
-					"''''''''''''''#######  #'"
-					,
-					"''''''''''''''#      $ ##"
-					,
-					"''''########''# ..## $  #"
-					,
-					"'''''''''''##'##.#  #   #"
-					,
-					"'''#######'''''#.# $ $###"
-					,
-					"'###     #######.#  # ##'"
-					,
-					"'#   ##    #   $.  $$  #'"
-					,
-					"'# ##  #.# #@# #.#  ## #'"
-					,
-					"'#  $$  .$   #    ##   #'"
-					,
-					"'## #  #.#######     ###'"
-					,
-					"###$ $ #.#'''''#######'''"
-					,
-					"#   #  #.##'##'''''''''''"
-					,
-					"#  $ ##.. #''########''''"
-					,
-					"## $      #''''''''''''''"
-					,
-					"'#  #######''''''''''''''"
-					,
-					"'####''''''''''''''''''''"
-				}
-				,
-				{
-					"''######'''''''''''''''"
-					,
-					"''##   ###########'''''"
-					,
-					"''# $ $  $  # *  ######"
-					,
-					"''# .*.#..*.# .$     ##"
-					,
-					"''# *  # $ $  * $#*.$ #"
-					,
-					"'## ####    # .  # *  #"
-					,
-					"'#  $ #########.## .$ #"
-					,
-					"'#.*.. *        #### ##"
-					,
-					"'#$ $ #$#.$$.*# #    #'"
-					,
-					"'#    # #*.$$.#$# $ $#'"
-					,
-					"## ####        * ..*.#'"
-					,
-					"# $. ##.######### $  #'"
-					,
-					"#  * #  . #    #### ##'"
-					,
-					"# $.*#$ *  $ $ # .$ #''"
-					,
-					"##     $. #.*..# * @#''"
-					,
-					"######  * #  $  *.$ #''"
-					,
-					"'''''###########   ##''"
-					,
-					"'''''''''''''''######''"
-				}
-				,
-				{
-					"######''''#######"
-					,
-					"#  ..#''''#  #  #"
-					,
-					"#  ..###### $#  #"
-					,
-					"## #.  $ ##  $  #"
-					,
-					"'#  $$$   # ##$##"
-					,
-					"'#.#. #$ $  #  #'"
-					,
-					"'#.#.## ##  $  #'"
-					,
-					"'#.#   $  # #  #'"
-					,
-					"'#. ##   @# ##$#'"
-					,
-					"'#.   ####     #'"
-					,
-					"'#.      $  $# #'"
-					,
-					"'#. ########   #'"
-					,
-					"'####''''''#####'"
-				}
-				,
-				{
-					"################"
-					,
-					"#   #   ##  #  #"
-					,
-					"# .$. $  # . . #"
-					,
-					"## ### #  $ #$ #"
-					,
-					"# . #  ### ##.##"
-					,
-					"#  $ .$  #. #  #"
-					,
-					"### ## #  $  $ #"
-					,
-					"##  #  ### ##  #"
-					,
-					"#  ## ###  #  ##"
-					,
-					"# $  $  # ## ###"
-					,
-					"#  # .#  $. $  #"
-					,
-					"##.## ###  # . #"
-					,
-					"# $# $  # ### ##"
-					,
-					"# . . #@ $ .$. #"
-					,
-					"#  #  ##   #   #"
-					,
-					"################"
-				}
-				,
-				{
-					"'##########'''''''''''''''''"
-					,
-					"'#    #   #'''''''''''''''''"
-					,
-					"'# $  #   #'''''####''#####'"
-					,
-					"'### $$   #######  ####   #'"
-					,
-					"## $  $  ###   ##  $      #'"
-					,
-					"# $   ###  # # ##  ##### ###"
-					,
-					"#  #$#       ..### ##  #   #"
-					,
-					"#    #  #.# #.. #   # $  $ #"
-					,
-					"### $ $ #.# #.. #   #  ## ##"
-					,
-					"''#  #  #.#  #### #### ##  #"
-					,
-					"'########.#         # $  $ #"
-					,
-					"'#  ..  #.# ######  #   #  #"
-					,
-					"'#.$$$$.#.# #'''#  #### ####"
-					,
-					"'#.$ @$.#.# #'#'#  $      #'"
-					,
-					"'#.$$$$.#.# #'''#  ####   #'"
-					,
-					"'#  ..   .  #'''####''#####'"
-					,
-					"'############'''''''''''''''"
-				}
-				,
-				{
-					"''''''''''''''''#####''''''"
-					,
-					"''''''''''#######   #'#####"
-					,
-					"'''''######       #.###   #"
-					,
-					"''''##      # ### #.    * #"
-					,
-					"''''#  ###### ##  #  ### ##"
-					,
-					"''''# ## $ ..$ # $   ##  #'"
-					,
-					"''''# #  $ *.$@##### #  ##'"
-					,
-					"''''# #    ..$ # $   # ##''"
-					,
-					"#####$#######$## # .   #'''"
-					,
-					"# $            . #### ####'"
-					,
-					"# $$# #########$##   .   #'"
-					,
-					"# # . .#      .  # $$*$$ #'"
-					,
-					"#   .  # $.$.#   #... ...#'"
-					,
-					"##### $ # ## ##### $$*$$ #'"
-					,
-					"''''#.#    #         .   #'"
-					,
-					"''''######################'"
-				}
-				,
-				{
-					"''''####'''''''''''"
-					,
-					"#####  ##########''"
-					,
-					"#      #  #     #''"
-					,
-					"# #  ..   ##   $###"
-					,
-					"# # ##.#.  # $$$@ #"
-					,
-					"#      #.  # $  # #"
-					,
-					"#   ######## $  # #"
-					,
-					"###    $       ## #"
-					,
-					"''#.############  #"
-					,
-					"''#.             ##"
-					,
-					"''################'"
-				}
-				,
-				{
-					"'#####''''''''''''"
-					,
-					"##   #'####'''''''"
-					,
-					"#    ###  #'''''''"
-					,
-					"#  # @#   #'''''''"
-					,
-					"##$####   ######''"
-					,
-					"# ...    ##    ##'"
-					,
-					"# ...  #    ##  #'"
-					,
-					"#### # #####  # ##"
-					,
-					"'''# #       $#  #"
-					,
-					"'''# # $ $ $$  # #"
-					,
-					"'''#  #####    # #"
-					,
-					"'''##      #   # #"
-					,
-					"''''######  ###  #"
-					,
-					"'''''''''##     ##"
-					,
-					"''''''''''#######'"
-				}
-				,
-				{
-					"''''''#''''''"
-					,
-					"''''## ##''''"
-					,
-					"''''#   #''''"
-					,
-					"'''# .$. #'''"
-					,
-					"'##  $.$  ##'"
-					,
-					"'# .$.$.$. #'"
-					,
-					"#  $.$+$.$  #"
-					,
-					"'# .$.$.$. #'"
-					,
-					"'##  $.$$ ##'"
-					,
-					"'''# .$.    #"
-					,
-					"''''#   # # #"
-					,
-					"''''## ##   #"
-					,
-					"''''''#''###'"
-				}
-				,
-				{
-					"#####'''''''''''''''''''"
-					,
-					"#   ##''''''''''''''''''"
-					,
-					"#  $ #####''''''''''''''"
-					,
-					"##  $ #  #''''''''''''''"
-					,
-					"'## $ # $###########''''"
-					,
-					"''##      $ $ $ $  #''''"
-					,
-					"'''#####$ # # #  # #''''"
-					,
-					"'''''''#      #    #''''"
-					,
-					"'''''''# #######$#######"
-					,
-					"''''''##         #@#   #"
-					,
-					"''''''#  # # ##  #     #"
-					,
-					"''''''#..*.*.*......   #"
-					,
-					"''''''##########    # ##"
-					,
-					"'''''''''''''''####   #'"
-					,
-					"''''''''''''''''''#####'"
-				}
-				,
-				{
-					"'#####''#####"
-					,
-					"'#   ####   #"
-					,
-					"## #$.*.$ # #"
-					,
-					"#   $.@.$   #"
-					,
-					"# # $.*.$# ##"
-					,
-					"#   ####   #'"
-					,
-					"#####''#####'"
-				}
-				,
-				{
-					"'''''''''#####'"
-					,
-					"##########   #'"
-					,
-					"#      $ $$$ #'"
-					,
-					"# $## #  # # #'"
-					,
-					"# $    # # # #'"
-					,
-					"##$## .#.    #'"
-					,
-					"'#   ..... # #'"
-					,
-					"'#$ ##.@.## $#'"
-					,
-					"'# # .....   #'"
-					,
-					"'#    .#. ##$##"
-					,
-					"'# # # #    $ #"
-					,
-					"'# # #  # ##$ #"
-					,
-					"'# $$$ $      #"
-					,
-					"'#   ##########"
-					,
-					"'#####'''''''''"
-				}
-				,
-				{
-					"'#######'#######'"
-					,
-					"##  .  ###     ##"
-					,
-					"# $$.$$ # .$.$. #"
-					,
-					"# $ . $ # $.$.$ #"
-					,
-					"#...#...  .$@$. #"
-					,
-					"# $ . $ # $.$.$ #"
-					,
-					"# $$.$$ # .$.$. #"
-					,
-					"##  .  ###     ##"
-					,
-					"'### ###'### ###'"
-					,
-					"##     ###     ##"
-					,
-					"# .$.$. # .$$$. #"
-					,
-					"# $.$.$ # $...$ #"
-					,
-					"# .$ $.   $.#.$ #"
-					,
-					"# $.$.$ # $...$ #"
-					,
-					"# .$.$. # .$$$. #"
-					,
-					"##     ###     ##"
-					,
-					"'#######'#######'"
-				}
-				,
-				{
-					"''''''''''''#####''''''''''''"
-					,
-					"''''''''#####   #####''''''''"
-					,
-					"''''#####   # $ #   #####''''"
-					,
-					"#####   # $$     $$ #   #####"
-					,
-					"#   #$$ .   ##$##   . $$#   #"
-					,
-					"# $$.   ##### . #####   .$$ #"
-					,
-					"#   #####   ##.##   #####   #"
-					,
-					"##$ #   #.... . ....#   # $##"
-					,
-					"'#  . $ .   # @ #   . $ .  #'"
-					,
-					"##$ #   #.... . ....#   # $##"
-					,
-					"#   #####   ##.##   #####   #"
-					,
-					"# $$.   ##### . #####   .$$ #"
-					,
-					"#   #$$ .   ##$##   . $$#   #"
-					,
-					"#####   # $$     $$ #   #####"
-					,
-					"''''#####   # $ #   #####''''"
-					,
-					"''''''''#####   #####''''''''"
-					,
-					"''''''''''''#####''''''''''''"
-				}
-				,
-				{
-					"#####'''''''''''''''''#####"
-					,
-					"#   ###################   #"
-					,
-					"# # $ $ $ $ $ $ $ $ $ $ # #"
-					,
-					"# $ #     #     #     # $ #"
-					,
-					"##  #.###.#.###.#.###.#  ##"
-					,
-					"'#$ #  .  #  *  #  .  # $#'"
-					,
-					"'#  .  #  .  #  .  #  .  #'"
-					,
-					"'#$###.#.###.@.###.#.###$#'"
-					,
-					"'#  .  #  .  #  .  #  .  #'"
-					,
-					"'#$ #  .  #  *  #  .  # $#'"
-					,
-					"##  #.###.#.###.#.###.#  ##"
-					,
-					"# $ #     #     #     # $ #"
-					,
-					"# # $ $ $ $ $ $ $ $ $ $ # #"
-					,
-					"#   ###################   #"
-					,
-					"#####'''''''''''''''''#####"
-				}
-				,
-				{
-					"'#################'"
-					,
-					"'#               #'"
-					,
-					"##$#.#.#.#.#.#.#$##"
-					,
-					"#  $.$.$.$.$.$.$  #"
-					,
-					"#  #$#$ $@$ $#$#  #"
-					,
-					"#  $.$.$.$.$.$.$  #"
-					,
-					"##$#.#.#.#.#.#.#$##"
-					,
-					"'#               #'"
-					,
-					"'#################'"
-				}
-				,
-				{
-					"''''''''''''''''#####'''''''''"
-					,
-					"''###############   ########''"
-					,
-					"'## $ $ $ $ $    $ $ $ $ $ ##'"
-					,
-					"###     #         #        ###"
-					,
-					"#  #.##.#.##.#.##.#.##.#.##  #"
-					,
-					"# $#  .$ $  $#  .$ $  $#  .$ #"
-					,
-					"#  .  #$  $ $.  #$  $ $.  #  #"
-					,
-					"# $##.#.##.#.##.#.##.#.##.#$ #"
-					,
-					"##      .  #   @  .  #      ##"
-					,
-					"##      #  .      #  .      ##"
-					,
-					"# $#.##.#.##.#.##.#.##.#.##$ #"
-					,
-					"#  #  .$ $  $#  .$ $  $#  .  #"
-					,
-					"# $.  #$  $ $.  #$  $ $.  #$ #"
-					,
-					"#  ##.#.##.#.##.#.##.#.##.#  #"
-					,
-					"###        #         #     ###"
-					,
-					"'## $ $ $ $ $    $ $ $ $ $ ##'"
-					,
-					"''########   ###############''"
-					,
-					"'''''''''#####''''''''''''''''"
-				}
-				,
-				{
-					"'###########'"
-					,
-					"##    #    ##"
-					,
-					"# $$*.$.*$$ #"
-					,
-					"#...     ...#"
-					,
-					"# $$*.$.*$$ #"
-					,
-					"##    *    ##"
-					,
-					"# $$*.$.*$$ #"
-					,
-					"#...  @  ...#"
-					,
-					"# $$*.$.*$$ #"
-					,
-					"##    #    ##"
-					,
-					"'###########'"
-				}
-				,
-				{
-					"###########''''''''''''"
-					,
-					"#         #''''''''''''"
-					,
-					"# $## ### ##'''#####'''"
-					,
-					"#  # $ $ $ #####   ###'"
-					,
-					"# $    #     # $. .  #'"
-					,
-					"#  ##$###$## # #...# #'"
-					,
-					"# $    #     # #. .# ##"
-					,
-					"## # $ $ $## # #...#  #"
-					,
-					"#  ## ### #. # #. . # #"
-					,
-					"# $       #    #    # #"
-					,
-					"# @######## ###     # #"
-					,
-					"####'''''#       ###  #"
-					,
-					"'''''''''# ####  #   ##"
-					,
-					"'''''''''#     ##  ###'"
-					,
-					"'''''''''#####    ##'''"
-					,
-					"'''''''''''''######''''"
-				}
-				,
-				{
-					"'''''''''#######''''''''''''''"
-					,
-					"''########  #. #''''''''''''''"
-					,
-					"''#        $ * #####''''''''''"
-					,
-					"''# ## ##   #. #   #''''''####"
-					,
-					"### # $ $$#$#. # # ########  #"
-					,
-					"#  $#   #  $ * #......       #"
-					,
-					"# $    ### $#.  #  ####      #"
-					,
-					"## # #$$ # $ .# #  #''##     #"
-					,
-					"'# #   $   @##  # ##'''##   ##"
-					,
-					"'#  ##  $$$ #  ## ###'''#####'"
-					,
-					"'##  #.##.###       #'''''''''"
-					,
-					"''## #*$.*...  ##   #'''''''''"
-					,
-					"'''#   #   ##  ##  ##'''''''''"
-					,
-					"'''###   ###########''''''''''"
-					,
-					"'''''#####''''''''''''''''''''"
-				}
-				,
-				{
-					"'''''#######'''''"
-					,
-					"'''''#  @  #'''''"
-					,
-					"###### ### ######"
-					,
-					"#   #   $   #   #"
-					,
-					"#   $   #   $   #"
-					,
-					"##$###*###*###$##"
-					,
-					"#   $   #   $   #"
-					,
-					"#   #   *   #   #"
-					,
-					"##$###*###*###$##"
-					,
-					"#   #   $   #   #"
-					,
-					"# ..*...#...*.. #"
-					,
-					"###### ### ######"
-					,
-					"'''''#     #'''''"
-					,
-					"'''''#######'''''"
-				}
-				,
-				{
-					"''''''''''''''####''''"
-					,
-					"'''''''''''#### .#''''"
-					,
-					"'''''####''#    .####'"
-					,
-					"'''###  ####  ##..  ##"
-					,
-					"'''#  $ #  #$ #...   #"
-					,
-					"'''# #  #  #  #...   #"
-					,
-					"'''# #$ # $ $ #      #"
-					,
-					"####  $    #  #    @##"
-					,
-					"#     # #$$#####   ##'"
-					,
-					"#   $ $ #  #'''#####''"
-					,
-					"######  #  #''''''''''"
-					,
-					"'''''####  #''''''''''"
-					,
-					"''''''''####''''''''''"
-				}
-				,
-				{
-					"'''''''''####'####''''''''''''"
-					,
-					"'''''''''#  ###  #''''''''''''"
-					,
-					"''''''#### $ $   #######''''''"
-					,
-					"''''''#   $   #$   ##  ####'''"
-					,
-					"''''''# ### ###        #  #'''"
-					,
-					"'''''##  $   ###### #     #'''"
-					,
-					"'''''#  $ # ##    #####   #'''"
-					,
-					"'''''# # #  #  # $$ # ## ###''"
-					,
-					"'''''# #    #$.## $        #''"
-					,
-					"'''''# ######   $  # ###   ##'"
-					,
-					"'''''#....*.**.# #   #'#   ##'"
-					,
-					"'''''####      # #####'#####''"
-					,
-					"'''''''##$## ###$#''''''''''''"
-					,
-					"''''''##  #   $  #''''''''''''"
-					,
-					"#######   # $    #############"
-					,
-					"# $      ###### ##         @ #"
-					,
-					"#        .........           #"
-					,
-					"##############################"
-				}
-				,
-				{
-					"''''''#####''''''"
-					,
-					"''''''# . #''''''"
-					,
-					"''##### . #####''"
-					,
-					"''#   $ . $   #''"
-					,
-					"''# $ ##.## $ #''"
-					,
-					"''#   # $ #   #''"
-					,
-					"###$##     ##$###"
-					,
-					"#   #  ***  #   #"
-					,
-					"#....$ *@* $....#"
-					,
-					"#   #  ***  #   #"
-					,
-					"###$##     ##$###"
-					,
-					"''#   # $ #   #''"
-					,
-					"''# $ ##.## $ #''"
-					,
-					"''#   $ . $   #''"
-					,
-					"''##### . #####''"
-					,
-					"''''''# . #''''''"
-					,
-					"''''''#####''''''"
-				}
-				,
-				{
-					"''''''''#''''''''"
-					,
-					"'''''''# #'''''''"
-					,
-					"'''''##   ##'''''"
-					,
-					"'''''# $.$ #'''''"
-					,
-					"''''#  . .  #''''"
-					,
-					"''## $.$.$.$ ##''"
-					,
-					"''#  . # # .  #''"
-					,
-					"'# $.$# $ #$.$ #'"
-					,
-					"#  . . $@$ . .  #"
-					,
-					"'# $.$# $ #$.$ #'"
-					,
-					"''#  . # # .  #''"
-					,
-					"''## $.$.$.$ ##''"
-					,
-					"''''#  . .  #''''"
-					,
-					"'''''# $.$ #'''''"
-					,
-					"'''''##   ##'''''"
-					,
-					"'''''''# #'''''''"
-					,
-					"''''''''#''''''''"
-				}
-				,
-				{
-					"''''####'''''''''''''''"
-					,
-					"''''#  ######''''''''''"
-					,
-					"''''#  $ $  ###''''####"
-					,
-					"''''#   $     #'''##  #"
-					,
-					"#####*#*#$$$  #''## $ #"
-					,
-					"#     $ $   $ #'##    #"
-					,
-					"#  #$    $ $##### $$ ##"
-					,
-					"## # ####  .....#   ##'"
-					,
-					"#      # $  **.## ###''"
-					,
-					"#   #  # $$ #.##.   #''"
-					,
-					"##     #    #.#+* # #''"
-					,
-					"'#     ######.##..$ #''"
-					,
-					"'#######'# $..##.####''"
-					,
-					"'''''''''# # *..*.#''''"
-					,
-					"'''''''''#   .#.  #''''"
-					,
-					"'''''''''######$# #''''"
-					,
-					"''''''''''''''#   #''''"
-					,
-					"''''''''''''''#####''''"
-				}
-				,
-				{
-					"#############################"
-					,
-					"#.      .   .   .   .      .#"
-					,
-					"# ##  # #   # # #   # #  ## #"
-					,
-					"# ##  $ # $ # $ # $ # $  ## #"
-					,
-					"#  ##$$$#$$$#$$$#$$$#$$$##  #"
-					,
-					"#   $...$...$...$...$...$   #"
-					,
-					"#  $$.#.$.#.$.#.$.#.$.#.$$  #"
-					,
-					"#   $...$...$...$...$...$   #"
-					,
-					"#.###$$$#$$$#$@$#$$$#$$$###.#"
-					,
-					"#   $...$...$...$...$...$   #"
-					,
-					"#  $$.#.$.#.$.#.$.#.$.#.$$  #"
-					,
-					"#   $...$...$...$...$...$   #"
-					,
-					"#  ##$$$#$$$#$$$#$$$#$$$##  #"
-					,
-					"# ##  $ # $ # $ # $ # $  ## #"
-					,
-					"# ##  # #   # # #   # #  ## #"
-					,
-					"#.      .   .   .   .      .#"
-					,
-					"#############################"
-				}
-		});
+	/** Opens the level files, e.g. from the Android assets, see {@link #setOpener(Opener)}. */
+	public interface Opener {
+		InputStream open(String path) throws IOException;
+	}
 
-		// level: Sasquatch III
-		levelMaps.add(new String[][] {
-				{
-					"'#######"
-					,
-					"'#  *  #"
-					,
-					"'#  @  #"
-					,
-					"'##$#.##"
-					,
-					"'#  #  #"
-					,
-					"'# $#. #"
-					,
-					"'#  #  #"
-					,
-					"## ## ##"
-					,
-					"#  * * #"
-					,
-					"#   *  #"
-					,
-					"###   ##"
-					,
-					"''#####'"
-				}
-				,
-				{
-					"''''''####'''"
-					,
-					"#######  #'''"
-					,
-					"#     * .##''"
-					,
-					"# $$#  *  ##'"
-					,
-					"# $@ #* *  ##"
-					,
-					"## $ # * *  #"
-					,
-					"'### #. * * #"
-					,
-					"'#   .  #  .#"
-					,
-					"'#   #  #####"
-					,
-					"'########''''"
-				}
-				,
-				{
-					"''''''''####'"
-					,
-					"#########  #'"
-					,
-					"#          #'"
-					,
-					"# #*### #  #'"
-					,
-					"#  $   #'# #'"
-					,
-					"#*#*##  #  #'"
-					,
-					"#  $  #  # #'"
-					,
-					"#  *#  # # #'"
-					,
-					"#  $ # # # ##"
-					,
-					"###$. . . . #"
-					,
-					"''#@####### #"
-					,
-					"''#         #"
-					,
-					"''###########"
-				}
-				,
-				{
-					"'''#############''"
-					,
-					"''##           #''"
-					,
-					"'##  #########@###"
-					,
-					"##  #         *  #"
-					,
-					"#  ## ########*# #"
-					,
-					"# #  $ $ $ $   # #"
-					,
-					"# #$.. . . ..$#  #"
-					,
-					"# # .#######. # ##"
-					,
-					"#  $.#######.$# #'"
-					,
-					"### . . . . . # #'"
-					,
-					"''# $ $ $ $ $ # #'"
-					,
-					"''######### ##  #'"
-					,
-					"''''''''''# $ $ #'"
-					,
-					"''''''''''#     #'"
-					,
-					"''''''''''#######'"
-				}
-				,
-				{
-					"'###########'''"
-					,
-					"##         #'''"
-					,
-					"#  #######$##''"
-					,
-					"# #       $ ###"
-					,
-					"# #...***.*.@ #"
-					,
-					"# #       $ # #"
-					,
-					"#  #######$#  #"
-					,
-					"##        $  ##"
-					,
-					"'########   ##'"
-					,
-					"''''''''#####''"
-				}
-				,
-				{
-					"'''''''''''''####''"
-					,
-					"'''''#########  ###"
-					,
-					"'''''#  . .   . . #"
-					,
-					"'''''# $$.$# #$.$ #"
-					,
-					"'''''## . .# #. . #"
-					,
-					"''''''# $ $#  $ $ #"
-					,
-					"''''''# $  #* #####"
-					,
-					"'''''##### # ##''''"
-					,
-					"'''''#   @   #'''''"
-					,
-					"''''## # #####'''''"
-					,
-					"##### *#  $ #''''''"
-					,
-					"# $ $  #$ $ #''''''"
-					,
-					"# . .# #. . ##'''''"
-					,
-					"# $.$# #$.$$ #'''''"
-					,
-					"# . .   . .  #'''''"
-					,
-					"###  #########'''''"
-					,
-					"''####'''''''''''''"
-				}
-				,
-				{
-					"''#####'''''"
-					,
-					"''#   #####'"
-					,
-					"### #     ##"
-					,
-					"#  * ####  #"
-					,
-					"#  * ##  # #"
-					,
-					"#  *  ** # #"
-					,
-					"#   #    # #"
-					,
-					"#@#** * ## #"
-					,
-					"###  #$  # #"
-					,
-					"'# .$ .* # #"
-					,
-					"'#   #  #  #"
-					,
-					"'##  #    ##"
-					,
-					"''#########'"
-				}
-				,
-				{
-					"'''''''####"
-					,
-					"########@ #"
-					,
-					"#   ...#$ #"
-					,
-					"# $ $ $ * #"
-					,
-					"#####   . #"
-					,
-					"'''##$#$. #"
-					,
-					"'###. # .##"
-					,
-					"'#  .$#$ #'"
-					,
-					"'#  .$   #'"
-					,
-					"'###.$#  #'"
-					,
-					"'''#  ####'"
-					,
-					"'''####''''"
-				}
-				,
-				{
-					"''''''''#''''"
-					,
-					"'###########'"
-					,
-					"'#   #  #  #'"
-					,
-					"'# $ #$ $  #'"
-					,
-					"'#$.*.*.#* #'"
-					,
-					"'# .    $. #'"
-					,
-					"'#$.$#.  .$#'"
-					,
-					"## .$   #* ##"
-					,
-					"#  .#.*##.  #"
-					,
-					"# $ $   $   #"
-					,
-					"### # # #####"
-					,
-					"''##@   #''''"
-					,
-					"'''######''''"
-				}
-				,
-				{
-					"'''''''''''#'''''"
-					,
-					"''''#'''''# #''''"
-					,
-					"'''# #''##   ##''"
-					,
-					"''# . #'# .$. #''"
-					,
-					"'# $.$ # .$ $. #'"
-					,
-					"#   *  @ $ * $  #"
-					,
-					"'# $.$ # .$ $. #'"
-					,
-					"''# . #'# .$. #''"
-					,
-					"'''# #''##   ##''"
-					,
-					"''''#'''''# #''''"
-					,
-					"'''''''''''#'''''"
-				}
-				,
-				{
-					"'''''''#'''''''''''''"
-					,
-					"''''''# #''''''''''''"
-					,
-					"''''##   ##''''''''''"
-					,
-					"''''#  .  #'''''#''''"
-					,
-					"''## $.$.$ ##''# #'''"
-					,
-					"''# $.$.$.$ #'# . #''"
-					,
-					"'#  .$.$.$.  # $.$ #'"
-					,
-					"#  .$.$@$.$.    *   #"
-					,
-					"'#  .$.$.$.  # $.$ #'"
-					,
-					"''# $.$.$.$ #'# . #''"
-					,
-					"''## $.$.$ ##''# #'''"
-					,
-					"''''#  .  #'''''#''''"
-					,
-					"''''##   ##''''''''''"
-					,
-					"''''''# #''''''''''''"
-					,
-					"'''''''#'''''''''''''"
-				}
-				,
-				{
-					"########''"
-					,
-					"#  . . #''"
-					,
-					"# $.$. #''"
-					,
-					"##$#$# ##'"
-					,
-					"'# . .  #'"
-					,
-					"'#$#$# @#'"
-					,
-					"'# . .  #'"
-					,
-					"##$#$# ##'"
-					,
-					"#  . . #''"
-					,
-					"# $#$# ###"
-					,
-					"##   . . #"
-					,
-					"'###$#$# #"
-					,
-					"'''# .   #"
-					,
-					"'''#$# ###"
-					,
-					"'''#   #''"
-					,
-					"'''#####''"
-				}
-				,
-				{
-					"'''''''####''"
-					,
-					"########  #''"
-					,
-					"#@ $ $ $$ ###"
-					,
-					"#  ....*.*  #"
-					,
-					"## ### ..*# #"
-					,
-					"'#$$  # .*  #"
-					,
-					"'# # $ #.*# #"
-					,
-					"'#   $ #..  #"
-					,
-					"'##  $    ###"
-					,
-					"''### #$#.#''"
-					,
-					"'''# $ $  #''"
-					,
-					"'''#     ##''"
-					,
-					"'''#######'''"
-				}
-				,
-				{
-					"''''''''''#####"
-					,
-					"''#########   #"
-					,
-					"### $ $ $ $.  #"
-					,
-					"#  .$.$ $.$.# #"
-					,
-					"# #.*..@..*.# #"
-					,
-					"# #.$.$ $.$.  #"
-					,
-					"#  .$ $ $ $ ###"
-					,
-					"#   #########''"
-					,
-					"#####''''''''''"
-				}
-				,
-				{
-					"'''''''''''#####'''''''"
-					,
-					"############   #######'"
-					,
-					"#     # # ## # # #   #'"
-					,
-					"# # #$  $  # .$  $ # ##"
-					,
-					"#  ..*.** *@* **.*..  #"
-					,
-					"## # $  $. #  $  $# # #"
-					,
-					"'#   # # # ## # #     #"
-					,
-					"'#######   ############"
-					,
-					"'''''''#####'''''''''''"
-				}
-				,
-				{
-					"'#########'"
-					,
-					"##   *   ##"
-					,
-					"#  # # #  #"
-					,
-					"# #.$.$.# #"
-					,
-					"#  $.$.$  #"
-					,
-					"#*#.$@$.#*#"
-					,
-					"#  $.$.$  #"
-					,
-					"# #.$.$.# #"
-					,
-					"#  # # #  #"
-					,
-					"##   *   ##"
-					,
-					"'#########'"
-				}
-				,
-				{
-					"'''''''''#'''''''"
-					,
-					"''''#''#####'''''"
-					,
-					"''#####    ####''"
-					,
-					"''#   ..$$ #  #''"
-					,
-					"''# $ $ .#@#$ ##'"
-					,
-					"'#### # *##   #''"
-					,
-					"'#   #  *  #$.#''"
-					,
-					"## $##  .    . #'"
-					,
-					"'# $.**.#.**.$ #'"
-					,
-					"'# .    .  ##$ ##"
-					,
-					"''#.$#  *  #   #'"
-					,
-					"''#   ##* # ####'"
-					,
-					"'## $# #. $ $ #''"
-					,
-					"''#  # $$..   #''"
-					,
-					"''####    #####''"
-					,
-					"'''''#####''#''''"
-					,
-					"'''''''#'''''''''"
-				}
-				,
-				{
-					"'#############'"
-					,
-					"##    #   #  ##"
-					,
-					"# .##$$  $  . #"
-					,
-					"#  ...#.#.#.# #"
-					,
-					"## # $ $   .# #"
-					,
-					"# $. # # #$.$ #"
-					,
-					"#  #  $ $  #$##"
-					,
-					"#  .$# @ #$.  #"
-					,
-					"##$#  $ $  #  #"
-					,
-					"# $.$# # # .$ #"
-					,
-					"# #.   $ $ # ##"
-					,
-					"# #.#.#.#...  #"
-					,
-					"# .  $  $$##. #"
-					,
-					"##  #   #    ##"
-					,
-					"'#############'"
-				}
-				,
-				{
-					"'#############'"
-					,
-					"##     *     ##"
-					,
-					"#  ##.# ##.#  #"
-					,
-					"# # $ $ $ $ # #"
-					,
-					"# .$. ##  .$# #"
-					,
-					"# #  # . #  . #"
-					,
-					"# #$  $.$ #$# #"
-					,
-					"#*  #..@..#  *#"
-					,
-					"# #$# $.$  $# #"
-					,
-					"# .  # . #  # #"
-					,
-					"# #$.  ## .$. #"
-					,
-					"# # $ $ $ $ # #"
-					,
-					"#  #.## #.##  #"
-					,
-					"##     *     ##"
-					,
-					"'#############'"
-				}
-				,
-				{
-					"'###'###'###'"
-					,
-					"##  # @ #  ##"
-					,
-					"#  $#$ $#$  #"
-					,
-					"# . . . . . #"
-					,
-					"'##$#$ $#$##'"
-					,
-					"# . . . . . #"
-					,
-					"#  $ $#$ $  #"
-					,
-					"# . . . . . #"
-					,
-					"'##$#$ $#$##'"
-					,
-					"# . . . . . #"
-					,
-					"#  $#$ $#$  #"
-					,
-					"##  #   #  ##"
-					,
-					"'###'###'###'"
-				}
-				,
-				{
-					"'''###'''###'''"
-					,
-					"'''#  ###  #'''"
-					,
-					"''#    #    #''"
-					,
-					"##  $$$.$$$  ##"
-					,
-					"#  .# . . #.  #"
-					,
-					"#  . # $ # .  #"
-					,
-					"'# .$ #.# $. #'"
-					,
-					"'##$ .$@$. $##'"
-					,
-					"'# .$ #.# $. #'"
-					,
-					"#  . # $ # .  #"
-					,
-					"#  .# . . #.  #"
-					,
-					"##  $$$.$$$  ##"
-					,
-					"''#    #    #''"
-					,
-					"'''#  ###  #'''"
-					,
-					"'''###'''###'''"
-				}
-				,
-				{
-					"'''###########'''"
-					,
-					"''#           #''"
-					,
-					"'##$####.####$##'"
-					,
-					"# $. $ $.$ $ .$ #"
-					,
-					"# # ...   ... # #"
-					,
-					"# #$.$ $.$ $.$# #"
-					,
-					"# # . *#.#* . # #"
-					,
-					"# #$ $# $ #$ $# #"
-					,
-					"# .. ..$@$.. .. #"
-					,
-					"# #$ $# $ #$ $# #"
-					,
-					"# # . *#.#* . # #"
-					,
-					"# #$.$ $.$ $.$# #"
-					,
-					"# # ...   ... # #"
-					,
-					"# $. $ $.$ $ .$ #"
-					,
-					"'##$####.####$##'"
-					,
-					"''#           #''"
-					,
-					"'''###########'''"
-				}
-				,
-				{
-					"'####'###'####'"
-					,
-					"#    #   #    #"
-					,
-					"# #  #   #  # #"
-					,
-					"#  **$***$**  #"
-					,
-					"#  * .   . *  #"
-					,
-					"'##$.## ##.$##'"
-					,
-					"#  * #   # *  #"
-					,
-					"#  *   @   *  #"
-					,
-					"#  * #   # *  #"
-					,
-					"'##$.## ##.$##'"
-					,
-					"#  * .   . *  #"
-					,
-					"#  **$***$**  #"
-					,
-					"# #  #   #  # #"
-					,
-					"#    #   #    #"
-					,
-					"'####'###'####'"
-				}
-				,
-				{
-					"'###############'"
-					,
-					"'#.  $  .  $  .#'"
-					,
-					"'# ##$# # #$## #'"
-					,
-					"'#  .* .#. *.  #'"
-					,
-					"'# #   *$*   # #'"
-					,
-					"##$$*   #   *$$##"
-					,
-					"#  #. $. .$ .#  #"
-					,
-					"#@   #* * *#    #"
-					,
-					"#  #. $. .$ .#  #"
-					,
-					"##$$*   #   *$$##"
-					,
-					"'# #   *$*   # #'"
-					,
-					"'#  .* .#. *.  #'"
-					,
-					"'# ##$# # #$## #'"
-					,
-					"'#.  $  .  $  .#'"
-					,
-					"'###############'"
-				}
-				,
-				{
-					"#'####''#''####'#"
-					,
-					"'#    #'''#    #'"
-					,
-					"# *.   ###   .* #"
-					,
-					"# $# $ $ $ $ #$ #"
-					,
-					"#   # .* *. #   #"
-					,
-					"#  . #  $  # .  #"
-					,
-					"'#  $ ##$## $  #'"
-					,
-					"''#.* # . # *.#''"
-					,
-					"#'#  ..$@$..  #'#"
-					,
-					"''#.* # . # *.#''"
-					,
-					"'#  $ ##$## $  #'"
-					,
-					"#  . #  $  # .  #"
-					,
-					"#   # .* *. #   #"
-					,
-					"# $# $ $ $ $ #$ #"
-					,
-					"# *.   ###   .* #"
-					,
-					"'#    #'''#    #'"
-					,
-					"#'####''#''####'#"
-				}
-				,
-				{
-					"'###############'"
-					,
-					"##      #      ##"
-					,
-					"# *$ $*$$$*$ $* #"
-					,
-					"# $...$...$...$ #"
-					,
-					"#  .$.$.$.$.$.  #"
-					,
-					"# $...$...$...$ #"
-					,
-					"# *$$$*$$$*$$$* #"
-					,
-					"# $...$...$...$ #"
-					,
-					"##$.$.$.@.$.$.$##"
-					,
-					"# $...$...$...$ #"
-					,
-					"# *$$$*$$$*$$$* #"
-					,
-					"# $...$...$...$ #"
-					,
-					"#  .$.$.$.$.$.  #"
-					,
-					"# $...$...$...$ #"
-					,
-					"# *$ $*$$$*$ $* #"
-					,
-					"##      #      ##"
-					,
-					"'###############'"
-				}
-				,
-				{
-					"''#############''"
-					,
-					"'## .   .   . ##'"
-					,
-					"## $.$ $.$ $.$ ##"
-					,
-					"# $ * $ * $ * $ #"
-					,
-					"#..*.*.*.*.*.*..#"
-					,
-					"# $ * $ * $ * $ #"
-					,
-					"#  $.$.$.$.$.$  #"
-					,
-					"# $ * $ * $ * $ #"
-					,
-					"#..*.*.*@*.*.*..#"
-					,
-					"# $ * $ * $ * $ #"
-					,
-					"#  $.$.$.$.$.$  #"
-					,
-					"# $ * $ * $ * $ #"
-					,
-					"#..*.*.*.*.*.*..#"
-					,
-					"# $ * $ * $ * $ #"
-					,
-					"## $.$ $.$ $.$ ##"
-					,
-					"'## .   .   . ##'"
-					,
-					"''#############''"
-				}
-				,
-				{
-					"''''''#####''''''"
-					,
-					"'''#### . ####'''"
-					,
-					"'''#'##$.$##'#'''"
-					,
-					"'####   .   ####'"
-					,
-					"'#'## $$.$$ ##'#'"
-					,
-					"'##  ## . ##  ##'"
-					,
-					"### $##$.$##$ ###"
-					,
-					"# $ $ $...$ $ $ #"
-					,
-					"#.......@.......#"
-					,
-					"# $ $ $...$ $ $ #"
-					,
-					"### $##$.$##$ ###"
-					,
-					"'##  ## . ##  ##'"
-					,
-					"'#'## $$.$$ ##'#'"
-					,
-					"'####   .   ####'"
-					,
-					"'''#'##$.$##'#'''"
-					,
-					"'''#### . ####'''"
-					,
-					"''''''#####''''''"
-				}
-				,
-				{
-					"#################''''''''''''"
-					,
-					"#  .    .    .  #''''''''''''"
-					,
-					"# ##$###$###$## #############"
-					,
-					"#.##  ##  ## ##.#  .     .  #"
-					,
-					"# $   *   *   $ # ##$###$## #"
-					,
-					"# ##  #   #   # #.##  ## ##.#"
-					,
-					"# ##*###*###*## # $   *   $ #"
-					,
-					"# #   #   #  ## # ##  #   # #"
-					,
-					"#.$   *   *   $.@ ##*###*## #"
-					,
-					"# ##  #   #   # # #   #  ## #"
-					,
-					"# ##*###*###*## # $   *   $ #"
-					,
-					"# #   #   #  ## #.## ##  ##.#"
-					,
-					"# $   *   *   $ # ##$###$## #"
-					,
-					"#.## ##  ##  ##.#  .     .  #"
-					,
-					"# ##$###$###$## #############"
-					,
-					"#  .    .    .  #''''''''''''"
-					,
-					"#################''''''''''''"
-				}
-				,
-				{
-					"'###############''''''''''''''"
-					,
-					"##             ##'''''''''''''"
-					,
-					"#  ##### #####  #'###########'"
-					,
-					"# # . . . . . # ###         ##"
-					,
-					"# #$ $ $ $ $ $#     ### ###  #"
-					,
-					"# # .#.#.#.#. # ## # . . . # #"
-					,
-					"# #$ $ $ $ $ $# ## #$ $ $ $# #"
-					,
-					"# # .#.#.#.#. # ## # .#.#. # #"
-					,
-					"#  $ $ $@$ $ $  ##  $ $ $ $  #"
-					,
-					"# # .#.#.#.#. # ## # .#.#. # #"
-					,
-					"# #$ $ $ $ $ $# ## #$ $ $ $# #"
-					,
-					"# # .#.#.#.#. # ## # . . . # #"
-					,
-					"# #$ $ $ $ $ $#     ### ###  #"
-					,
-					"# # . . . . . # ###         ##"
-					,
-					"#  ##### #####  #'###########'"
-					,
-					"##             ##'''''''''''''"
-					,
-					"'###############''''''''''''''"
-				}
-				,
-				{
-					"'''#####'#####'''''"
-					,
-					"'###    #  @ ####''"
-					,
-					"##    # $  #    ##'"
-					,
-					"#   #..*.#*...#  #'"
-					,
-					"# # . $# $ $# .  #'"
-					,
-					"#   .#    #  $.#  #"
-					,
-					"#  #.$  #$   #*   #"
-					,
-					"'#. * #  $ #  .$# #"
-					,
-					"# $ #$ $$#$$ $# $ #"
-					,
-					"# #$.  # $  # * .#'"
-					,
-					"#   *#   $#  $.#  #"
-					,
-					"#  #.$  #    #.   #"
-					,
-					"'#  . #$ $ #$ . # #"
-					,
-					"'#  #...*#.*..#   #"
-					,
-					"'##    #  $ #    ##"
-					,
-					"''####    #    ###'"
-					,
-					"'''''#####'#####'''"
-				}
-				,
-				{
-					"'''######''#####'''''"
-					,
-					"''##    ####   #'''''"
-					,
-					"''#  ##  $   # #'''''"
-					,
-					"''# # .# $# $  #'''''"
-					,
-					"''# #$.$  #   #######"
-					,
-					"''#  $. # ### #     #"
-					,
-					"''### .$. . # #.$.$ #"
-					,
-					"'''# $. ###$#$# ## ##"
-					,
-					"####  #$        #   #"
-					,
-					"#   # $ ###@###.    #"
-					,
-					"# $     #  #..  #..##"
-					,
-					"###### #    ..# .  #'"
-					,
-					"''''#   $$ #..## ..#'"
-					,
-					"''''#  $ $##     # #'"
-					,
-					"''''# $$       #   #'"
-					,
-					"''''#  #############'"
-					,
-					"''''####'''''''''''''"
-				}
-				,
-				{
-					"'''''''''####'''''"
-					,
-					"'''#######  ####''"
-					,
-					"'''#         $ ##'"
-					,
-					"####$  ###.###  ##"
-					,
-					"#   $ #  #.#  #  #"
-					,
-					"# # $ #   .  @ # #"
-					,
-					"# #   #..###   # #"
-					,
-					"# # $#....  #  # #"
-					,
-					"# #  #...#$  # # #"
-					,
-					"# #$ # ## $$ $ # #"
-					,
-					"# #  # .*    ##  #"
-					,
-					"# #$$## #  ##   ##"
-					,
-					"# #     ###   ###'"
-					,
-					"#  ####$    ###'''"
-					,
-					"##      #####'''''"
-					,
-					"'########'''''''''"
-				}
-				,
-				{
-					"''''''''''''####''''"
-					,
-					"''''#####'''#  #####"
-					,
-					"'''##   #'''#      #"
-					,
-					"'''#  # ##### # #  #"
-					,
-					"'''# # $ $ $ $ #  ##"
-					,
-					"'''# #       #  # #'"
-					,
-					"'''#  ######$## # #'"
-					,
-					"####  # *  #  # # #'"
-					,
-					"#   $ # .. $  # # #'"
-					,
-					"# # # #*...# #  # #'"
-					,
-					"# .***#. ..#   ## ##"
-					,
-					"##*....*.*  $ #    #"
-					,
-					"'##* ##.##### # $  #"
-					,
-					"''##  #     $  # # #"
-					,
-					"'''##@ #.#$ $ $ $# #"
-					,
-					"''''##    $ $  #   #"
-					,
-					"'''''##  ###########"
-					,
-					"''''''####''''''''''"
-				}
-				,
-				{
-					"''''''''''''''####"
-					,
-					"'####'''''''###  #"
-					,
-					"'#  #########  ..#"
-					,
-					"'#  $ @ $   $ #..#"
-					,
-					"'# $# $   # # #..#"
-					,
-					"'#  ##*##$#$#$#..#"
-					,
-					"'# $ #..#.      ##"
-					,
-					"'#   #*. .##$## #'"
-					,
-					"##$ $#..#.      #'"
-					,
-					"#    ##$#########'"
-					,
-					"#   $$ $ #''''''''"
-					,
-					"##       #''''''''"
-					,
-					"'#########''''''''"
-				}
-				,
-				{
-					"'''''''''''#####'''''''''''"
-					,
-					"''''''''''## . ##''''''''''"
-					,
-					"'''''''''##.$ $.##'''''''''"
-					,
-					"'''''''''# $ * $ #'''''''''"
-					,
-					"'''''''''#. * * .#'''''''''"
-					,
-					"'''''''''# $ * $ #'''''''''"
-					,
-					"'''''''''##.$ $.##'''''''''"
-					,
-					"'#######''## . ##''#######'"
-					,
-					"##     ##''## ##''##     ##"
-					,
-					"# .$.$. #'''# #'''# $.$.$ #"
-					,
-					"# $.$.$ ##### ##### .$.$. #"
-					,
-					"# .$ $.             $.@.$ #"
-					,
-					"# $.$.$ ########### .$.$. #"
-					,
-					"# .$.$. #'''''''''# $.$.$ #"
-					,
-					"##     ##''#####''##     ##"
-					,
-					"'#######'''#***#'''#######'"
-					,
-					"'''''''''''#####'''''''''''"
-				}
-				,
-				{
-					"#########'''''#######"
-					,
-					"#   #   #######  #  #"
-					,
-					"# .$. $       # . . #"
-					,
-					"## ### # # # $ $ #$ #"
-					,
-					"# . #  #.$ $.## ##.##"
-					,
-					"#  $ .$ .# #. #. #  #"
-					,
-					"### ## #.$ $.  $  $ #"
-					,
-					"##  #  ##$$ .## ##  #"
-					,
-					"#  ## ##. $$##  #  ##"
-					,
-					"# $  $  .$ $.# ## ###"
-					,
-					"#  # .# .# #. $. $  #"
-					,
-					"##.## ##.$ $.#  # . #"
-					,
-					"# $# $ $ # # # ### ##"
-					,
-					"# . . #   @   $ .$. #"
-					,
-					"#  #  #######   #   #"
-					,
-					"#######'''''#########"
-				}
-				,
-				{
-					"#####'''''''###'''"
-					,
-					"#  ###############"
-					,
-					"# $   * @ *  #   #"
-					,
-					"#  # * * * *     #"
-					,
-					"## #  * . *  # ###"
-					,
-					"'# # * * * * # #''"
-					,
-					"'# #  * . *  # #''"
-					,
-					"'# # * * * * # #''"
-					,
-					"## #  * . *  # ##'"
-					,
-					"## ###########  #'"
-					,
-					"# $           $ #'"
-					,
-					"#   ##########  #'"
-					,
-					"#####'''''''#####'"
-				}
-				,
-				{
-					"'''####'''####'''''"
-					,
-					"'''#  #####  ####''"
-					,
-					"#### $ $        ##'"
-					,
-					"#   $   ###  ##  ##"
-					,
-					"#@### # ###.#..#  #"
-					,
-					"#  $  # #      .# #"
-					,
-					"# $ # # #   #  .  #"
-					,
-					"## #  # ###########"
-					,
-					"'#   ## $ $ $ #''''"
-					,
-					"'###### #.#.#.###''"
-					,
-					"''''#     # #   #''"
-					,
-					"''''# # #.#.#.# #''"
-					,
-					"''''# # $ $ $ # #''"
-					,
-					"''''#  #  # # # #''"
-					,
-					"''''##  ###   # #''"
-					,
-					"'''''##    ###  #''"
-					,
-					"''''''####     ##''"
-					,
-					"'''''''''#######'''"
-				}
-				,
-				{
-					"''#######'##'#######'''''''''"
-					,
-					"''#     ######     ##''''''''"
-					,
-					"''#.###  ##  .  ##  ##'''''''"
-					,
-					"''# .  #  $*# .#  #  #'''''''"
-					,
-					"''# #.  ###.#  *$  # #######'"
-					,
-					"''# $ *    ###  .  #       ##"
-					,
-					"'###$# * $$  ##$ .########  #"
-					,
-					"##  $ # *  #  # # .   #   # #"
-					,
-					"#  $$  $#. .# @ #. .#$  $$  #"
-					,
-					"# #   #   . # #  #  * # $  ##"
-					,
-					"#  ########. $##  $$ * #$###'"
-					,
-					"##       #  .  ###    * $ #''"
-					,
-					"'####### #  $*  #.###  .# #''"
-					,
-					"'''''''#  #  #. #*$  #  . #''"
-					,
-					"'''''''##  ##  .  ##  ###.#''"
-					,
-					"''''''''##     ######     #''"
-					,
-					"'''''''''#######'##'#######''"
-				}
-				,
-				{
-					"##############################"
-					,
-					"#        .........           #"
-					,
-					"# $      ###### ##         @ #"
-					,
-					"#######   # $    #############"
-					,
-					"''''''##  #   $  #''''''''''''"
-					,
-					"'''''''##$## ###$#''''''''''''"
-					,
-					"'''''####    ..# #####'#####''"
-					,
-					"'''''#  ..*.**.# #   #'#   ##'"
-					,
-					"'''''# ######.. $  # ###$  ##'"
-					,
-					"'''''# #    #*. # $        #''"
-					,
-					"'''''# # #  #  # $$ # ## ###''"
-					,
-					"'''''#  $ # ##    #####   #'''"
-					,
-					"'''''##  $   ###### #     #'''"
-					,
-					"''''''# ### ###       $#  #'''"
-					,
-					"''''''#   $   #$ $ ##  ####'''"
-					,
-					"''''''#### $ $    ######''''''"
-					,
-					"'''''''''#  ####  #'''''''''''"
-					,
-					"'''''''''####''####'''''''''''"
-				}
-				,
-				{
-					"#########################"
-					,
-					"#   #   #   #   #   #   #"
-					,
-					"# $ # # # # # # # # # $ #"
-					,
-					"#  * * $ $ * * $ $ * *  #"
-					,
-					"### # # # # # # # # # ###"
-					,
-					"#  * *...... ......* *  #"
-					,
-					"# # # ###### ###### # # #"
-					,
-					"#  $ .#     $     #. $  #"
-					,
-					"### #$ $$$$ @ $$$$ $# ###"
-					,
-					"#  $ .#     $     #. $  #"
-					,
-					"# # # ###### ###### # # #"
-					,
-					"#  * *...... ......* *  #"
-					,
-					"### # # # # # # # # # ###"
-					,
-					"#  * * $ $ * * $ $ * *  #"
-					,
-					"# $ # # # # # # # # # $ #"
-					,
-					"#   #   #   #   #   #   #"
-					,
-					"#########################"
-				}
-				,
-				{
-					"''''####''''''''''"
-					,
-					"'''##  ####'''''''"
-					,
-					"'''# $   .########"
-					,
-					"'''# $ # .   $ $ #"
-					,
-					"#### ### .#### # #"
-					,
-					"#  ....#$.#  # # #"
-					,
-					"# #. $ # .#$ # # #"
-					,
-					"#  ##  $$$@$ # # #"
-					,
-					"##   ##  #   # # #"
-					,
-					"'###   #  ## # # #"
-					,
-					"'''### # ...     #"
-					,
-					"'''''# #$* *$#  ##"
-					,
-					"'''''# # ...$ ###'"
-					,
-					"'''''# $$ #   #'''"
-					,
-					"'''''#   ######'''"
-					,
-					"'''''#####''''''''"
-				}
-				,
-				{
-					"''''''#####''''''"
-					,
-					"'''''##   ##'''''"
-					,
-					"'''''#  $  #'''''"
-					,
-					"''''## $.$ ##''''"
-					,
-					"'''## $.*.$ ##'''"
-					,
-					"'### $.*.*.$ ###'"
-					,
-					"##  $.*.$.*.$  ##"
-					,
-					"#  $.*.$ $.*.$  #"
-					,
-					"# $.*.$   $.*.$ #"
-					,
-					"#  $.*.$ $.*.$  #"
-					,
-					"##  $.*.$.*.$  ##"
-					,
-					"'### $.*.*.$ ###'"
-					,
-					"'''## $.*.$ ##'''"
-					,
-					"''''## $.$ ##''''"
-					,
-					"'''''#  $  #'''''"
-					,
-					"'''''## @ ##'''''"
-					,
-					"''''''#####''''''"
-				}
-				,
-				{
-					"''''''#####''''''"
-					,
-					"''''''#   #''''''"
-					,
-					"'''''## $ ##'''''"
-					,
-					"'''### $.$ ###'''"
-					,
-					"'''#  $.*.$  #'''"
-					,
-					"''## $.*.*.$ ##''"
-					,
-					"### $.*.$.*.$ ###"
-					,
-					"#  $.*.$ $.*.$  #"
-					,
-					"# $.*.$   $.*.$ #"
-					,
-					"#  $.*.$ $.*.$  #"
-					,
-					"### $.*.$.*.$ ###"
-					,
-					"''## $.*.*.$ ##''"
-					,
-					"'''#  $.*.$  #'''"
-					,
-					"'''### $.$ ###'''"
-					,
-					"'''''## $ ##'''''"
-					,
-					"''''''# @ #''''''"
-					,
-					"''''''#####''''''"
-				}
-				,
-				{
-					"'''''''''''#####'''''''''''"
-					,
-					"'########### @ ###########'"
-					,
-					"'#   .   .   #     .     #'"
-					,
-					"'# $$*$$$*$$ # .$ $$$.$. #'"
-					,
-					"'#.....*.....#*$.$...*.$*#'"
-					,
-					"## $$*$$$*$$ # .$.$$$ $. ##"
-					,
-					"#    .   .   #     .      #"
-					,
-					"# ####################### #"
-					,
-					"#   .  .  .  #  . . . .   #"
-					,
-					"## $$* $$* $ # $.$.$.$.$ ##"
-					,
-					"'#.*.* * *.*.#*$$$ * $$$*#'"
-					,
-					"'# $ *$$ *$$ # $.$.$.$.$ #'"
-					,
-					"'#  .  .  .  #  . . . .  #'"
-					,
-					"'########### * ###########'"
-					,
-					"'''''''''''#####'''''''''''"
-				}
-				,
-				{
-					"'''''''''''#####'''''''''''"
-					,
-					"'########### @ ###########'"
-					,
-					"'#  .     .  #    .$.    #'"
-					,
-					"'# .$.$$$.$. #.$  $.$  $.#'"
-					,
-					"'#.$$$.*.$$$.#$.*** ***.$#'"
-					,
-					"## .$.$$$.$. #.$  $.$  $.##"
-					,
-					"#   .     .  #    .$.     #"
-					,
-					"# ####################### #"
-					,
-					"#   $.   .$  # $       .  #"
-					,
-					"##  * .$. *  # .**   **$ ##"
-					,
-					"'#  $.$*$.$  # *  ***  * #'"
-					,
-					"'#  * .$. *  # $**   **. #'"
-					,
-					"'#  $.   .$  # .       $ #'"
-					,
-					"'########### * ###########'"
-					,
-					"'''''''''''#####'''''''''''"
-				}
-				,
-				{
-					"'#########################'"
-					,
-					"'#  #  #  #  #  #  #  #  #'"
-					,
-					"'# $#$ # $#$ # $#$ # $#$ #'"
-					,
-					"'#  #  #  #  #  #  #  #  #'"
-					,
-					"'# $#$ # $#$ # $#$ # $#$ #'"
-					,
-					"'#  #  #  #  #  #  #  #  #'"
-					,
-					"'## # ### # ### # ### # ##'"
-					,
-					"'#  #  #  #  #  #  #  #  #'"
-					,
-					"'#  $  #  $  #  $  #  $  #'"
-					,
-					"## ### # ### # ### # ### ##"
-					,
-					"#   #  #  #  #  #  #  #   #"
-					,
-					"#   #  $  #  $  #  $  #   #"
-					,
-					"##  # ### # ### # ### #  ##"
-					,
-					"'#...........+...........#'"
-					,
-					"'#########   #   #########'"
-					,
-					"'''''''''#  ###  #'''''''''"
-					,
-					"'''''''''####'####'''''''''"
-				}
-				,
-				{
-					"''#########################''"
-					,
-					"''#           #           #''"
-					,
-					"###$$ $$ $$ $$.$$ $$ $$ $$###"
-					,
-					"# $+.$..$..$..$..$..$..$..$ #"
-					,
-					"# $..$..$..$..$..$..$..$..$ #"
-					,
-					"#  $$.$$.$$.$$.$$.$$.$$.$$  #"
-					,
-					"# $..$..$..$..$..$..$..$..$ #"
-					,
-					"# $..$..$..$..$..$..$..$..$ #"
-					,
-					"##.$$.$$.$$.$$ $$.$$.$$.$$.##"
-					,
-					"# $..$..$..$..$..$..$..$..$ #"
-					,
-					"# $..$..$..$..$..$..$..$..$ #"
-					,
-					"#  $$.$$.$$.$$.$$.$$.$$.$$  #"
-					,
-					"# $..$..$..$..$..$..$..$..$ #"
-					,
-					"# $..$..$..$..$..$..$..$..$ #"
-					,
-					"###$$ $$ $$ $$.$$ $$ $$ $$###"
-					,
-					"''#           #           #''"
-					,
-					"''#########################''"
-				}
-				,
-				{
-					"'####'''''''''''''''''''####'"
-					,
-					"'#  #####################  #'"
-					,
-					"'#    ....... @ .......    #'"
-					,
-					"'#  # .###############. #  #'"
-					,
-					"###  #.    #  #   #   .#  ###"
-					,
-					"'#     #   $  #   $  #     #'"
-					,
-					"'#     ##$##  ##$##  #     #'"
-					,
-					"'###   #  ##$##  #####   ###'"
-					,
-					"'#  #  #  $   $  $   #  #  #'"
-					,
-					"'#     #  #   #  #   #     #'"
-					,
-					"'#  #  #####$######$##  #  #'"
-					,
-					"'##   ##   #  #   #  ##   ##'"
-					,
-					"'#######   $  #   $  #######'"
-					,
-					"'''''''##$##  ##$##  #'''''''"
-					,
-					"######'#  #####  ##$##'######"
-					,
-					"#''''#'#  $   $  $   #'#''''#"
-					,
-					"######'#  #   #  #   #'######"
-					,
-					"'''''''###############'''''''"
-				}
-		});
+	private static final class LevelSet {
+		final String file;
+		final String name;
+		final int[] offsets;
 
-		// level: Microban (easy)
-		levelMaps.add(new String[][] {
-				{
-					"####''"
-					,
-					"# .#''"
-					,
-					"#  ###"
-					,
-					"#*@  #"
-					,
-					"#  $ #"
-					,
-					"#  ###"
-					,
-					"####''"
-				}
-				,
-				{
-					"######"
-					,
-					"#    #"
-					,
-					"# #@ #"
-					,
-					"# $* #"
-					,
-					"# .* #"
-					,
-					"#    #"
-					,
-					"######"
-				}
-				,
-				{
-					"''####'''"
-					,
-					"###  ####"
-					,
-					"#     $ #"
-					,
-					"# #  #$ #"
-					,
-					"# . .#@ #"
-					,
-					"#########"
-				}
-				,
-				{
-					"########"
-					,
-					"#      #"
-					,
-					"# .**$@#"
-					,
-					"#      #"
-					,
-					"#####  #"
-					,
-					"''''####"
-				}
-				,
-				{
-					"'#######"
-					,
-					"'#     #"
-					,
-					"'# .$. #"
-					,
-					"## $@$ #"
-					,
-					"#  .$. #"
-					,
-					"#      #"
-					,
-					"########"
-				}
-				,
-				{
-					"######'#####"
-					,
-					"#    ###   #"
-					,
-					"# $$     #@#"
-					,
-					"# $ #...   #"
-					,
-					"#   ########"
-					,
-					"#####'''''''"
-				}
-				,
-				{
-					"#######"
-					,
-					"#     #"
-					,
-					"# .$. #"
-					,
-					"# $.$ #"
-					,
-					"# .$. #"
-					,
-					"# $.$ #"
-					,
-					"#  @  #"
-					,
-					"#######"
-				}
-				,
-				{
-					"''######"
-					,
-					"''# ..@#"
-					,
-					"''# $$ #"
-					,
-					"''## ###"
-					,
-					"'''# #''"
-					,
-					"'''# #''"
-					,
-					"#### #''"
-					,
-					"#    ##'"
-					,
-					"# #   #'"
-					,
-					"#   # #'"
-					,
-					"###   #'"
-					,
-					"''#####'"
-				}
-				,
-				{
-					"#####'"
-					,
-					"#.  ##"
-					,
-					"#@$$ #"
-					,
-					"##   #"
-					,
-					"'##  #"
-					,
-					"''##.#"
-					,
-					"'''###"
-				}
-				,
-				{
-					"''''''#####"
-					,
-					"''''''#.  #"
-					,
-					"''''''#.# #"
-					,
-					"#######.# #"
-					,
-					"# @ $ $ $ #"
-					,
-					"# # # # ###"
-					,
-					"#       #''"
-					,
-					"#########''"
-				}
-				,
-				{
-					"''######'"
-					,
-					"''#    #'"
-					,
-					"''# ##@##"
-					,
-					"### # $ #"
-					,
-					"# ..# $ #"
-					,
-					"#       #"
-					,
-					"#  ######"
-					,
-					"####'''''"
-				}
-				,
-				{
-					"#####''''"
-					,
-					"#   ##'''"
-					,
-					"# $  #'''"
-					,
-					"## $ ####"
-					,
-					"'###@.  #"
-					,
-					"''#  .# #"
-					,
-					"''#     #"
-					,
-					"''#######"
-				}
-				,
-				{
-					"####'''"
-					,
-					"#. ##''"
-					,
-					"#.@ #''"
-					,
-					"#. $#''"
-					,
-					"##$ ###"
-					,
-					"'# $  #"
-					,
-					"'#    #"
-					,
-					"'#  ###"
-					,
-					"'####''"
-				}
-				,
-				{
-					"#######"
-					,
-					"#     #"
-					,
-					"# # # #"
-					,
-					"#. $*@#"
-					,
-					"#   ###"
-					,
-					"#####''"
-				}
-				,
-				{
-					"'''''###'"
-					,
-					"######@##"
-					,
-					"#    .* #"
-					,
-					"#   #   #"
-					,
-					"#####$# #"
-					,
-					"''''#   #"
-					,
-					"''''#####"
-				}
-				,
-				{
-					"'####'''''"
-					,
-					"'#  ####''"
-					,
-					"'#     ##'"
-					,
-					"## ##   #'"
-					,
-					"#. .# @$##"
-					,
-					"#   # $$ #"
-					,
-					"#  .#    #"
-					,
-					"##########"
-				}
-				,
-				{
-					"#####'"
-					,
-					"# @ #'"
-					,
-					"#...#'"
-					,
-					"#$$$##"
-					,
-					"#    #"
-					,
-					"#    #"
-					,
-					"######"
-				}
-				,
-				{
-					"#######"
-					,
-					"#     #"
-					,
-					"#. .  #"
-					,
-					"# ## ##"
-					,
-					"#  $ #'"
-					,
-					"###$ #'"
-					,
-					"''#@ #'"
-					,
-					"''#  #'"
-					,
-					"''####'"
-				}
-				,
-				{
-					"########"
-					,
-					"#   .. #"
-					,
-					"#  @$$ #"
-					,
-					"##### ##"
-					,
-					"'''#  #'"
-					,
-					"'''#  #'"
-					,
-					"'''#  #'"
-					,
-					"'''####'"
-				}
-				,
-				{
-					"#######''"
-					,
-					"#     ###"
-					,
-					"#  @$$..#"
-					,
-					"#### ## #"
-					,
-					"''#     #"
-					,
-					"''#  ####"
-					,
-					"''#  #'''"
-					,
-					"''####'''"
-				}
-				,
-				{
-					"####'''"
-					,
-					"#  ####"
-					,
-					"# . . #"
-					,
-					"# $$#@#"
-					,
-					"##    #"
-					,
-					"'######"
-				}
-				,
-				{
-					"#####''"
-					,
-					"#   ###"
-					,
-					"#. .  #"
-					,
-					"#   # #"
-					,
-					"## #  #"
-					,
-					"'#@$$ #"
-					,
-					"'#    #"
-					,
-					"'#  ###"
-					,
-					"'####''"
-				}
-				,
-				{
-					"#######"
-					,
-					"#  *  #"
-					,
-					"#     #"
-					,
-					"## # ##"
-					,
-					"'#$@.#'"
-					,
-					"'#   #'"
-					,
-					"'#####'"
-				}
-				,
-				{
-					"#'#####"
-					,
-					"''#   #"
-					,
-					"###$$@#"
-					,
-					"#   ###"
-					,
-					"#     #"
-					,
-					"# . . #"
-					,
-					"#######"
-				}
-				,
-				{
-					"'####''"
-					,
-					"'#  ###"
-					,
-					"'# $$ #"
-					,
-					"##... #"
-					,
-					"#  @$ #"
-					,
-					"#   ###"
-					,
-					"#####''"
-				}
-				,
-				{
-					"'#####"
-					,
-					"'# @ #"
-					,
-					"'#   #"
-					,
-					"###$ #"
-					,
-					"# ...#"
-					,
-					"# $$ #"
-					,
-					"###  #"
-					,
-					"''####"
-				}
-				,
-				{
-					"######'"
-					,
-					"#   .#'"
-					,
-					"# ## ##"
-					,
-					"#  $$@#"
-					,
-					"# #   #"
-					,
-					"#.  ###"
-					,
-					"#####''"
-				}
-				,
-				{
-					"#####''"
-					,
-					"#   #''"
-					,
-					"# @ #''"
-					,
-					"# $$###"
-					,
-					"##. . #"
-					,
-					"'#    #"
-					,
-					"'######"
-				}
-				,
-				{
-					"'''''#####'"
-					,
-					"'''''#   ##"
-					,
-					"'''''#    #"
-					,
-					"'######   #"
-					,
-					"##     #. #"
-					,
-					"# $ $ @  ##"
-					,
-					"# ######.#'"
-					,
-					"#        #'"
-					,
-					"##########'"
-				}
-				,
-				{
-					"####''"
-					,
-					"#  ###"
-					,
-					"# $$ #"
-					,
-					"#... #"
-					,
-					"# @$ #"
-					,
-					"#   ##"
-					,
-					"#####'"
-				}
-				,
-				{
-					"''####'"
-					,
-					"'##  #'"
-					,
-					"##@$.##"
-					,
-					"# $$  #"
-					,
-					"# . . #"
-					,
-					"###   #"
-					,
-					"''#####"
-				}
-				,
-				{
-					"'####''"
-					,
-					"##  ###"
-					,
-					"#     #"
-					,
-					"#.**$@#"
-					,
-					"#   ###"
-					,
-					"##  #''"
-					,
-					"'####''"
-				}
-				,
-				{
-					"#######"
-					,
-					"#. #  #"
-					,
-					"#  $  #"
-					,
-					"#. $#@#"
-					,
-					"#  $  #"
-					,
-					"#. #  #"
-					,
-					"#######"
-				}
-				,
-				{
-					"''####'''"
-					,
-					"###  ####"
-					,
-					"#       #"
-					,
-					"#@$***. #"
-					,
-					"#       #"
-					,
-					"#########"
-				}
-				,
-				{
-					"''####'"
-					,
-					"'##  #'"
-					,
-					"'#. $#'"
-					,
-					"'#.$ #'"
-					,
-					"'#.$ #'"
-					,
-					"'#.$ #'"
-					,
-					"'#. $##"
-					,
-					"'#   @#"
-					,
-					"'##   #"
-					,
-					"''#####"
-				}
-				,
-				{
-					"####'''''''''''"
-					,
-					"#  ############"
-					,
-					"# $ $ $ $ $ @ #"
-					,
-					"# .....       #"
-					,
-					"###############"
-				}
-				,
-				{
-					"''''''###"
-					,
-					"#####'#.#"
-					,
-					"#   ###.#"
-					,
-					"#   $ #.#"
-					,
-					"# $  $  #"
-					,
-					"#####@# #"
-					,
-					"''''#   #"
-					,
-					"''''#####"
-				}
-				,
-				{
-					"##########"
-					,
-					"#        #"
-					,
-					"# ##.### #"
-					,
-					"# # $$ . #"
-					,
-					"# . @$## #"
-					,
-					"#####    #"
-					,
-					"''''######"
-				}
-				,
-				{
-					"#####'''''"
-					,
-					"#   ####''"
-					,
-					"# # # .#''"
-					,
-					"#    $ ###"
-					,
-					"### #$.  #"
-					,
-					"#   #@   #"
-					,
-					"# # ######"
-					,
-					"#   #'''''"
-					,
-					"#####'''''"
-				}
-				,
-				{
-					"'#####'"
-					,
-					"'#   #'"
-					,
-					"##   ##"
-					,
-					"# $$$ #"
-					,
-					"# .+. #"
-					,
-					"#######"
-				}
-				,
-				{
-					"#######'"
-					,
-					"#     #'"
-					,
-					"#@$$$ ##"
-					,
-					"#  #...#"
-					,
-					"##    ##"
-					,
-					"'######'"
-				}
-				,
-				{
-					"'''####"
-					,
-					"'''#  #"
-					,
-					"'''#@ #"
-					,
-					"####$.#"
-					,
-					"#   $.#"
-					,
-					"# # $.#"
-					,
-					"#    ##"
-					,
-					"######'"
-				}
-				,
-				{
-					"'''''####"
-					,
-					"'''''# @#"
-					,
-					"'''''#  #"
-					,
-					"###### .#"
-					,
-					"#   $  .#"
-					,
-					"#  $$# .#"
-					,
-					"#    ####"
-					,
-					"###  #'''"
-					,
-					"''####'''"
-				}
-				,
-				{
-					"#####"
-					,
-					"#@$.#"
-					,
-					"#####"
-				}
-				,
-				{
-					"######"
-					,
-					"#... #"
-					,
-					"#  $ #"
-					,
-					"# #$##"
-					,
-					"#  $ #"
-					,
-					"#  @ #"
-					,
-					"######"
-				}
-				,
-				{
-					"'######"
-					,
-					"##    #"
-					,
-					"#  ## #"
-					,
-					"# # $ #"
-					,
-					"#  * .#"
-					,
-					"## #@##"
-					,
-					"'#   #'"
-					,
-					"'#####'"
-				}
-				,
-				{
-					"''#######''"
-					,
-					"###     #''"
-					,
-					"# $ $   #''"
-					,
-					"# ### #####"
-					,
-					"# @ . .   #"
-					,
-					"#   ###   #"
-					,
-					"#####'#####"
-				}
-				,
-				{
-					"######''"
-					,
-					"#  @ #''"
-					,
-					"#  # ##'"
-					,
-					"# .#  ##"
-					,
-					"# .$$$ #"
-					,
-					"# .#   #"
-					,
-					"####   #"
-					,
-					"'''#####"
-				}
-				,
-				{
-					"######''"
-					,
-					"# @  #''"
-					,
-					"# $# #''"
-					,
-					"# $  #''"
-					,
-					"# $ ##''"
-					,
-					"### ####"
-					,
-					"'#  #  #"
-					,
-					"'#...  #"
-					,
-					"'#     #"
-					,
-					"'#######"
-				}
-				,
-				{
-					"''####''''"
-					,
-					"###  #####"
-					,
-					"#  $  @..#"
-					,
-					"# $    # #"
-					,
-					"### #### #"
-					,
-					"''#      #"
-					,
-					"''########"
-				}
-				,
-				{
-					"####''''"
-					,
-					"#  ###''"
-					,
-					"#    ###"
-					,
-					"#  $*@ #"
-					,
-					"### .# #"
-					,
-					"''#    #"
-					,
-					"''######"
-				}
-				,
-				{
-					"''####"
-					,
-					"### @#"
-					,
-					"#  $ #"
-					,
-					"#  *.#"
-					,
-					"#  *.#"
-					,
-					"#  $ #"
-					,
-					"###  #"
-					,
-					"''####"
-				}
-				,
-				{
-					"'#####'"
-					,
-					"##. .##"
-					,
-					"# * * #"
-					,
-					"#  #  #"
-					,
-					"# $ $ #"
-					,
-					"## @ ##"
-					,
-					"'#####'"
-				}
-				,
-				{
-					"''''''######"
-					,
-					"''''''#    #"
-					,
-					"''##### .  #"
-					,
-					"###  ###.  #"
-					,
-					"# $  $  . ##"
-					,
-					"# @$$ # . #'"
-					,
-					"##    #####'"
-					,
-					"'######'''''"
-				}
-				,
-				{
-					"########''"
-					,
-					"# @ #  #''"
-					,
-					"#      #''"
-					,
-					"#####$ #''"
-					,
-					"''''#  ###"
-					,
-					"'##'#$ ..#"
-					,
-					"'##'#  ###"
-					,
-					"''''####''"
-				}
-				,
-				{
-					"#####''"
-					,
-					"#   ###"
-					,
-					"#  $  #"
-					,
-					"##* . #"
-					,
-					"'#   @#"
-					,
-					"'######"
-				}
-				,
-				{
-					"''####''"
-					,
-					"''#  #''"
-					,
-					"''#@ #''"
-					,
-					"''#  #''"
-					,
-					"### ####"
-					,
-					"#    * #"
-					,
-					"#  $   #"
-					,
-					"#####. #"
-					,
-					"''''####"
-				}
-				,
-				{
-					"####'''"
-					,
-					"#  ####"
-					,
-					"#.*$  #"
-					,
-					"# .$# #"
-					,
-					"## @  #"
-					,
-					"'#   ##"
-					,
-					"'#####'"
-				}
-				,
-				{
-					"############'"
-					,
-					"#          #'"
-					,
-					"# ####### @##"
-					,
-					"# #         #"
-					,
-					"# #  $   #  #"
-					,
-					"# $$ #####  #"
-					,
-					"###  #'# ...#"
-					,
-					"''####'#    #"
-					,
-					"'''''''######"
-				}
-				,
-				{
-					"'#########"
-					,
-					"'#       #"
-					,
-					"##@##### #"
-					,
-					"#  #   # #"
-					,
-					"#  #   $.#"
-					,
-					"#  ##$##.#"
-					,
-					"##$##  #.#"
-					,
-					"#   $  #.#"
-					,
-					"#   #  ###"
-					,
-					"########''"
-				}
-				,
-				{
-					"########'"
-					,
-					"#      #'"
-					,
-					"# #### #'"
-					,
-					"# #...@#'"
-					,
-					"# ###$###"
-					,
-					"# #     #"
-					,
-					"#  $$ $ #"
-					,
-					"####   ##"
-					,
-					"'''#.###'"
-					,
-					"'''###'''"
-				}
-				,
-				{
-					"'''##########"
-					,
-					"####    ##  #"
-					,
-					"#  $$$....$@#"
-					,
-					"#      ###  #"
-					,
-					"#   ####'####"
-					,
-					"#####''''''''"
-				}
-				,
-				{
-					"#####'''####'''''''"
-					,
-					"#   ##### .#'''''''"
-					,
-					"#       $  ########"
-					,
-					"###  #### .$    @ #"
-					,
-					"''#  #''#  ####   #"
-					,
-					"''####''####''#####"
-				}
-				,
-				{
-					"'######'''"
-					,
-					"##    #'''"
-					,
-					"#   $ #'''"
-					,
-					"#  $$ #'''"
-					,
-					"### .#####"
-					,
-					"''##.# @ #"
-					,
-					"'''#.  $ #"
-					,
-					"'''#. ####"
-					,
-					"'''####'''"
-				}
-				,
-				{
-					"''######'"
-					,
-					"''#    #'"
-					,
-					"''#  $ #'"
-					,
-					"'####$ #'"
-					,
-					"## $ $ #'"
-					,
-					"#....# ##"
-					,
-					"#     @ #"
-					,
-					"##  #   #"
-					,
-					"'########"
-				}
-				,
-				{
-					"'''###'''"
-					,
-					"'''#@#'''"
-					,
-					"'###$###'"
-					,
-					"##  .  ##"
-					,
-					"#  # #  #"
-					,
-					"# #   # #"
-					,
-					"# #   # #"
-					,
-					"# #   # #"
-					,
-					"#  # #  #"
-					,
-					"## $ $ ##"
-					,
-					"'##. .##'"
-					,
-					"''#   #''"
-					,
-					"''#   #''"
-					,
-					"''#####''"
-				}
-				,
-				{
-					"#####''"
-					,
-					"#   ##'"
-					,
-					"# #  #'"
-					,
-					"#@$*.##"
-					,
-					"##  . #"
-					,
-					"'# $# #"
-					,
-					"'##   #"
-					,
-					"''#####"
-				}
-				,
-				{
-					"'####'''''"
-					,
-					"'#  ######"
-					,
-					"##    $  #"
-					,
-					"# .# $   #"
-					,
-					"# .#$#####"
-					,
-					"# .@ #''''"
-					,
-					"######''''"
-				}
-				,
-				{
-					"####''####'"
-					,
-					"#  ####  #'"
-					,
-					"#  #  #  #'"
-					,
-					"#  #    $##"
-					,
-					"#  . .#$  #"
-					,
-					"#@ ## # $ #"
-					,
-					"#   . #   #"
-					,
-					"###########"
-				}
-				,
-				{
-					"#####'''"
-					,
-					"# @ ####"
-					,
-					"#      #"
-					,
-					"# $ $$ #"
-					,
-					"##$##  #"
-					,
-					"#   ####"
-					,
-					"# ..  #'"
-					,
-					"##..  #'"
-					,
-					"'###  #'"
-					,
-					"'''####'"
-				}
-				,
-				{
-					"###########''"
-					,
-					"#     #   ###"
-					,
-					"# $@$ # .  .#"
-					,
-					"# ## ### ## #"
-					,
-					"# #       # #"
-					,
-					"# #   #   # #"
-					,
-					"# ######### #"
-					,
-					"#           #"
-					,
-					"#############"
-				}
-				,
-				{
-					"''####''''"
-					,
-					"'##  #####"
-					,
-					"'#  $  @ #"
-					,
-					"'#  $#   #"
-					,
-					"#### #####"
-					,
-					"#  #   #''"
-					,
-					"#    $ #''"
-					,
-					"# ..#  #''"
-					,
-					"#  .####''"
-					,
-					"#  ##'''''"
-					,
-					"####''''''"
-				}
-				,
-				{
-					"####''''"
-					,
-					"#  #####"
-					,
-					"# $$ $ #"
-					,
-					"#      #"
-					,
-					"## ## ##"
-					,
-					"#...#@#'"
-					,
-					"# ### ##"
-					,
-					"#      #"
-					,
-					"#  #   #"
-					,
-					"########"
-				}
-				,
-				{
-					"'####''''''"
-					,
-					"'#  #######"
-					,
-					"'#$ @#   .#"
-					,
-					"## #$$   .#"
-					,
-					"#  $  ##..#"
-					,
-					"#   # #####"
-					,
-					"###   #''''"
-					,
-					"''#####''''"
-				}
-				,
-				{
-					"'#######''"
-					,
-					"## ....##'"
-					,
-					"#   ######"
-					,
-					"#   $ $ @#"
-					,
-					"###  $ $ #"
-					,
-					"''###    #"
-					,
-					"''''######"
-				}
-				,
-				{
-					"'#####''''"
-					,
-					"##   #''''"
-					,
-					"#    #####"
-					,
-					"#  #.#   #"
-					,
-					"#@ #.# $ #"
-					,
-					"#  #.#  ##"
-					,
-					"#    #  #'"
-					,
-					"##  ##$$#'"
-					,
-					"'##     #'"
-					,
-					"''#  ####'"
-					,
-					"''####''''"
-				}
-				,
-				{
-					"##########'"
-					,
-					"# @ .... #'"
-					,
-					"#   ####$##"
-					,
-					"## #  $ $ #"
-					,
-					"'# $      #"
-					,
-					"'#   ######"
-					,
-					"'#####'''''"
-				}
-				,
-				{
-					"'#######'''"
-					,
-					"##     ##''"
-					,
-					"#  $ $  #''"
-					,
-					"# $ $ $ #''"
-					,
-					"## ### ####"
-					,
-					"'#@  .....#"
-					,
-					"'##     ###"
-					,
-					"''#######''"
-				}
-				,
-				{
-					"'#########"
-					,
-					"'#    #  #"
-					,
-					"## $#$#  #"
-					,
-					"#  .$.@  #"
-					,
-					"#  .#    #"
-					,
-					"##########"
-				}
-				,
-				{
-					"####''''''"
-					,
-					"#  #######"
-					,
-					"#  . ## .#"
-					,
-					"# $#    .#"
-					,
-					"## ## # .#"
-					,
-					"'#    #  #"
-					,
-					"'#### #  #"
-					,
-					"''# @$ ###"
-					,
-					"''# $$ #''"
-					,
-					"''#    #''"
-					,
-					"''######''"
-				}
-				,
-				{
-					"'#####"
-					,
-					"'#   #"
-					,
-					"'# . #"
-					,
-					"## * #"
-					,
-					"#  *##"
-					,
-					"#  @##"
-					,
-					"## $ #"
-					,
-					"'#   #"
-					,
-					"'#####"
-				}
-				,
-				{
-					"#####'''"
-					,
-					"#   ###'"
-					,
-					"# .   ##"
-					,
-					"##*#$  #"
-					,
-					"# .# $ #"
-					,
-					"# @## ##"
-					,
-					"#     #'"
-					,
-					"#######'"
-				}
-				,
-				{
-					"######''"
-					,
-					"#    ##'"
-					,
-					"# $ $ ##"
-					,
-					"## $$  #"
-					,
-					"'# #   #"
-					,
-					"'# ## ##"
-					,
-					"'#  . .#"
-					,
-					"'# @. .#"
-					,
-					"'#  ####"
-					,
-					"'####'''"
-				}
-				,
-				{
-					"########''''"
-					,
-					"#  ... #''''"
-					,
-					"#  ### ##'''"
-					,
-					"#  # $  #'''"
-					,
-					"## #@$  #'''"
-					,
-					"'# # $  #'''"
-					,
-					"'# ### #####"
-					,
-					"'#         #"
-					,
-					"'#   ###   #"
-					,
-					"'#####'#####"
-				}
-				,
-				{
-					"'''''''####"
-					,
-					"'#######  #"
-					,
-					"'# $      #"
-					,
-					"'#   $ $  #"
-					,
-					"'# ########"
-					,
-					"## # .  #''"
-					,
-					"#  # #  #''"
-					,
-					"#  @ . ##''"
-					,
-					"## # # #'''"
-					,
-					"'#   . #'''"
-					,
-					"'#######'''"
-				}
-				,
-				{
-					"''''####'"
-					,
-					"''###  ##"
-					,
-					"'## $   #"
-					,
-					"## $  # #"
-					,
-					"# @#$$  #"
-					,
-					"# ..  ###"
-					,
-					"# ..###''"
-					,
-					"#####''''"
-				}
-				,
-				{
-					"'''''####"
-					,
-					"######  #"
-					,
-					"#       #"
-					,
-					"#  ... .#"
-					,
-					"##$######"
-					,
-					"# $  #'''"
-					,
-					"#   $###'"
-					,
-					"##  $  #'"
-					,
-					"'## @  #'"
-					,
-					"''######'"
-				}
-				,
-				{
-					"'''''####''"
-					,
-					"'#'###  #''"
-					,
-					"'#'#    #''"
-					,
-					"'#'#  # #''"
-					,
-					"'#'#$ #.#''"
-					,
-					"'#'#  # #'#"
-					,
-					"'#'#$ #.#'#"
-					,
-					"'''#  # #'#"
-					,
-					"####$ #.#'#"
-					,
-					"# @     #'#"
-					,
-					"#   #  ##'#"
-					,
-					"########'''"
-				}
-				,
-				{
-					"##########"
-					,
-					"#   ##   #"
-					,
-					"# $  $@# #"
-					,
-					"#### # $ #"
-					,
-					"'''#.#  ##"
-					,
-					"'#'#.# $#'"
-					,
-					"'#'#.   #'"
-					,
-					"'#'#.   #'"
-					,
-					"'''######'"
-				}
-				,
-				{
-					"'########'"
-					,
-					"'#  @   #'"
-					,
-					"'# $  $ #'"
-					,
-					"### ## ###"
-					,
-					"#  $..$  #"
-					,
-					"#   ..   #"
-					,
-					"##########"
-				}
-				,
-				{
-					"###########"
-					,
-					"#    .##  #"
-					,
-					"# $$@..$$ #"
-					,
-					"#   ##.   #"
-					,
-					"###########"
-				}
-				,
-				{
-					"''####'''''''''"
-					,
-					"''#  #''''#####"
-					,
-					"''#  #''''#   #"
-					,
-					"''#  ######.# #"
-					,
-					"####  $    .  #"
-					,
-					"#   $$# ###.# #"
-					,
-					"#   #   #'#   #"
-					,
-					"#########'#@ ##"
-					,
-					"''''''''''#  #'"
-					,
-					"''''''''''####'"
-				}
-				,
-				{
-					"'#########'"
-					,
-					"##   #   ##"
-					,
-					"#    #    #"
-					,
-					"#  $ # $  #"
-					,
-					"#   *.*   #"
-					,
-					"####.@.####"
-					,
-					"#   *.*   #"
-					,
-					"#  $ # $  #"
-					,
-					"#    #    #"
-					,
-					"##   #   ##"
-					,
-					"'#########'"
-				}
-				,
-				{
-					"#########"
-					,
-					"# @ #   #"
-					,
-					"# $ $   #"
-					,
-					"##$### ##"
-					,
-					"#  ...  #"
-					,
-					"#   #   #"
-					,
-					"######  #"
-					,
-					"'''''####"
-				}
-				,
-				{
-					"########"
-					,
-					"#@     #"
-					,
-					"# .$$. #"
-					,
-					"# $..$ #"
-					,
-					"# $..$ #"
-					,
-					"# .$$. #"
-					,
-					"#      #"
-					,
-					"########"
-				}
-				,
-				{
-					"''######'''"
-					,
-					"''#    #'''"
-					,
-					"''#    #'''"
-					,
-					"#####  #'''"
-					,
-					"#   #.#####"
-					,
-					"#   $@$   #"
-					,
-					"#####.#   #"
-					,
-					"'''## ## ##"
-					,
-					"'''#   $.#'"
-					,
-					"'''#   ###'"
-					,
-					"'''#####'''"
-				}
-				,
-				{
-					"'''####'''''''"
-					,
-					"'''#  ########"
-					,
-					"#### $ $.....#"
-					,
-					"#   $   ######"
-					,
-					"#@### ###'''''"
-					,
-					"#  $  #'''''''"
-					,
-					"# $ # #'''''''"
-					,
-					"## #  #'''''''"
-					,
-					"'#    #'''''''"
-					,
-					"'######'''''''"
-				}
-				,
-				{
-					"#####'''''''''''"
-					,
-					"#   ##'####'''''"
-					,
-					"#  $ ### .#'''''"
-					,
-					"# $   $  .#'''''"
-					,
-					"## $#####.#'####"
-					,
-					"# $  #'# .###  #"
-					,
-					"#    #'# .#  @ #"
-					,
-					"###  #'#       #"
-					,
-					"''####'##     ##"
-					,
-					"''''''''#######'"
-				}
-				,
-				{
-					"'''''''''''''''#####''"
-					,
-					"'''''''''''''''#   #''"
-					,
-					"#######''####### # #''"
-					,
-					"#     #''#  #      #''"
-					,
-					"#  @  ####  #     ####"
-					,
-					"#  #    ....## ####  #"
-					,
-					"#    ##### ## $$ $ $ #"
-					,
-					"######'''#           #"
-					,
-					"'''''''''#  ##########"
-					,
-					"'''''''''####'''''''''"
-				}
-				,
-				{
-					"#######'"
-					,
-					"# @#  #'"
-					,
-					"#.$   #'"
-					,
-					"#. # $##"
-					,
-					"#.$#   #"
-					,
-					"#. # $ #"
-					,
-					"#  #   #"
-					,
-					"########"
-				}
-				,
-				{
-					"''#####''''''"
-					,
-					"''#   #''''''"
-					,
-					"''# # #######"
-					,
-					"''#  *  #   #"
-					,
-					"''## ##   # #"
-					,
-					"''#     #*  #"
-					,
-					"### # # # ###"
-					,
-					"#  *#$+   #''"
-					,
-					"# #   ## ##''"
-					,
-					"#   #  *  #''"
-					,
-					"####### # #''"
-					,
-					"''''''#   #''"
-					,
-					"''''''#####''"
-				}
-				,
-				{
-					"###########"
-					,
-					"#....#    #"
-					,
-					"#  #   $$ #"
-					,
-					"#  @  ##  #"
-					,
-					"#     ##$ #"
-					,
-					"######  $ #"
-					,
-					"'''''#    #"
-					,
-					"'''''######"
-				}
-				,
-				{
-					"''#####'"
-					,
-					"''# . ##"
-					,
-					"### $  #"
-					,
-					"# . $#@#"
-					,
-					"# #$ . #"
-					,
-					"#  $ ###"
-					,
-					"## . #''"
-					,
-					"'#####''"
-				}
-				,
-				{
-					"''''#####"
-					,
-					"#####   #"
-					,
-					"#    $  #"
-					,
-					"#  $#$#@#"
-					,
-					"### #   #"
-					,
-					"''# ... #"
-					,
-					"''###  ##"
-					,
-					"''''#  #'"
-					,
-					"''''####'"
-				}
-				,
-				{
-					"'####'####'"
-					,
-					"##  ###  ##"
-					,
-					"#   # #   #"
-					,
-					"#  *. .*  #"
-					,
-					"###$   $###"
-					,
-					"'#   @   #'"
-					,
-					"###$   $###"
-					,
-					"#  *. .*  #"
-					,
-					"#   # #   #"
-					,
-					"##  ###  ##"
-					,
-					"'####'####'"
-				}
-				,
-				{
-					"'########'"
-					,
-					"'#      #'"
-					,
-					"'#@   $ #'"
-					,
-					"## ###$ #'"
-					,
-					"# .....###"
-					,
-					"# $ $ $  #"
-					,
-					"###### # #"
-					,
-					"'''''#   #"
-					,
-					"'''''#####"
-				}
-				,
-				{
-					"########"
-					,
-					"#      #"
-					,
-					"# $*** #"
-					,
-					"# *  * #"
-					,
-					"# *  * #"
-					,
-					"# ***. #"
-					,
-					"#     @#"
-					,
-					"########"
-				}
-				,
-				{
-					"####'''''#####'"
-					,
-					"#  ###'''#   ##"
-					,
-					"#    #'''#$ $ #"
-					,
-					"#..# ##### #  #"
-					,
-					"#  @    # $ $ #"
-					,
-					"#..#         ##"
-					,
-					"##   #########'"
-					,
-					"'#####'''''''''"
-				}
-				,
-				{
-					"''#######"
-					,
-					"#'#     #"
-					,
-					"#'# # # #"
-					,
-					"''# @ $ #"
-					,
-					"### ### #"
-					,
-					"#   ### #"
-					,
-					"# $  ##.#"
-					,
-					"## $  #.#"
-					,
-					"'## $  .#"
-					,
-					"#'## $#.#"
-					,
-					"##'## #.#"
-					,
-					"###'#   #"
-					,
-					"###'#####"
-				}
-				,
-				{
-					"''####'''"
-					,
-					"''#  #'''"
-					,
-					"''# $####"
-					,
-					"###. .  #"
-					,
-					"# $ # $ #"
-					,
-					"#  . .###"
-					,
-					"####$ #''"
-					,
-					"'''# @#''"
-					,
-					"'''####''"
-				}
-				,
-				{
-					"######'''"
-					,
-					"#    ####"
-					,
-					"#    ...#"
-					,
-					"#    ...#"
-					,
-					"######  #"
-					,
-					"''#  #  #"
-					,
-					"''# $$ ##"
-					,
-					"''# @$  #"
-					,
-					"''# $$  #"
-					,
-					"''## $# #"
-					,
-					"'''#    #"
-					,
-					"'''######"
-				}
-				,
-				{
-					"'#####''''"
-					,
-					"##   ####'"
-					,
-					"#  $$$  #'"
-					,
-					"# #   $ #'"
-					,
-					"#   $## ##"
-					,
-					"###  #.  #"
-					,
-					"''#  #   #"
-					,
-					"'##### ###"
-					,
-					"'#   # ##'"
-					,
-					"'# @....#'"
-					,
-					"'#      #'"
-					,
-					"'#   #  #'"
-					,
-					"'########'"
-				}
-				,
-				{
-					"'''#####''''''"
-					,
-					"''##   #''''''"
-					,
-					"###  # #''''''"
-					,
-					"#    . #''''''"
-					,
-					"#  ## #####'''"
-					,
-					"#  . . #  ##''"
-					,
-					"#  # @ $   ###"
-					,
-					"#####. #  $  #"
-					,
-					"''''####  $  #"
-					,
-					"'''''''## $ ##"
-					,
-					"''''''''#  ##'"
-					,
-					"''''''''#  #''"
-					,
-					"''''''''####''"
-				}
-				,
-				{
-					"######'''''"
-					,
-					"#    ###'''"
-					,
-					"#  # $ #'''"
-					,
-					"#  $ @ #'''"
-					,
-					"## ## #####"
-					,
-					"#  #......#"
-					,
-					"# $ $ $ $ #"
-					,
-					"##   ######"
-					,
-					"'#####'''''"
-				}
-				,
-				{
-					"''''#####'''"
-					,
-					"#####   ####"
-					,
-					"#     #    #"
-					,
-					"#  #.....  #"
-					,
-					"##  ## # ###"
-					,
-					"'#$$@$$$ #''"
-					,
-					"'#     ###''"
-					,
-					"'#######''''"
-				}
-				,
-				{
-					"'''''#####"
-					,
-					"'''###   #"
-					,
-					"####.....#"
-					,
-					"# @$$$$$ #"
-					,
-					"#     # ##"
-					,
-					"#####   #'"
-					,
-					"''''#####'"
-				}
-				,
-				{
-					"'####'####'"
-					,
-					"'#  ###  ##"
-					,
-					"'#      @ #"
-					,
-					"##..###   #"
-					,
-					"#      #  #"
-					,
-					"#...#$  # #"
-					,
-					"# ## $$ $ #"
-					,
-					"#  $    ###"
-					,
-					"####  ###''"
-					,
-					"'''####''''"
-				}
-				,
-				{
-					"'#####''''"
-					,
-					"##   ##'''"
-					,
-					"#  $  ##''"
-					,
-					"# $ $  ##'"
-					,
-					"###$# . ##"
-					,
-					"''# # .  #"
-					,
-					"'## ##.  #"
-					,
-					"'# @  . ##"
-					,
-					"'#   #  #'"
-					,
-					"'########'"
-				}
-				,
-				{
-					"''######'"
-					,
-					"''#    ##"
-					,
-					"'## ##  #"
-					,
-					"'# $$ # #"
-					,
-					"'# @$ # #"
-					,
-					"'#    # #"
-					,
-					"#### #  #"
-					,
-					"#  ... ##"
-					,
-					"#     ##'"
-					,
-					"#######''"
-				}
-				,
-				{
-					"''''''####'"
-					,
-					"#######  #'"
-					,
-					"# $      ##"
-					,
-					"# $#####  #"
-					,
-					"#  @#  #  #"
-					,
-					"## ##..   #"
-					,
-					"#  # ..####"
-					,
-					"# $  ###'''"
-					,
-					"# $###'''''"
-					,
-					"#  #'''''''"
-					,
-					"####'''''''"
-				}
-				,
-				{
-					"'######''''"
-					,
-					"'# .  #''''"
-					,
-					"##$.# #''''"
-					,
-					"#  *  #''''"
-					,
-					"# ..###''''"
-					,
-					"##$ #'#####"
-					,
-					"## ##'#   #"
-					,
-					"#  #### # #"
-					,
-					"#   @ $ $ #"
-					,
-					"##  #     #"
-					,
-					"'##########"
-				}
-				,
-				{
-					"#####''''''"
-					,
-					"#   ###''''"
-					,
-					"# #$  #''''"
-					,
-					"# $   #''''"
-					,
-					"# $ $ #''''"
-					,
-					"# $#  #''''"
-					,
-					"#  @###''''"
-					,
-					"## ########"
-					,
-					"#      ...#"
-					,
-					"#         #"
-					,
-					"########..#"
-					,
-					"'''''''####"
-				}
-				,
-				{
-					"########'''''''"
-					,
-					"#      #'''''''"
-					,
-					"# $ $$ ########"
-					,
-					"##### @##. .  #"
-					,
-					"''''#$  # .   #"
-					,
-					"''''#   #. . ##"
-					,
-					"''''#$# ## # #'"
-					,
-					"''''#        #'"
-					,
-					"''''#  ###  ##'"
-					,
-					"''''#  #'####''"
-					,
-					"''''####'''''''"
-				}
-				,
-				{
-					"##############"
-					,
-					"#      #     #"
-					,
-					"# $@$$ # . ..#"
-					,
-					"## ## ### ## #"
-					,
-					"'# #       # #"
-					,
-					"'# #   #   # #"
-					,
-					"'# ######### #"
-					,
-					"'#           #"
-					,
-					"'#############"
-				}
-				,
-				{
-					"''''''#####''"
-					,
-					"''''''#   ##'"
-					,
-					"''''''# $  #'"
-					,
-					"######## #@##"
-					,
-					"# .  # $ $  #"
-					,
-					"#        $# #"
-					,
-					"#...#####   #"
-					,
-					"#####'''#####"
-				}
-				,
-				{
-					"'###########"
-					,
-					"##.......  #"
-					,
-					"# $$$$$$$@ #"
-					,
-					"#   # # # ##"
-					,
-					"# # #     #'"
-					,
-					"#   #######'"
-					,
-					"#####'''''''"
-				}
-				,
-				{
-					"##'####'''"
-					,
-					"####  ####"
-					,
-					"'# $ $.  #"
-					,
-					"## #  .$ #"
-					,
-					"#   ##.###"
-					,
-					"#  $  . #'"
-					,
-					"# @ #   #'"
-					,
-					"#  ######'"
-					,
-					"####''''''"
-				}
-				,
-				{
-					"''#########"
-					,
-					"###   #   #"
-					,
-					"# * $ . . #"
-					,
-					"#   $ ## ##"
-					,
-					"####*#   #'"
-					,
-					"'#  @  ###'"
-					,
-					"'#   ###'''"
-					,
-					"'#####'''''"
-				}
-				,
-				{
-					"''#########"
-					,
-					"### @ #   #"
-					,
-					"# * $ *.. #"
-					,
-					"#   $ #   #"
-					,
-					"####*#  ###"
-					,
-					"'#     ##''"
-					,
-					"'#   ###'''"
-					,
-					"'#####'''''"
-				}
-				,
-				{
-					"#####''#####"
-					,
-					"#   ####.. #"
-					,
-					"# $$$      #"
-					,
-					"#   $#  .. #"
-					,
-					"### @#  ## #"
-					,
-					"''#  ##    #"
-					,
-					"''##########"
-				}
-				,
-				{
-					"#####''"
-					,
-					"#   #''"
-					,
-					"# . #''"
-					,
-					"#.@.###"
-					,
-					"##.#  #"
-					,
-					"#  $  #"
-					,
-					"# $   #"
-					,
-					"##$$  #"
-					,
-					"'#  ###"
-					,
-					"'#  #''"
-					,
-					"'####''"
-				}
-				,
-				{
-					"####''''''"
-					,
-					"# @###''''"
-					,
-					"#.*  #####"
-					,
-					"#..#$$ $ #"
-					,
-					"##       #"
-					,
-					"'# # ##  #"
-					,
-					"'#   #####"
-					,
-					"'#####''''"
-				}
-				,
-				{
-					"'#######''"
-					,
-					"'#  . .###"
-					,
-					"'# . . . #"
-					,
-					"### #### #"
-					,
-					"#  @$  $ #"
-					,
-					"#  $$  $ #"
-					,
-					"####   ###"
-					,
-					"'''#####''"
-				}
-				,
-				{
-					"''''''''####"
-					,
-					"#########  #"
-					,
-					"#   ## $   #"
-					,
-					"#  $   ##  #"
-					,
-					"### #. .# ##"
-					,
-					"''# #. .#$##"
-					,
-					"''# #   #  #"
-					,
-					"''# @ $    #"
-					,
-					"''#  #######"
-					,
-					"''####''''''"
-				}
-				,
-				{
-					"#######''''"
-					,
-					"#     #####"
-					,
-					"# $$#@##..#"
-					,
-					"# #       #"
-					,
-					"#  $ # #  #"
-					,
-					"#### $  ..#"
-					,
-					"'''########"
-				}
-				,
-				{
-					"'#######'"
-					,
-					"'#     #'"
-					,
-					"## ###$##"
-					,
-					"#.$   @ #"
-					,
-					"# .. #$ #"
-					,
-					"#.##  $ #"
-					,
-					"#    ####"
-					,
-					"######'''"
-				}
-				,
-				{
-					"'''''''####''"
-					,
-					"''''''##  ###"
-					,
-					"####''#  $  #"
-					,
-					"#  #### $ $ #"
-					,
-					"#   ..# #$  #"
-					,
-					"#  #   @  ###"
-					,
-					"## #..# ###''"
-					,
-					"'# ## # #''''"
-					,
-					"'#      #''''"
-					,
-					"'########''''"
-				}
-				,
-				{
-					"''####''''''"
-					,
-					"###  #''''''"
-					,
-					"#    ###''''"
-					,
-					"# # . .#''''"
-					,
-					"# @ ...####'"
-					,
-					"# # # #   ##"
-					,
-					"#   # $$   #"
-					,
-					"#####  $ $ #"
-					,
-					"''''##$ # ##"
-					,
-					"'''''#    #'"
-					,
-					"'''''######'"
-				}
-				,
-				{
-					"'####'''''''''''"
-					,
-					"##  ####''''''''"
-					,
-					"#   ...#''''''''"
-					,
-					"#   ...#''''''''"
-					,
-					"#   # ##''''''''"
-					,
-					"#   #@ ####'####"
-					,
-					"##### $   ###  #"
-					,
-					"''''#  ##$ $   #"
-					,
-					"'''###     $$  #"
-					,
-					"'''# $  ##   ###"
-					,
-					"'''#    ######''"
-					,
-					"'''######'''''''"
-				}
-				,
-				{
-					"########'#####"
-					,
-					"#  #   ###   #"
-					,
-					"#      ## $  #"
-					,
-					"#.# @ ## $  ##"
-					,
-					"#.#   # $  ##'"
-					,
-					"#.#    $  ##''"
-					,
-					"#. ## #####'''"
-					,
-					"##    #'''''''"
-					,
-					"'######'''''''"
-				}
-				,
-				{
-					"''########"
-					,
-					"''#  # . #"
-					,
-					"''#   .*.#"
-					,
-					"''#  # * #"
-					,
-					"####$##.##"
-					,
-					"#      $ #"
-					,
-					"# $ ## $ #"
-					,
-					"#   @#   #"
-					,
-					"##########"
-				}
-				,
-				{
-					"''####'''"
-					,
-					"''#  #'''"
-					,
-					"''#  ####"
-					,
-					"###$.$  #"
-					,
-					"#  .@.  #"
-					,
-					"#  $.$###"
-					,
-					"####  #''"
-					,
-					"'''#  #''"
-					,
-					"'''####''"
-				}
-				,
-				{
-					"####'''''"
-					,
-					"#  ####''"
-					,
-					"# $   #''"
-					,
-					"# .#  #''"
-					,
-					"# $# ##''"
-					,
-					"# .  #'''"
-					,
-					"#### #'''"
-					,
-					"'''# #'''"
-					,
-					"'### ###'"
-					,
-					"'#  $  #'"
-					,
-					"## #$# ##"
-					,
-					"# $ @ $ #"
-					,
-					"# ..#.. #"
-					,
-					"###   ###"
-					,
-					"''#####''"
-				}
-				,
-				{
-					"'''####'''''"
-					,
-					"'###  #####'"
-					,
-					"'# $$ #   #'"
-					,
-					"'# $ . .$$##"
-					,
-					"'# .. #. $ #"
-					,
-					"### #** .  #"
-					,
-					"#  . **# ###"
-					,
-					"# $ .# .. #'"
-					,
-					"##$$.@. $ #'"
-					,
-					"'#   # $$ #'"
-					,
-					"'#####  ###'"
-					,
-					"'''''####'''"
-				}
-				,
-				{
-					"'''#####'''"
-					,
-					"'''# @ #'''"
-					,
-					"''##   ##''"
-					,
-					"###.$$$.###"
-					,
-					"#  $...$  #"
-					,
-					"#  $.#.$  #"
-					,
-					"#  $...$  #"
-					,
-					"###.$$$.###"
-					,
-					"''##   ##''"
-					,
-					"'''#   #'''"
-					,
-					"'''#####'''"
-				}
-				,
-				{
-					"'#######'"
-					,
-					"##  .  ##"
-					,
-					"# .$$$. #"
-					,
-					"# $. .$ #"
-					,
-					"#.$ @ $.#"
-					,
-					"# $. .$ #"
-					,
-					"# .$$$. #"
-					,
-					"##  .  ##"
-					,
-					"'#######'"
-				}
-				,
-				{
-					"'''''''#####"
-					,
-					"########   #"
-					,
-					"#.   .  @#.#"
-					,
-					"#  ###     #"
-					,
-					"## $  #    #"
-					,
-					"'# $   #####"
-					,
-					"'# $#  #''''"
-					,
-					"'## #  #''''"
-					,
-					"''#   ##''''"
-					,
-					"''#####'''''"
-				}
-				,
-				{
-					"###########''''"
-					,
-					"#  .  #   #''''"
-					,
-					"# #.  @   #''''"
-					,
-					"#  #..# #######"
-					,
-					"##  ## $$ $ $ #"
-					,
-					"'##           #"
-					,
-					"''#############"
-				}
-				,
-				{
-					"'####'''''"
-					,
-					"##  ###'''"
-					,
-					"#@$   #'''"
-					,
-					"### $ #'''"
-					,
-					"'#  ######"
-					,
-					"'#  $....#"
-					,
-					"'#  # ####"
-					,
-					"'## # #'''"
-					,
-					"'# $# #'''"
-					,
-					"'#    #'''"
-					,
-					"'#  ###'''"
-					,
-					"'####'''''"
-				}
-				,
-				{
-					"'''''####''''''"
-					,
-					"'#####  #''''''"
-					,
-					"'#     $#######"
-					,
-					"## ## ..#  ...#"
-					,
-					"# $ $$#$  @   #"
-					,
-					"#        ###  #"
-					,
-					"#######  #'####"
-					,
-					"''''''####'''''"
-				}
-				,
-				{
-					"'''####'''''"
-					,
-					"'''#  #'''''"
-					,
-					"'###  #'''''"
-					,
-					"##  $ #'''''"
-					,
-					"#   # #'''''"
-					,
-					"# #$$ ######"
-					,
-					"# #   #   .#"
-					,
-					"#  $  @   .#"
-					,
-					"###  ####..#"
-					,
-					"''####''####"
-				}
-				,
-				{
-					"######'####''''"
-					,
-					"#     #    #'''"
-					,
-					"#.##  #$##  #''"
-					,
-					"#   #     #  #'"
-					,
-					"#$  # ###  #  #"
-					,
-					"# #      #  # #"
-					,
-					"# # ####  # # #"
-					,
-					"#. @    $ * . #"
-					,
-					"###############"
-				}
-				,
-				{
-					"#############"
-					,
-					"#.# @#  #   #"
-					,
-					"#.#$$   # $ #"
-					,
-					"#.#  # $#   #"
-					,
-					"#.# $#  # $##"
-					,
-					"#.#  # $#  #'"
-					,
-					"#.# $#  # $#'"
-					,
-					"#..  # $   #'"
-					,
-					"#..  #  #  #'"
-					,
-					"############'"
-				}
-				,
-				{
-					"'############################"
-					,
-					"'#                          #"
-					,
-					"'# ######################## #"
-					,
-					"'# #                      # #"
-					,
-					"'# # #################### # #"
-					,
-					"'# # #                  # # #"
-					,
-					"'# # # ################ # # #"
-					,
-					"'# # # #              # # # #"
-					,
-					"'# # # # ############ # # # #"
-					,
-					"'# # # # #            # # # #"
-					,
-					"'# # # # # ############ # # #"
-					,
-					"'# # # # #              # # #"
-					,
-					"'# # # # ################ # #"
-					,
-					"'# # # #                  # #"
-					,
-					"##$# # #################### #"
-					,
-					"#. @ #                      #"
-					,
-					"#############################"
-				}
-				,
-				{
-					"''''######'''''''''''''''####'"
-					,
-					"#####*#  #################  ##"
-					,
-					"#   ###                      #"
-					,
-					"#        ########  ####  ##  #"
-					,
-					"### ####     #  ####  ####  ##"
-					,
-					"#*# # .# # # #     #     #   #"
-					,
-					"#*# #  #     # ##  # ##  ##  #"
-					,
-					"###    ### ###  # ##  # ##  ##"
-					,
-					"'#   # #*#      #     # #    #"
-					,
-					"'#   # ###  #####  #### #    #"
-					,
-					"'#####   #####  ####### ######"
-					,
-					"'#   # # #**#               #'"
-					,
-					"## # #   #**#  #######  ##  #'"
-					,
-					"#    #########  #    ##### ###"
-					,
-					"# #             # $        #*#"
-					,
-					"#   #########  ### @#####  #*#"
-					,
-					"#####'''''''####'####'''######"
-				}
-		});
+		LevelSet(String name, String file, int[] offsets) {
+			this.name = name;
+			this.file = file;
+			this.offsets = offsets;
+		}
+	}
 
-		// level: Sasquatch IV
-		levelMaps.add(new String[][] {
-				{
-					"'''####''''"
-					,
-					"####  #''''"
-					,
-					"#     ####'"
-					,
-					"# $ #  . ##"
-					,
-					"#  #   .  #"
-					,
-					"## #$$#.  #"
-					,
-					"##    #####"
-					,
-					"# @ ###''''"
-					,
-					"#   #''''''"
-					,
-					"#####''''''"
-				}
-				,
-				{
-					"'''''#####"
-					,
-					"######   #"
-					,
-					"#  $     #"
-					,
-					"#  $### ##"
-					,
-					"##.$. . .#"
-					,
-					"'# $#    #"
-					,
-					"'# @######"
-					,
-					"'#  #'''''"
-					,
-					"'####'''''"
-				}
-				,
-				{
-					"''''#####"
-					,
-					"'####   #"
-					,
-					"'# @ $# #"
-					,
-					"'# #....#"
-					,
-					"##$ $ $ #"
-					,
-					"#  ### ##"
-					,
-					"#      #'"
-					,
-					"#####  #'"
-					,
-					"''''####'"
-				}
-				,
-				{
-					"''######'"
-					,
-					"''#  . ##"
-					,
-					"''# #*  #"
-					,
-					"''# $.$ #"
-					,
-					"''## *. #"
-					,
-					"'## $.@ #"
-					,
-					"## # .$ #"
-					,
-					"#  $$.# #"
-					,
-					"#      ##"
-					,
-					"########'"
-				}
-				,
-				{
-					"'####'''"
-					,
-					"'#  #'''"
-					,
-					"## .###'"
-					,
-					"#  .$ #'"
-					,
-					"#* *  ##"
-					,
-					"# $.$$ #"
-					,
-					"#  .   #"
-					,
-					"###*####"
-					,
-					"''#@#'''"
-					,
-					"''###'''"
-				}
-				,
-				{
-					"''####'''''''''''"
-					,
-					"###  #'''''''''''"
-					,
-					"#  ..#'#######'''"
-					,
-					"# #..#'#     ####"
-					,
-					"# #. ###   $    #"
-					,
-					"# #.   # $ $ $$ #"
-					,
-					"# #  @ ### $##  #"
-					,
-					"#           #####"
-					,
-					"##  #########''''"
-					,
-					"'####''''''''''''"
-				}
-				,
-				{
-					"'###############'"
-					,
-					"## $.       .$ ##"
-					,
-					"#  # ####### #  #"
-					,
-					"# #           # #"
-					,
-					"#  .***$#$***.  #"
-					,
-					"###     #     ###"
-					,
-					"''# ####@#### #''"
-					,
-					"''#           #''"
-					,
-					"''#############''"
-				}
-				,
-				{
-					"#######################"
-					,
-					"#      #   #   #      #"
-					,
-					"# $@$$ # $     # .. ..#"
-					,
-					"## ## ### ### ### ## ##"
-					,
-					"'# #       #       # #'"
-					,
-					"'# #   #   #   #   # #'"
-					,
-					"'# ################# #'"
-					,
-					"'#                   #'"
-					,
-					"'#####################'"
-				}
-				,
-				{
-					"###########'"
-					,
-					"#@  #  #  #'"
-					,
-					"#  $#$   $#'"
-					,
-					"##  #..#  #'"
-					,
-					"'#  #..#  #'"
-					,
-					"'#  #..#  ##"
-					,
-					"'#$   $#$  #"
-					,
-					"'#  #  #   #"
-					,
-					"'###########"
-				}
-				,
-				{
-					"######''"
-					,
-					"#    #''"
-					,
-					"# .$ #''"
-					,
-					"# ** #''"
-					,
-					"##$. #''"
-					,
-					"'#  ####"
-					,
-					"'# ##  #"
-					,
-					"'#  #  #"
-					,
-					"'#     #"
-					,
-					"'#.**$@#"
-					,
-					"'#  #  #"
-					,
-					"'#######"
-				}
-				,
-				{
-					"''########"
-					,
-					"'##.... @#"
-					,
-					"'#  # .  #"
-					,
-					"## #  # ##"
-					,
-					"#  #$ # #'"
-					,
-					"# $   # ##"
-					,
-					"###$ ##  #"
-					,
-					"''#   $$ #"
-					,
-					"''#   #  #"
-					,
-					"''########"
-				}
-				,
-				{
-					"'######'''"
-					,
-					"'#    #'''"
-					,
-					"'#    ###'"
-					,
-					"'##*#   #'"
-					,
-					"## . ## #'"
-					,
-					"#     # ##"
-					,
-					"# #.#  $ #"
-					,
-					"# $.###$ #"
-					,
-					"### ##   #"
-					,
-					"''#   $$@#"
-					,
-					"'##..##  #"
-					,
-					"'#   #####"
-					,
-					"'#   #''''"
-					,
-					"'#####''''"
-				}
-				,
-				{
-					"''''''####''"
-					,
-					"''#####  #''"
-					,
-					"###.  #$ ##'"
-					,
-					"#  *   .*.#'"
-					,
-					"# $.$ #$  #'"
-					,
-					"### ###   #'"
-					,
-					"'#   ### ###"
-					,
-					"'#  $# $.$ #"
-					,
-					"'#.*.@  *  #"
-					,
-					"'## $#  .###"
-					,
-					"''#  #####''"
-					,
-					"''####''''''"
-				}
-				,
-				{
-					"'######''''"
-					,
-					"'#    #####"
-					,
-					"'# $ *#   #"
-					,
-					"'#  * * $ #"
-					,
-					"###* . *  #"
-					,
-					"# * .@. * #"
-					,
-					"#  * . *###"
-					,
-					"# $ * *  #'"
-					,
-					"#   #* $ #'"
-					,
-					"#####    #'"
-					,
-					"''''######'"
-				}
-				,
-				{
-					"###########"
-					,
-					"#    *    #"
-					,
-					"# $$ ## $ #"
-					,
-					"#  $..#$$ #"
-					,
-					"# ##*.*.  #"
-					,
-					"#*#..@..#*#"
-					,
-					"#  .*.*## #"
-					,
-					"# $$#..$  #"
-					,
-					"# $ ## $$ #"
-					,
-					"#    *    #"
-					,
-					"###########"
-				}
-				,
-				{
-					"#############"
-					,
-					"#     $   . #"
-					,
-					"#.$ $### *$ #"
-					,
-					"# ** ## .*  #"
-					,
-					"#  .$#..$ $ #"
-					,
-					"# # .$.$### #"
-					,
-					"#$##..@..##$#"
-					,
-					"# ###$.$. # #"
-					,
-					"# $ $..#$.  #"
-					,
-					"#  *. ## ** #"
-					,
-					"# $* ###$ $.#"
-					,
-					"# .   $     #"
-					,
-					"#############"
-				}
-				,
-				{
-					"###############"
-					,
-					"#             #"
-					,
-					"# $.$.$.$.$.$ #"
-					,
-					"# .$.$.#.$.$. #"
-					,
-					"# $.$.$ $.$.$ #"
-					,
-					"# .$.$.#.$.$. #"
-					,
-					"# $.$.$ $.$.$ #"
-					,
-					"# .# # @ # #. #"
-					,
-					"# $.$.$ $.$.$ #"
-					,
-					"# .$.$.#.$.$. #"
-					,
-					"# $.$.$ $.$.$ #"
-					,
-					"# .$.$.#.$.$. #"
-					,
-					"# $.$.$.$.$.$ #"
-					,
-					"#             #"
-					,
-					"###############"
-				}
-				,
-				{
-					"'###############'"
-					,
-					"##  #   #   #  ##"
-					,
-					"#   **.. ..**   #"
-					,
-					"#  *   $$$   *  #"
-					,
-					"##* .### ###. *##"
-					,
-					"# * ## $@$ ## * #"
-					,
-					"# . #       # . #"
-					,
-					"# .$#$ ### $#$. #"
-					,
-					"## $   #'#   $ ##"
-					,
-					"# .$#$ ### $#$. #"
-					,
-					"# . #       # . #"
-					,
-					"# * ## $ $ ## * #"
-					,
-					"##* .### ###. *##"
-					,
-					"#  *   $$$   *  #"
-					,
-					"#   **.. ..**   #"
-					,
-					"##  #   #   #  ##"
-					,
-					"'###############'"
-				}
-				,
-				{
-					"'#########'"
-					,
-					"'#   *   #'"
-					,
-					"'# ## ## #'"
-					,
-					"'#  * *  #'"
-					,
-					"###  #  ###"
-					,
-					"#  .$#$.  #"
-					,
-					"# #  @  # #"
-					,
-					"#  .$#$.  #"
-					,
-					"###  #  ###"
-					,
-					"''#######''"
-				}
-				,
-				{
-					"####'''''''''"
-					,
-					"#  #########'"
-					,
-					"#    ##    #'"
-					,
-					"# $$$#     #'"
-					,
-					"##...# #$$$#'"
-					,
-					"'#...# #...#'"
-					,
-					"'#$$$  #...##"
-					,
-					"'#    ##$$$ #"
-					,
-					"'####### @  #"
-					,
-					"'''''''######"
-				}
-				,
-				{
-					"''#########''"
-					,
-					"'##   #   #''"
-					,
-					"## $# # #$###"
-					,
-					"#   #. .#   #"
-					,
-					"# $ *.@.* $ #"
-					,
-					"#   #. .#   #"
-					,
-					"###$# # #$ ##"
-					,
-					"''#   #   ##'"
-					,
-					"''#########''"
-				}
-				,
-				{
-					"''####''####''''"
-					,
-					"''#  ####  ####'"
-					,
-					"###     $ $   #'"
-					,
-					"#    # $  *...##"
-					,
-					"# $ #'#### #.. #"
-					,
-					"##   #         #"
-					,
-					"'# $$ $$@ #...##"
-					,
-					"'#   #  #######'"
-					,
-					"'####   #'#'''''"
-					,
-					"''''#####'''''''"
-				}
-				,
-				{
-					"'''''''####'"
-					,
-					"''######  #'"
-					,
-					"'##  $  $ #'"
-					,
-					"##  $ #$  #'"
-					,
-					"#  $ #   $#'"
-					,
-					"#   # ##  ##"
-					,
-					"###$  ..#  #"
-					,
-					"''#  #*...@#"
-					,
-					"''#   ..####"
-					,
-					"''#  ####'''"
-					,
-					"''####''''''"
-				}
-				,
-				{
-					"''''''''''####''"
-					,
-					"''''''''''#  ###"
-					,
-					"''''''''''#    #"
-					,
-					"'''########$$  #"
-					,
-					"'''#       $  ##"
-					,
-					"'''# #### $$ ##'"
-					,
-					"####....# $  #''"
-					,
-					"#   ...# $$  #''"
-					,
-					"#  #...# $ ###''"
-					,
-					"# @## ## $ #''''"
-					,
-					"#         ##''''"
-					,
-					"#  #  #####'''''"
-					,
-					"#######'''''''''"
-				}
-				,
-				{
-					"'###############'"
-					,
-					"##  ....#      ##"
-					,
-					"#  # #     ###  #"
-					,
-					"#   ....# #   # #"
-					,
-					"#      # $ $  # #"
-					,
-					"##     # $@$ #  #"
-					,
-					"'####### $ $ #  #"
-					,
-					"''##*#   $ $  # #"
-					,
-					"'''### ####   # #"
-					,
-					"''''##     ###  #"
-					,
-					"'''''#####     ##"
-					,
-					"'''''''''#######'"
-				}
-				,
-				{
-					"'''#####'#####"
-					,
-					"'''# @ ###   #"
-					,
-					"'''# # $     #"
-					,
-					"#### #$ $ ####"
-					,
-					"#    # $ $#'''"
-					,
-					"# ### $ $ #'''"
-					,
-					"#.......# ##''"
-					,
-					"#### ## #  #''"
-					,
-					"'''#    #  #''"
-					,
-					"'''######  #''"
-					,
-					"''''''''####''"
-				}
-				,
-				{
-					"''''####'''''"
-					,
-					"''###  ###'''"
-					,
-					"###      ##''"
-					,
-					"# $$#$$$@ ##'"
-					,
-					"#     #    #'"
-					,
-					"# ###  #$$$#'"
-					,
-					"#    #   # #'"
-					,
-					"####   .## #'"
-					,
-					"'''####.## ##"
-					,
-					"''''## .##  #"
-					,
-					"''''##...   #"
-					,
-					"''''#  .#####"
-					,
-					"''''#  .#''''"
-					,
-					"''''#####''''"
-				}
-				,
-				{
-					"'####''''''''''"
-					,
-					"'#  #####''''''"
-					,
-					"'#  $ $ #''''''"
-					,
-					"'#* . . #''''''"
-					,
-					"'#  ########'''"
-					,
-					"'#      #  #'''"
-					,
-					"'#### $    #'''"
-					,
-					"'#   #$### #'''"
-					,
-					"'# @$#   # ####"
-					,
-					"'# $$ $$   #  #"
-					,
-					"'#   # ## $ * #"
-					,
-					"## ###.....#. #"
-					,
-					"#...  ###$# . #"
-					,
-					"# $ $       . #"
-					,
-					"########  #####"
-					,
-					"'''''''####''''"
-				}
-				,
-				{
-					"'#'##'####''"
-					,
-					"##'#''#  ###"
-					,
-					"'''#'##$   #"
-					,
-					"####'# * # #"
-					,
-					"#''''# * # #"
-					,
-					"''#### * # #"
-					,
-					"###    . # #"
-					,
-					"#@#.****$# #"
-					,
-					"#        # #"
-					,
-					"# #####  # #"
-					,
-					"#      ##  #"
-					,
-					"######    ##"
-					,
-					"'''''######'"
-				}
-				,
-				{
-					"''''''#####''''''''''''"
-					,
-					"''''''#   #######''''''"
-					,
-					"''''''#    ##   ##'''''"
-					,
-					"''''''#.#       ###''''"
-					,
-					"''#####.#  # #######'''"
-					,
-					"'##  ##.####. ##   ##''"
-					,
-					"##     .....@.#  $ ###'"
-					,
-					"#   ###.#  #.#  $ $  ##"
-					,
-					"#     #. #  .# $ $ $  #"
-					,
-					"#   # #.  ## #$ $ $   #"
-					,
-					"##  # #.   # $ $ $ ####"
-					,
-					"'###  #.   #  $ $ ##'''"
-					,
-					"'''# #     # $ $  #''''"
-					,
-					"'''# #    ######$##''''"
-					,
-					"'''#  ####       #'''''"
-					,
-					"'''##      #######'''''"
-					,
-					"''''########'''''''''''"
-				}
-				,
-				{
-					"'#############'"
-					,
-					"'#     @     #'"
-					,
-					"'#**.*****.**#'"
-					,
-					"'#  $     $  #'"
-					,
-					"'#   # ###   #'"
-					,
-					"'#####   #####'"
-					,
-					"######## ######"
-					,
-					"#             #"
-					,
-					"#**.*******.**#"
-					,
-					"#  $       $  #"
-					,
-					"#   #######   #"
-					,
-					"#####'''''#####"
-				}
-				,
-				{
-					"'''''''''''####'''"
-					,
-					"'''''''''###  #'''"
-					,
-					"''######## $$ ##''"
-					,
-					"###   #   .*.$ #''"
-					,
-					"#  $$ # #....$ #''"
-					,
-					"# $.. # $ $    #''"
-					,
-					"##$*. ##  ######''"
-					,
-					"'# ..$## ###   #''"
-					,
-					"'## .  #    $# #''"
-					,
-					"''# #$   @#  . ##'"
-					,
-					"''#   ### ##$.. #'"
-					,
-					"''######  ## .*$##"
-					,
-					"''#    $ $ # ..$ #"
-					,
-					"''# $....# # $$  #"
-					,
-					"''# $.*.   #   ###"
-					,
-					"''## $$ ########''"
-					,
-					"'''#  ###'''''''''"
-					,
-					"'''####'''''''''''"
-				}
-				,
-				{
-					"''''''#######''''''"
-					,
-					"'''''##     ##'''''"
-					,
-					"'''''#  *.*  #'''''"
-					,
-					"'''''# #$ $# #'''''"
-					,
-					"'#####  *.*  #####'"
-					,
-					"##   ##     ##   ##"
-					,
-					"#  #  ###.###  #  #"
-					,
-					"# *$* # $*$ # *$* #"
-					,
-					"# . . ..$@$.. . . #"
-					,
-					"# *$* # $*$ # *$* #"
-					,
-					"#  #  ###.###  #  #"
-					,
-					"##   ##     ##   ##"
-					,
-					"'#####  *.*  #####'"
-					,
-					"'''''# #$ $# #'''''"
-					,
-					"'''''#  *.*  #'''''"
-					,
-					"'''''##     ##'''''"
-					,
-					"''''''#######''''''"
-				}
-				,
-				{
-					"'''''#####'''''"
-					,
-					"'''''# @ #'''''"
-					,
-					"'''''# $ #'''''"
-					,
-					"'''''# $ #'''''"
-					,
-					"''''## $ ##''''"
-					,
-					"#####.*.*.#####"
-					,
-					"#    *. .*    #"
-					,
-					"# $$$. # .$$$ #"
-					,
-					"#    *. .*    #"
-					,
-					"#####.*.*.#####"
-					,
-					"''''## $ ##''''"
-					,
-					"'''''# $ #'''''"
-					,
-					"'''''# $ #'''''"
-					,
-					"'''''#   #'''''"
-					,
-					"'''''#####'''''"
-				}
-				,
-				{
-					"''''''#####''''''"
-					,
-					"''''''#   #''''''"
-					,
-					"'''''## $ ##'''''"
-					,
-					"''''## $.$ ##''''"
-					,
-					"'''## $ * $ ##'''"
-					,
-					"''## $.*.*.$ ##''"
-					,
-					"### $.*.#.*.$ ###"
-					,
-					"#  $ *.#'#.* $  #"
-					,
-					"# $.*.#'''#.*.$ #"
-					,
-					"#  $ *.#'#.* $  #"
-					,
-					"### $.*.#.*.$ ###"
-					,
-					"''## $.*.*.$ ##''"
-					,
-					"'''## $ * $ ##'''"
-					,
-					"''''## $.$ ##''''"
-					,
-					"'''''## $ ##'''''"
-					,
-					"''''''# @ #''''''"
-					,
-					"''''''#####''''''"
-				}
-				,
-				{
-					"''''''#####''''''"
-					,
-					"'''''###  ##'''''"
-					,
-					"''''## $   ##''''"
-					,
-					"'''## $  *$ ##'''"
-					,
-					"''## $.#.$.$ ##''"
-					,
-					"'## $.$. .$.$ ##'"
-					,
-					"## $.$. . .$.$ ##"
-					,
-					"#  *$. * * .# $##"
-					,
-					"#   . . @ . .   #"
-					,
-					"##$ #. * * .$*  #"
-					,
-					"## $.$. . .$.$ ##"
-					,
-					"'## $.$. .$.$ ##'"
-					,
-					"''## $.$.#.$ ##''"
-					,
-					"'''## $*  $ ##'''"
-					,
-					"''''##   $ ##''''"
-					,
-					"'''''##  ###'''''"
-					,
-					"''''''#####''''''"
-				}
-				,
-				{
-					"'''##'##'''"
-					,
-					"'##  #  ##'"
-					,
-					"'##     ##'"
-					,
-					"#  *$#$*  #"
-					,
-					"#  $...$  #"
-					,
-					"'# #.@.# #'"
-					,
-					"#  $...$  #"
-					,
-					"#  *$#$*  #"
-					,
-					"'##     ##'"
-					,
-					"'##  #  ##'"
-					,
-					"'''##'##'''"
-				}
-				,
-				{
-					"''''##'##''''"
-					,
-					"''##  #  ##''"
-					,
-					"'#  .$ $.  #'"
-					,
-					"'#  *   *  #'"
-					,
-					"# .* #.# *. #"
-					,
-					"# $ # $ # $ #"
-					,
-					"'#  .$@$.  #'"
-					,
-					"# $ # $ # $ #"
-					,
-					"# .* #.# *. #"
-					,
-					"'#  *   *  #'"
-					,
-					"'#  .$ $.  #'"
-					,
-					"''##  #  ##''"
-					,
-					"''''##'##''''"
-				}
-				,
-				{
-					"''#####'#'#####''"
-					,
-					"'## # ##### # ##'"
-					,
-					"'#  #   #   #  #'"
-					,
-					"## $* $   $ *$ ##"
-					,
-					"#   ..*# #*..   #"
-					,
-					"###*..  #  ..*###"
-					,
-					"'# $ *$ # $* $ #'"
-					,
-					"'#   #  *  #   #'"
-					,
-					"### ###* *### ###"
-					,
-					"'#   #  *  #   #'"
-					,
-					"'# $ *$ # $* $ #'"
-					,
-					"###*..  #  ..*###"
-					,
-					"#   ..*#@#*..   #"
-					,
-					"## $* $   $ *$ ##"
-					,
-					"'#  #   #   #  #'"
-					,
-					"'## # ##### # ##'"
-					,
-					"''#####'#'#####''"
-				}
-				,
-				{
-					"'''''''''''''###'''''''''''''"
-					,
-					"''''''#################''''''"
-					,
-					"''######   ##   ##   ######''"
-					,
-					"####   # $$   #   $$ #   ####"
-					,
-					"#  #$$     #.. ..#     $$#  #"
-					,
-					"#      ### #.###.# ###      #"
-					,
-					"#* ##### ### #*# ### ##### *#"
-					,
-					"#           ..@..           #"
-					,
-					"#* ##### ### #*# ### ##### *#"
-					,
-					"#      ### #.###.# ###      #"
-					,
-					"#  #$$     #.. ..#     $$#  #"
-					,
-					"####   # $$   #   $$ #   ####"
-					,
-					"''######   ##   ##   ######''"
-					,
-					"''''''#################''''''"
-					,
-					"'''''''''''''###'''''''''''''"
-				}
-				,
-				{
-					"###############"
-					,
-					"#  ..  .   .  #"
-					,
-					"# $##$ # $$##.#"
-					,
-					"#  #  ###  #  #"
-					,
-					"#.##  # # ##$ #"
-					,
-					"# $   $ $   $ #"
-					,
-					"#.##  # #  #  #"
-					,
-					"#.##  #@# ###.#"
-					,
-					"# $ # ### # #.#"
-					,
-					"# $         $ #"
-					,
-					"#.### ### # # #"
-					,
-					"#  #  #   ###.#"
-					,
-					"# $#$$###$# # #"
-					,
-					"#  .   .  . . #"
-					,
-					"###############"
-				}
-				,
-				{
-					"####'''#####'''####"
-					,
-					"#  ##''#   #####  #"
-					,
-					"# $.#''# $     $  #"
-					,
-					"#  .#''#   #####  #"
-					,
-					"## .#### ###  ##$##"
-					,
-					"'#$. $     #  $   #"
-					,
-					"'# ..###   #  #   #"
-					,
-					"'#*..@#######$#####"
-					,
-					"'# ..####   #  #'''"
-					,
-					"'#$. $      #  #'''"
-					,
-					"## .######$##  #'''"
-					,
-					"#  .#'''#  ##$##'''"
-					,
-					"# $.#'''#  $   #'''"
-					,
-					"#  ##'''#  #   #'''"
-					,
-					"####''''########'''"
-				}
-				,
-				{
-					"'################''''''''"
-					,
-					"##              ##'''''''"
-					,
-					"#  ############  #'''''''"
-					,
-					"# #            # #'''''''"
-					,
-					"# # $$$ $ $   @# #'''''''"
-					,
-					"#  #   ###   $$# ##''''''"
-					,
-					"## $ ##   #   $ $ #''''''"
-					,
-					"'##   # #  ####   #''''''"
-					,
-					"''###..  #     #  ###''''"
-					,
-					"''''##    .. # .# $ ####'"
-					,
-					"'''''# #### ## .# #.#  #'"
-					,
-					"'''''#    # ###* $ .#  ##"
-					,
-					"'''''#### #    .# #.    #"
-					,
-					"''''''''#   ## .###.##  #"
-					,
-					"''''''''######          #"
-					,
-					"'''''''''''''#   #  #   #"
-					,
-					"'''''''''''''############"
-				}
-				,
-				{
-					"###############################"
-					,
-					"#  .  .  .  .  .  .  .  .  .  #"
-					,
-					"# $ $ # $ $ # $ $ # $ $ # $ $ #"
-					,
-					"###.#####.#####.#####.#####.###"
-					,
-					"# $ $ # $ $ # $ $ # $ $ # $ $ #"
-					,
-					"#     .     .   # .     .     #"
-					,
-					"###.#####.###########.#####.###"
-					,
-					"#  $  #  $  . *@# #  *  *  $  #"
-					,
-					"#  $  *  *  # # * .  $  #  $  #"
-					,
-					"###.#####.###########.#####.###"
-					,
-					"#     .     . #   .     .     #"
-					,
-					"# $ $ # $ $ # $ $ # $ $ # $ $ #"
-					,
-					"###.#####.#####.#####.#####.###"
-					,
-					"# $ $ # $ $ # $ $ # $ $ # $ $ #"
-					,
-					"#  .  .  .  .  .  .  .  .  .  #"
-					,
-					"###############################"
-				}
-				,
-				{
-					"'#####################'"
-					,
-					"##   #   #   #   #   ##"
-					,
-					"# * * * * * * * * * * #"
-					,
-					"#  # # # # # # # # #  #"
-					,
-					"# $.$ $.$ $.$ $.$ $.$ #"
-					,
-					"##. .#. .#. .#. .#. .##"
-					,
-					"# $.$ $.$ $.$ $.$ $.$ #"
-					,
-					"#  # # # # # # # # #  #"
-					,
-					"# $.$ $.$ $.$ $.$ $.$ #"
-					,
-					"##. .#. .#.@.#. .#. .##"
-					,
-					"# $.$ $.$ $.$ $.$ $.$ #"
-					,
-					"#  # # # # # # # # #  #"
-					,
-					"# * * * * * * * * * * #"
-					,
-					"##   #   #   #   #   ##"
-					,
-					"'#####################'"
-				}
-				,
-				{
-					"'''#''''#''''#''''#''''#'''"
-					,
-					"'''#####################'''"
-					,
-					"''##    #    #    #    ##''"
-					,
-					"### .$$. .$$. .$$. .$$. ###"
-					,
-					"'# .*  *.*  *.*  *.*  *. #'"
-					,
-					"'# $ ## $ ## $ ## $ ## $ #'"
-					,
-					"'# $ ## $ ## $ ## $ ## $ #'"
-					,
-					"'# .*  *.*  *.*  *.*  *. #'"
-					,
-					"### .$$. .$$.@.$$. .$$. ###"
-					,
-					"'# .*  *.*  *.*  *.*  *. #'"
-					,
-					"'# $ ## $ ## $ ## $ ## $ #'"
-					,
-					"'# $ ## $ ## $ ## $ ## $ #'"
-					,
-					"'# .*  *.*  *.*  *.*  *. #'"
-					,
-					"### .$$. .$$. .$$. .$$. ###"
-					,
-					"''##    #    #    #    ##''"
-					,
-					"'''#####################'''"
-					,
-					"'''#''''#''''#''''#''''#'''"
-				}
-				,
-				{
-					"''''''''''''#####''''''''''''"
-					,
-					"'############ @ ############'"
-					,
-					"'#            #            #'"
-					,
-					"'#$.$  .$.$.$.#**.**$$$*.**#'"
-					,
-					"'#.$.$.$.$.$.$#  $. ..$.$  #'"
-					,
-					"'#$.$.$.$.$.$.#  $.$.. .$  #'"
-					,
-					"##.$.$.$.  $.$#**.*$$$**.**##"
-					,
-					"#             #             #"
-					,
-					"# ######################### #"
-					,
-					"#    ..  ..   # $ . $. $ .  #"
-					,
-					"## $*$*$$$$*$ #  $ $.$. .  ##"
-					,
-					"'# *. .. .$.$ #.$.$.  $.$.$#'"
-					,
-					"'# $.$. .. .* #$.$.$  .$.$.#'"
-					,
-					"'# $*$$$$*$*$ #  . .$.$ $  #'"
-					,
-					"'#   ..  ..   # . $ .$ . $ #'"
-					,
-					"'############ * ############'"
-					,
-					"''''''''''''#####''''''''''''"
-				}
-				,
-				{
-					"#############################"
-					,
-					"#   #   #   #   #   #   #   #"
-					,
-					"# # #   #   #   #   #   # # #"
-					,
-					"#   .$*$.$*$.$*$.$*$.$*$.   #"
-					,
-					"###.# # # # # # # # # # #.###"
-					,
-					"#  $  . . . . . . . . .  $  #"
-					,
-					"#  *# #$#$#$#$#$#$#$#$# #*  #"
-					,
-					"#  $  * . . . . . . . *  $  #"
-					,
-					"###*..$ #$#$#$@$#$#$# $..*###"
-					,
-					"#  $  * . . . . . . . *  $  #"
-					,
-					"#  *# #$#$#$#$#$#$#$#$# #*  #"
-					,
-					"#  $  . . . . . . . . .  $  #"
-					,
-					"###.# # # # # # # # # # #.###"
-					,
-					"#   .$*$.$*$.$*$.$*$.$*$.   #"
-					,
-					"# # #   #   #   #   #   # # #"
-					,
-					"#   #   #   #   #   #   #   #"
-					,
-					"#############################"
-				}
-				,
-				{
-					"'#############################'"
-					,
-					"'#         *   *   *         #'"
-					,
-					"'#  $ ### $  #####  $ ### $  #'"
-					,
-					"'# $ $ ### $  ###  $ ### $ $ #'"
-					,
-					"'#*#  $ ### $  #  $ ### $  #*#'"
-					,
-					"'# ## .*.*.*.*.$.*.*.*.*. ## #'"
-					,
-					"'# ###$ $ $ $ $.$ $ $ $ $### #'"
-					,
-					"## ..*.....*...$...*.....*.. ##"
-					,
-					"##  $ $ $ $ $ *@* $ $ $ $ $  ##"
-					,
-					"## ..*.....*...$...*.....*.. ##"
-					,
-					"'# ###$ $ $ $ $.$ $ $ $ $### #'"
-					,
-					"'# ## .*.*.*.*.$.*.*.*.*. ## #'"
-					,
-					"'#*#  $ ### $  #  $ ### $  #*#'"
-					,
-					"'# $ $ ### $  ###  $ ### $ $ #'"
-					,
-					"'#  $ ### $  #####  $ ### $  #'"
-					,
-					"'#         *   *   *         #'"
-					,
-					"'#############################'"
-				}
-		});
+	private static final int CACHE_SIZE = 8;
+	private static final String DIRECTORY = "levels/";
+
+	/** Checked and parsed levels by {@link #key(int, int)}, least recently used first. */
+	private static final Map<Long, SokobanLevel> cache = new LinkedHashMap<Long, SokobanLevel>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, SokobanLevel> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+	private static List<LevelSet> levelSets;
+	/** Reads from the assets directory of the project by default, so that tools can run outside of Android. */
+	private static Opener opener = new Opener() {
+		@Override
+		public InputStream open(String path) throws IOException {
+			return new FileInputStream(new File(System.getProperty("sokoban.assets", "assets"), path));
+		}
+	};
+
+	/**
+	 * Return the level, checked by {@link SokobanLevelValidator} and parsed when it is first asked for. The level is
+	 * shared and must not be modified.
+	 */
+	public static synchronized SokobanLevel getLevel(int levelSet, int level) {
+		Long key = Long.valueOf(key(levelSet, level));
+		SokobanLevel result = cache.get(key);
+		if (result == null) {
+			result = SokobanLevel.parse(SokobanLevelValidator.validate(getRows(levelSet, level)));
+			cache.put(key, result);
+		}
+		return result;
+	}
+
+	public static int getLevelCount(int levelSet) {
+		return levelSet(levelSet).offsets.length;
+	}
+
+	public static synchronized int getLevelSetCount() {
+		return index().size();
+	}
+
+	public static String getLevelSetName(int levelSet) {
+		return levelSet(levelSet).name;
+	}
+
+	/** Read the rows of a level, reading nothing but the level itself from its file. */
+	public static synchronized String[] getRows(int levelSet, int level) {
+		LevelSet set = levelSet(levelSet);
+		if (level < 0 || level >= set.offsets.length)
+			throw new IllegalArgumentException("No level " + level + " in level set " + set.name);
+		try {
+			InputStream in = opener.open(DIRECTORY + set.file);
+			try {
+				long remaining = set.offsets[level];
+				while (remaining > 0) {
+					long skipped = in.skip(remaining);
+					if (skipped <= 0)
+						throw new IOException("Level offset beyond the end of " + set.file);
+					remaining -= skipped;
+				}
+				BufferedReader reader = new BufferedReader(new InputStreamReader(in, "US-ASCII"), 1024);
+				List<String> rows = new ArrayList<String>();
+				String row;
+				while ((row = reader.readLine()) != null && row.length() > 0)
+					rows.add(row);
+				return rows.toArray(new String[rows.size()]);
+			} finally {
+				in.close();
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Could not read level " + level + " of " + set.file, e);
+		}
 	}
+
+	private static List<LevelSet> index() {
+		if (levelSets != null)
+			return levelSets;
+		List<LevelSet> result = new ArrayList<LevelSet>();
+		try {
+			BufferedReader reader = new BufferedReader(new InputStreamReader(opener.open(DIRECTORY + "index.txt"),
+					"US-ASCII"));
+			try {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					if (line.length() == 0 || line.startsWith("#"))
+						continue;
+					String[] fields = line.split("\t");
+					String[] offsetFields = fields[2].split(" ");
+					int[] offsets = new int[offsetFields.length];
+					for (int i = 0; i < offsets.length; i++)
+						offsets[i] = Integer.parseInt(offsetFields[i]);
+					result.add(new LevelSet(fields[0], fields[1], offsets));
+				}
+			} finally {
+				reader.close();
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Could not read the level index", e);
+		}
+		levelSets = result;
+		return result;
+	}
+
+	private static long key(int levelSet, int level) {
+		return ((long) levelSet << 32) | level;
+	}
+
+	private static synchronized LevelSet levelSet(int levelSet) {
+		List<LevelSet> sets = index();
+		if (levelSet < 0 || levelSet >= sets.size())
+			throw new IllegalArgumentException("No level set " + levelSet);
+		return sets.get(levelSet);
+	}
+
+	/** Read the levels through the given opener from now on, dropping the index and the cached levels. */
+	public static synchronized void setOpener(Opener opener) {
+		SokobanLevels.opener = opener;
+		levelSets = null;
+		cache.clear();
+	}
+
+	private SokobanLevels() {
+		// static access only
+	}
+
 }
@@ -0,0 +1,82 @@
+package com.mobilepearls.sokoban;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Level pack reader for large collections which maps the whole pack into memory instead of reading it, see
+ * {@link SokobanLevelPack} for the format. Neither the offset table nor the levels are copied to the heap: lookups read
+ * the offsets from the mapping and decode levels from a view of their bytes, leaving paging to the operating system,
+ * so opening is instant and the heap used does not grow with the size of the collection. Lookups are thread safe.
+ */
+public final class SokobanMappedLevelPack implements SokobanLevelSource {
+
+	private final FileChannel channel;
+	private final int levelCount;
+	private final MappedByteBuffer mapping;
+	private final int tableOffset;
+
+	public SokobanMappedLevelPack(File packFile) throws IOException {
+		RandomAccessFile file = new RandomAccessFile(packFile, "r");
+		channel = file.getChannel();
+		try {
+			if (channel.size() < SokobanLevelPack.HEADER_SIZE || channel.size() > Integer.MAX_VALUE)
+				throw new IOException("Not a level pack: " + packFile);
+			mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (mapping.getInt(0) != SokobanLevelPack.MAGIC)
+				throw new IOException("Not a level pack: " + packFile);
+			int version = mapping.getInt(4);
+			if (version != SokobanLevelPack.VERSION)
+				throw new IOException("Unsupported level pack version " + version + ": " + packFile);
+			levelCount = mapping.getInt(8);
+			tableOffset = mapping.getInt(12);
+			if (levelCount < 0 || tableOffset + (levelCount + 1L) * 4 > mapping.capacity())
+				throw new IOException("Truncated level pack: " + packFile);
+		} catch (IOException e) {
+			file.close();
+			throw e;
+		}
+	}
+
+	/** Close the file. The mapping itself is released once it is garbage collected. */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	@Override
+	public SokobanLevel getLevel(int index) {
+		return SokobanLevelPack.decode(record(index));
+	}
+
+	@Override
+	public int getLevelCount() {
+		return levelCount;
+	}
+
+	@Override
+	public String getSolution(int index) {
+		return SokobanLevelPack.readSolution(record(index));
+	}
+
+	@Override
+	public String getTitle(int index) {
+		return SokobanLevelPack.readTitle(record(index));
+	}
+
+	/** Return a view of the bytes of a single level, sharing the mapping. */
+	private ByteBuffer record(int index) {
+		if (index < 0 || index >= levelCount)
+			throw new IllegalArgumentException("No level " + index + " in a pack of " + levelCount);
+		int start = mapping.getInt(tableOffset + index * 4);
+		int end = mapping.getInt(tableOffset + index * 4 + 4);
+		ByteBuffer record = mapping.duplicate();
+		record.limit(end).position(start);
+		return record.slice();
+	}
+
+}
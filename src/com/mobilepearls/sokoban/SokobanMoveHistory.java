@@ -0,0 +1,139 @@
+package com.mobilepearls.sokoban;
+
+import java.io.Serializable;
+
+/**
+ * The moves of a game packed into a ring buffer of ints, one int per move, so recording a move allocates nothing. The
+ * buffer grows in chunks up to an optional limit, after which the oldest moves are overwritten.
+ * <p>
+ * A cursor separates the moves currently applied from the undone ones that may be redone. Recording a new move drops
+ * the undone moves after the cursor.
+ */
+@SuppressWarnings("serial")
+final class SokobanMoveHistory implements Serializable {
+
+	private static final int CHUNK_SIZE = 1024;
+	/** No limit on the number of moves kept. */
+	static final int UNLIMITED = 0;
+
+	static int decodeDirection(int move) {
+		return (move >>> 1) & 3;
+	}
+
+	static int decodeFrom(int move) {
+		return move >>> 3;
+	}
+
+	static boolean decodePushed(int move) {
+		return (move & 1) != 0;
+	}
+
+	/** Pack a move as the cell the player left, the direction index and whether a diamond was pushed. */
+	static int encode(int from, int direction, boolean pushed) {
+		return (from << 3) | (direction << 1) | (pushed ? 1 : 0);
+	}
+
+	/** Number of moves currently applied, the moves from the cursor up to {@link #size} have been undone. */
+	private int cursor;
+	/** Number of oldest moves overwritten or dropped because of the limit. */
+	private int dropped;
+	/** Index in {@link #moves} of the oldest move kept. */
+	private int head;
+	private int limit;
+	private int[] moves = new int[0];
+	private int size;
+
+	SokobanMoveHistory(int limit) {
+		setLimit(limit);
+	}
+
+	boolean canRedo() {
+		return cursor < size;
+	}
+
+	boolean canUndo() {
+		return cursor > 0;
+	}
+
+	void clear() {
+		cursor = 0;
+		dropped = 0;
+		head = 0;
+		size = 0;
+	}
+
+	int cursor() {
+		return cursor;
+	}
+
+	/** Return the number of moves applied since the start of the level, including those no longer kept. */
+	int moveNumber() {
+		return dropped + cursor;
+	}
+
+	/** Record a move at the cursor, dropping any undone moves. */
+	void push(int move) {
+		size = cursor;
+		if (size == moves.length) {
+			if (limit == UNLIMITED || size < limit) {
+				grow(limit == UNLIMITED ? size + CHUNK_SIZE : Math.min(size + CHUNK_SIZE, limit));
+			} else {
+				// full: overwrite the oldest move
+				moves[head] = move;
+				head = (head + 1) % moves.length;
+				dropped++;
+				return;
+			}
+		}
+		moves[(head + size) % moves.length] = move;
+		size++;
+		cursor = size;
+	}
+
+	/** Return the move at the cursor and advance the cursor past it. */
+	int redo() {
+		if (cursor == size)
+			throw new IllegalStateException("No moves to redo");
+		return moves[(head + cursor++) % moves.length];
+	}
+
+	private void grow(int capacity) {
+		int[] newMoves = new int[capacity];
+		for (int i = 0; i < size; i++)
+			newMoves[i] = moves[(head + i) % moves.length];
+		moves = newMoves;
+		head = 0;
+	}
+
+	/** Set the maximum number of moves kept, or {@link #UNLIMITED}. Drops the oldest moves if above the new limit. */
+	void setLimit(int limit) {
+		if (limit < 0)
+			throw new IllegalArgumentException("Negative limit: " + limit);
+		this.limit = limit;
+		if (limit != UNLIMITED && size > limit) {
+			// drop undone moves first, then the oldest ones
+			int excess = size - limit;
+			int redoDropped = Math.min(excess, size - cursor);
+			size -= redoDropped;
+			excess -= redoDropped;
+			head = (head + excess) % moves.length;
+			size -= excess;
+			cursor -= excess;
+			dropped += excess;
+		}
+		if (limit != UNLIMITED && moves.length > limit)
+			grow(limit);
+	}
+
+	int size() {
+		return size;
+	}
+
+	/** Move the cursor back before the latest applied move and return that move. */
+	int undo() {
+		if (cursor == 0)
+			throw new IllegalStateException("No moves to undo");
+		return moves[(head + --cursor) % moves.length];
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.mobilepearls.sokoban;
+
+import java.util.Arrays;
+
+/**
+ * Flood fill of the cells the player can walk to without pushing a diamond. Positions that only differ in where the
+ * player stands inside that region are equivalent, so the region is identified by its lowest cell index, the
+ * normalized player cell. Buffers are allocated once per instance so repeated fills allocate nothing.
+ */
+public final class SokobanReachability {
+
+	private final int[] queue;
+	private final long[] reached;
+	private final int width;
+
+	public SokobanReachability(SokobanLevel level) {
+		queue = new int[level.getCellCount()];
+		reached = SokobanBits.create(level.getCellCount());
+		width = level.width;
+	}
+
+	/**
+	 * Fill the region reachable from the player cell, avoiding cells outside floor and the given diamonds, and return
+	 * the normalized player cell.
+	 */
+	public int fill(long[] floor, long[] boxes, int player) {
+		Arrays.fill(reached, 0);
+		int lowest = player;
+		int head = 0;
+		int tail = 0;
+		queue[tail++] = player;
+		SokobanBits.set(reached, player);
+		while (head < tail) {
+			int cell = queue[head++];
+			if (cell < lowest)
+				lowest = cell;
+			tail = visit(floor, boxes, cell + 1, tail);
+			tail = visit(floor, boxes, cell - 1, tail);
+			tail = visit(floor, boxes, cell + width, tail);
+			tail = visit(floor, boxes, cell - width, tail);
+		}
+		return lowest;
+	}
+
+	/** Return whether the given cell was reached by the latest {@link #fill(long[], long[], int)}. */
+	public boolean isReached(int cell) {
+		return SokobanBits.get(reached, cell);
+	}
+
+	/** Return the cells reached by the latest fill. The returned array is reused and must not be modified. */
+	public long[] reached() {
+		return reached;
+	}
+
+	private int visit(long[] floor, long[] boxes, int cell, int tail) {
+		if (SokobanBits.get(floor, cell) && !SokobanBits.get(boxes, cell) && !SokobanBits.get(reached, cell)) {
+			SokobanBits.set(reached, cell);
+			queue[tail++] = cell;
+		}
+		return tail;
+	}
+
+}
@@ -0,0 +1,137 @@
+package com.mobilepearls.sokoban;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.util.AttributeSet;
+import android.view.SurfaceHolder;
+import android.view.SurfaceView;
+
+/**
+ * Shows the board like {@link SokobanGameView}, but draws it on a render thread of its own so that drawing large boards
+ * does not hold up input on the UI thread. The UI thread fills a {@link SokobanBoardSnapshot} whenever the board
+ * changes and swaps it in as the pending one; the render thread takes the latest pending snapshot, draws it and hands
+ * it back for reuse. Snapshots published faster than they can be drawn replace each other, so only the latest state is
+ * drawn, and no locks are shared between the threads.
+ */
+public class SokobanSurfaceGameView extends SurfaceView implements SokobanBoardController.Host, SurfaceHolder.Callback {
+
+	private final class RenderThread extends Thread {
+		private final SokobanBoardRenderer renderer = new SokobanBoardRenderer();
+		private volatile boolean running = true;
+
+		RenderThread() {
+			super("SokobanRenderThread");
+		}
+
+		@Override
+		public void run() {
+			SurfaceHolder holder = getHolder();
+			while (running) {
+				SokobanBoardSnapshot snapshot = pending.getAndSet(null);
+				if (snapshot == null) {
+					LockSupport.park(this);
+					continue;
+				}
+				Canvas canvas = holder.lockCanvas();
+				if (canvas != null) {
+					try {
+						renderer.draw(canvas, snapshot);
+					} finally {
+						holder.unlockCanvasAndPost(canvas);
+					}
+				}
+				recycled.set(snapshot);
+			}
+		}
+
+		void quit() {
+			running = false;
+			LockSupport.unpark(this);
+			boolean interrupted = false;
+			while (isAlive()) {
+				try {
+					join();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if (interrupted)
+				Thread.currentThread().interrupt();
+		}
+	}
+
+	private final SokobanBoardController controller;
+	/** The latest snapshot not yet drawn, owned by whichever thread takes it out. */
+	private final AtomicReference<SokobanBoardSnapshot> pending = new AtomicReference<SokobanBoardSnapshot>();
+	/** A snapshot which is no longer drawn, to be refilled instead of allocating a new one. */
+	private final AtomicReference<SokobanBoardSnapshot> recycled = new AtomicReference<SokobanBoardSnapshot>();
+	/** Only touched on the UI thread. */
+	private RenderThread renderThread;
+
+	public SokobanSurfaceGameView(Context context, AttributeSet attributes) {
+		super(context, attributes);
+		controller = isInEditMode() ? null : new SokobanBoardController(this);
+		getHolder().addCallback(this);
+	}
+
+	/** The whole surface is redrawn for every change, so this repaints the whole board. */
+	@Override
+	public void boardChanged() {
+		publish();
+	}
+
+	@Override
+	public void boardChanged(int left, int top, int right, int bottom) {
+		publish();
+	}
+
+	@Override
+	public SokobanBoardController getController() {
+		return controller;
+	}
+
+	@Override
+	protected void onSizeChanged(int width, int height, int oldw, int oldh) {
+		super.onSizeChanged(width, height, oldw, oldh);
+		if (!isInEditMode())
+			controller.customSizeChanged();
+	}
+
+	/** Hand the current state of the board to the render thread. Called on the UI thread. */
+	private void publish() {
+		if (controller == null || controller.metrics == null)
+			return;
+		SokobanBoardSnapshot snapshot = recycled.getAndSet(null);
+		if (snapshot == null)
+			snapshot = new SokobanBoardSnapshot();
+		controller.fill(snapshot);
+		SokobanBoardSnapshot replaced = pending.getAndSet(snapshot);
+		if (replaced != null)
+			recycled.set(replaced);
+		if (renderThread != null)
+			LockSupport.unpark(renderThread);
+	}
+
+	@Override
+	public void surfaceChanged(SurfaceHolder holder, int format, int width, int height) {
+		publish();
+	}
+
+	@Override
+	public void surfaceCreated(SurfaceHolder holder) {
+		renderThread = new RenderThread();
+		renderThread.start();
+		publish();
+	}
+
+	@Override
+	public void surfaceDestroyed(SurfaceHolder holder) {
+		// the surface must not be drawn on once this returns
+		renderThread.quit();
+		renderThread = null;
+	}
+
+}
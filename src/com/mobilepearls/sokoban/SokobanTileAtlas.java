@@ -0,0 +1,79 @@
+package com.mobilepearls.sokoban;
+
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.util.LruCache;
+
+/**
+ * The tile images as a single bitmap per tile size, the tiles side by side in the order of the TILE_ constants. The
+ * 96 pixel source images are decoded once per process, and the scaled atlases of recently used tile sizes are kept in
+ * an LRU cache, so that zooming in and out is a cache lookup.
+ */
+final class SokobanTileAtlas {
+
+	static final int TILE_DIAMOND_ON_FLOOR = 0;
+	static final int TILE_DIAMOND_ON_TARGET = 1;
+	static final int TILE_FLOOR = 2;
+	static final int TILE_MAN_ON_FLOOR = 3;
+	static final int TILE_MAN_ON_TARGET = 4;
+	static final int TILE_OUTSIDE = 5;
+	static final int TILE_TARGET = 6;
+	static final int TILE_WALL = 7;
+
+	private static final int CACHE_BYTES = 4 << 20;
+	private static final int SOURCE_SIZE = 96;
+	private static final int[] SOURCE_IDS = { R.drawable.diamond_on_floor_96, R.drawable.diamond_on_target_96,
+			R.drawable.floor_96, R.drawable.man_on_floor_96, R.drawable.man_on_target_96, R.drawable.outside_96,
+			R.drawable.target_96, R.drawable.wall_96 };
+
+	private static final LruCache<Integer, Bitmap> scaled = new LruCache<Integer, Bitmap>(CACHE_BYTES) {
+		@Override
+		protected int sizeOf(Integer tileSize, Bitmap atlas) {
+			return atlas.getByteCount();
+		}
+	};
+	/** The decoded source images, scaled one by one so that filtering does not bleed between neighbouring tiles. */
+	private static Bitmap[] sources;
+
+	/** Return the atlas for a tile size, which is shared and must not be modified or recycled. */
+	static synchronized Bitmap get(Resources resources, int tileSize) {
+		Bitmap atlas = scaled.get(tileSize);
+		if (atlas != null)
+			return atlas;
+
+		if (sources == null) {
+			BitmapFactory.Options options = new BitmapFactory.Options();
+			options.inScaled = false;
+			sources = new Bitmap[SOURCE_IDS.length];
+			for (int i = 0; i < SOURCE_IDS.length; i++)
+				sources[i] = BitmapFactory.decodeResource(resources, SOURCE_IDS[i], options);
+		}
+
+		atlas = Bitmap.createBitmap(SOURCE_IDS.length * tileSize, tileSize, Bitmap.Config.ARGB_8888);
+		atlas.setDensity(Bitmap.DENSITY_NONE);
+		Canvas canvas = new Canvas(atlas);
+		Paint paint = new Paint(Paint.FILTER_BITMAP_FLAG);
+		Rect source = new Rect(0, 0, SOURCE_SIZE, SOURCE_SIZE);
+		Rect target = new Rect();
+		for (int i = 0; i < sources.length; i++) {
+			target.set(i * tileSize, 0, (i + 1) * tileSize, tileSize);
+			canvas.drawBitmap(sources[i], source, target, paint);
+		}
+		scaled.put(tileSize, atlas);
+		return atlas;
+	}
+
+	/** Set the rectangle of a tile within the atlas for the given tile size. */
+	static void source(int tile, int tileSize, Rect out) {
+		out.set(tile * tileSize, 0, (tile + 1) * tileSize, tileSize);
+	}
+
+	private SokobanTileAtlas() {
+		// static access only
+	}
+
+}
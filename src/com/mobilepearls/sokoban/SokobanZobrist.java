@@ -0,0 +1,44 @@
+package com.mobilepearls.sokoban;
+
+/**
+ * Zobrist keys for positions: a diamond on a cell and the player region, identified by its normalized cell (see
+ * {@link SokobanReachability}), each map to a pseudo random 64-bit key and a position hashes to the XOR of its keys.
+ * Keys are derived from the cell index alone, so hashes are stable between runs and need no per-level tables.
+ */
+public final class SokobanZobrist {
+
+	private static final long BOX_SALT = 0x243F6A8885A308D3L;
+	private static final long PLAYER_SALT = 0x13198A2E03707344L;
+
+	public static long boxKey(int cell) {
+		return mix(BOX_SALT + cell * 0x9E3779B97F4A7C15L);
+	}
+
+	public static long hashBoxes(long[] boxes) {
+		long hash = 0;
+		for (int i = 0; i < boxes.length; i++) {
+			long word = boxes[i];
+			while (word != 0) {
+				hash ^= boxKey((i << 6) + Long.numberOfTrailingZeros(word));
+				word &= word - 1;
+			}
+		}
+		return hash;
+	}
+
+	/** The splitmix64 finalizer. */
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	public static long playerKey(int normalizedCell) {
+		return mix(PLAYER_SALT + normalizedCell * 0x9E3779B97F4A7C15L);
+	}
+
+	private SokobanZobrist() {
+		// static helpers only
+	}
+
+}
@@ -0,0 +1,101 @@
+package com.mobilepearls.sokoban.solver;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import com.mobilepearls.sokoban.solver.SokobanSolution.Status;
+
+/**
+ * A* over push space: every node is a position right after a push, see {@link PushGenerator}. Positions only
+ * differing in where the player stands inside the same region are merged when optimizing pushes.
+ */
+final class AStarSearch {
+
+	private static final int CHECK_INTERVAL = 1024;
+	/** Estimated heap use of a {@link SearchNode} and its slot in the open list, without the diamond bitset. */
+	private static final int NODE_BYTES = 80;
+
+	static final Comparator<SearchNode> ORDER = new Comparator<SearchNode>() {
+		@Override
+		public int compare(SearchNode a, SearchNode b) {
+			int result = a.total() - b.total();
+			// prefer nodes closer to the goal among equal totals
+			return (result != 0) ? result : a.estimate - b.estimate;
+		}
+	};
+
+	private final Board board;
+	private final long deadline;
+	private final PushGenerator generator;
+	/** The number of nodes which may be kept on the heap, or 0 for no limit. */
+	private final long heapNodeLimit;
+	private final long nodeLimit;
+	private final SolverStatistics statistics = new SolverStatistics();
+	private final TranspositionTable table;
+
+	AStarSearch(Board board, SokobanSolver.Metric metric, long timeLimitMillis, long nodeLimit, int boxCount,
+			long tableBytes, long heapBytes) {
+		this.board = board;
+		this.nodeLimit = nodeLimit;
+		this.deadline = (timeLimitMillis > 0) ? System.nanoTime() + timeLimitMillis * 1000000 : Long.MAX_VALUE;
+		generator = new PushGenerator(board, metric, boxCount);
+		table = new TranspositionTable(tableBytes);
+		int bitsetBytes = 16 + 8 * ((board.level.getCellCount() + 63) >>> 6);
+		heapNodeLimit = heapBytes / (NODE_BYTES + bitsetBytes);
+	}
+
+	SokobanSolution run(long[] startBoxes, int startPlayer) {
+		long startTime = System.nanoTime();
+		PriorityQueue<SearchNode> open = new PriorityQueue<SearchNode>(1024, ORDER);
+		List<SearchNode> children = new ArrayList<SearchNode>();
+
+		SearchNode root = generator.root(startBoxes, startPlayer);
+		if (root != null) {
+			open.add(root);
+			table.store(root.hash, root.fingerprint, root.cost);
+		}
+
+		Status status = Status.UNSOLVABLE;
+		SearchNode solved = null;
+		while (!open.isEmpty()) {
+			SearchNode node = open.poll();
+			int known = table.lookup(node.hash, node.fingerprint);
+			if (known != TranspositionTable.NOT_FOUND && known < node.cost)
+				continue; // superseded by a cheaper path to the same position
+
+			if (board.isSolved(node.boxes)) {
+				status = Status.SOLVED;
+				solved = node;
+				break;
+			}
+
+			if (statistics.nodesExpanded % CHECK_INTERVAL == 0) {
+				statistics.sampleMemory();
+				table.nextAge();
+				// every expanded node may still be referenced as the parent of an open one
+				long heapNodes = statistics.nodesExpanded + open.size();
+				if (System.nanoTime() > deadline || (nodeLimit > 0 && statistics.nodesExpanded >= nodeLimit)
+						|| (heapNodeLimit > 0 && heapNodes >= heapNodeLimit)) {
+					status = Status.LIMIT_REACHED;
+					break;
+				}
+			}
+			statistics.nodesExpanded++;
+			children.clear();
+			generator.expand(node, children, statistics);
+			for (SearchNode child : children)
+				if (table.store(child.hash, child.fingerprint, child.cost))
+					open.add(child);
+		}
+
+		statistics.sampleMemory();
+		statistics.elapsedNanos = System.nanoTime() - startTime;
+		statistics.recordTable(table.getHitRate(), table.getLoadFactor(), table.getBytesPerEntry(),
+				table.getEvictions());
+		String lurd = (solved == null) ? null : generator.toLurd(solved, startBoxes, startPlayer);
+		return new SokobanSolution(status, lurd, statistics);
+	}
+
+}
@@ -0,0 +1,176 @@
+package com.mobilepearls.sokoban.solver;
+
+/**
+ * Lower bound on the pushes left: the cheapest assignment of diamonds to distinct targets by {@link PushDistanceTable}
+ * distance, found with the Hungarian algorithm. The assignment of the position being expanded is kept, and a child
+ * where a single diamond moved is bounded by unassigning that diamond and running one augmenting path, O(n^2) instead
+ * of re-solving the whole O(n^3) problem. All buffers are allocated up front.
+ */
+final class AssignmentLowerBound {
+
+	/** Returned if no assignment exists, i.e. some diamonds are competing for targets only one of them can reach. */
+	static final int DEADLOCK = Integer.MAX_VALUE;
+	/** Cost of a diamond that cannot reach a target, large enough to never be part of a finite assignment. */
+	private static final int INFINITE = 1 << 20;
+
+	private final int boxCount;
+	private final int[] boxCells;
+	private final int[] cellRows;
+	private final int[] columnPotentials;
+	private final int[] columnPotentialsBase;
+	private final PushDistanceTable distances;
+	private final int goalCount;
+	private final int[] minimum;
+	/** Row (1-based diamond index) assigned to each column (1-based target index), 0 for none. */
+	private final int[] rowOfColumn;
+	private final int[] rowOfColumnBase;
+	private final int[] rowPotentials;
+	private final int[] rowPotentialsBase;
+	private final boolean[] used;
+	private final int[] way;
+
+	AssignmentLowerBound(Board board, PushDistanceTable distances, int boxCount) {
+		this.distances = distances;
+		this.boxCount = boxCount;
+		goalCount = board.goalCells.length;
+		boxCells = new int[boxCount + 1];
+		cellRows = new int[board.cellCount];
+		rowPotentials = new int[boxCount + 1];
+		rowPotentialsBase = new int[boxCount + 1];
+		columnPotentials = new int[goalCount + 1];
+		columnPotentialsBase = new int[goalCount + 1];
+		rowOfColumn = new int[goalCount + 1];
+		rowOfColumnBase = new int[goalCount + 1];
+		way = new int[goalCount + 1];
+		minimum = new int[goalCount + 1];
+		used = new boolean[goalCount + 1];
+	}
+
+	/** Find an augmenting path for the unassigned row, keeping the potentials feasible. */
+	private void augment(int row) {
+		rowOfColumn[0] = row;
+		int column = 0;
+		for (int j = 0; j <= goalCount; j++) {
+			minimum[j] = Integer.MAX_VALUE;
+			used[j] = false;
+		}
+		do {
+			used[column] = true;
+			int currentRow = rowOfColumn[column];
+			int delta = Integer.MAX_VALUE;
+			int nextColumn = 0;
+			for (int j = 1; j <= goalCount; j++) {
+				if (used[j])
+					continue;
+				int reduced = cost(currentRow, j) - rowPotentials[currentRow] - columnPotentials[j];
+				if (reduced < minimum[j]) {
+					minimum[j] = reduced;
+					way[j] = column;
+				}
+				if (minimum[j] < delta) {
+					delta = minimum[j];
+					nextColumn = j;
+				}
+			}
+			for (int j = 0; j <= goalCount; j++) {
+				if (used[j]) {
+					rowPotentials[rowOfColumn[j]] += delta;
+					columnPotentials[j] -= delta;
+				} else {
+					minimum[j] -= delta;
+				}
+			}
+			column = nextColumn;
+		} while (rowOfColumn[column] != 0);
+
+		do {
+			int previous = way[column];
+			rowOfColumn[column] = rowOfColumn[previous];
+			column = previous;
+		} while (column != 0);
+	}
+
+	private int cost(int row, int column) {
+		int distance = distances.distance(column - 1, boxCells[row]);
+		return (distance == PushDistanceTable.UNREACHABLE) ? INFINITE : distance;
+	}
+
+	/**
+	 * Return the bound for the child of the prepared position where the diamond at the given cell was pushed to the
+	 * target cell, or {@link #DEADLOCK}.
+	 */
+	int estimateMove(int fromCell, int toCell) {
+		int row = cellRows[fromCell];
+		boxCells[row] = toCell;
+		if (boxCount != goalCount) {
+			// unassigned targets could keep stale potentials, so solve rectangular problems from scratch
+			int result = solve();
+			boxCells[row] = fromCell;
+			return result;
+		}
+
+		System.arraycopy(rowPotentialsBase, 0, rowPotentials, 0, rowPotentials.length);
+		System.arraycopy(columnPotentialsBase, 0, columnPotentials, 0, columnPotentials.length);
+		System.arraycopy(rowOfColumnBase, 0, rowOfColumn, 0, rowOfColumn.length);
+		for (int j = 1; j <= goalCount; j++)
+			if (rowOfColumn[j] == row)
+				rowOfColumn[j] = 0;
+		// tighten the row potential for its new costs, the other rows stay feasible
+		int potential = Integer.MAX_VALUE;
+		for (int j = 1; j <= goalCount; j++)
+			potential = Math.min(potential, cost(row, j) - columnPotentials[j]);
+		rowPotentials[row] = potential;
+		augment(row);
+
+		int result = total();
+		boxCells[row] = fromCell;
+		return result;
+	}
+
+	/** Solve the assignment for a position from scratch and keep it as the base for {@link #estimateMove(int, int)}. */
+	int prepare(long[] boxes) {
+		if (boxCount > goalCount)
+			return DEADLOCK;
+		int row = 0;
+		for (int i = 0; i < boxes.length; i++) {
+			long word = boxes[i];
+			while (word != 0) {
+				int cell = (i << 6) + Long.numberOfTrailingZeros(word);
+				word &= word - 1;
+				boxCells[++row] = cell;
+				cellRows[cell] = row;
+			}
+		}
+		int result = solve();
+		System.arraycopy(rowPotentials, 0, rowPotentialsBase, 0, rowPotentials.length);
+		System.arraycopy(columnPotentials, 0, columnPotentialsBase, 0, columnPotentials.length);
+		System.arraycopy(rowOfColumn, 0, rowOfColumnBase, 0, rowOfColumn.length);
+		return result;
+	}
+
+	private int solve() {
+		for (int i = 0; i <= boxCount; i++)
+			rowPotentials[i] = 0;
+		for (int j = 0; j <= goalCount; j++) {
+			columnPotentials[j] = 0;
+			rowOfColumn[j] = 0;
+		}
+		for (int row = 1; row <= boxCount; row++)
+			augment(row);
+		return total();
+	}
+
+	private int total() {
+		int result = 0;
+		for (int j = 1; j <= goalCount; j++) {
+			if (rowOfColumn[j] != 0) {
+				int cost = cost(rowOfColumn[j], j);
+				if (cost == INFINITE)
+					return DEADLOCK;
+				result += cost;
+			}
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,55 @@
+package com.mobilepearls.sokoban.solver;
+
+import com.mobilepearls.sokoban.SokobanBits;
+import com.mobilepearls.sokoban.SokobanLevel;
+
+/** The static part of a level as the solver sees it, precomputed once per solve. */
+final class Board {
+
+	/** Directions in LURD order. */
+	static final int[] DX = { -1, 0, 1, 0 };
+	static final int[] DY = { 0, -1, 0, 1 };
+	static final char[] MOVE_CHARS = { 'l', 'u', 'r', 'd' };
+	static final char[] PUSH_CHARS = { 'L', 'U', 'R', 'D' };
+
+	final int cellCount;
+	final long[] deadSquares;
+	final PushDistanceTable distances;
+	final long[] floor;
+	final int[] goalCells;
+	final long[] goals;
+	final SokobanLevel level;
+	/** Index offsets of the four directions. */
+	final int[] steps = new int[4];
+	final int width;
+
+	Board(SokobanLevel level) {
+		this.level = level;
+		cellCount = level.getCellCount();
+		width = level.getWidth();
+		floor = level.getFloor();
+		goals = level.getGoals();
+		deadSquares = level.getDeadSquares();
+		for (int d = 0; d < 4; d++)
+			steps[d] = level.step(DX[d], DY[d]);
+
+		goalCells = new int[SokobanBits.count(goals)];
+		for (int cell = 0, i = 0; cell < cellCount; cell++)
+			if (SokobanBits.get(goals, cell))
+				goalCells[i++] = cell;
+		distances = new PushDistanceTable(this);
+	}
+
+	/** Return whether any diamond stands on a dead square. */
+	boolean hasDeadBox(long[] boxes) {
+		for (int i = 0; i < boxes.length; i++)
+			if ((boxes[i] & deadSquares[i]) != 0)
+				return true;
+		return false;
+	}
+
+	boolean isSolved(long[] boxes) {
+		return SokobanBits.isSubset(boxes, goals);
+	}
+
+}
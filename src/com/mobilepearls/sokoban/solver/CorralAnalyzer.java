@@ -0,0 +1,250 @@
+package com.mobilepearls.sokoban.solver;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.mobilepearls.sokoban.SokobanBits;
+import com.mobilepearls.sokoban.SokobanDeadlockDetector;
+import com.mobilepearls.sokoban.SokobanReachability;
+
+/**
+ * Finds corrals, regions the player cannot reach that are fenced off by diamonds, and PI-corrals among them: corrals
+ * where every push of a fencing diamond the player can make goes into the corral, and the player can make all pushes
+ * into it. Unless such a corral is already solved, some push into it is needed eventually, and pushes elsewhere can be
+ * postponed after it without adding pushes, so only its pushes need to be expanded.
+ * <p>
+ * A PI-corral is also checked for deadlock by searching with only its fencing diamonds on the board. If those can
+ * neither all reach targets nor let the player into the corral, the position is dead. Results are cached by the set of
+ * fencing diamonds and player region.
+ */
+final class CorralAnalyzer {
+
+	/** Key of a cached corral deadlock result. */
+	private static final class CorralKey {
+
+		final long[] boxes;
+		final int player;
+
+		CorralKey(long[] boxes, int player) {
+			this.boxes = boxes;
+			this.player = player;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof CorralKey))
+				return false;
+			CorralKey other = (CorralKey) o;
+			return player == other.player && Arrays.equals(boxes, other.boxes);
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(boxes) * 31 + player;
+		}
+	}
+
+	private static final int CACHE_LIMIT = 100000;
+	/** Positions searched before giving up on proving a corral deadlocked. */
+	private static final int DEADLOCK_SEARCH_LIMIT = 2000;
+
+	static final int DEADLOCK = 2;
+	static final int NONE = 0;
+	static final int PI_CORRAL = 1;
+
+	private final Board board;
+	/** Diamonds fencing the best PI-corral found by the latest {@link #analyze(long[], SokobanReachability)}. */
+	final long[] corralBoxes;
+	/** Cells of the best PI-corral found by the latest {@link #analyze(long[], SokobanReachability)}. */
+	final long[] corralCells;
+	private final Map<CorralKey, Boolean> deadlockCache = new HashMap<CorralKey, Boolean>();
+	private final SokobanDeadlockDetector deadlockDetector;
+	private final int[] queue;
+	private final int[] regionStamps;
+	private final long[] regionBoxes;
+	private final SokobanReachability searchReachability;
+	private int stamp;
+
+	CorralAnalyzer(Board board) {
+		this.board = board;
+		corralBoxes = SokobanBits.create(board.cellCount);
+		corralCells = SokobanBits.create(board.cellCount);
+		regionBoxes = SokobanBits.create(board.cellCount);
+		regionStamps = new int[board.cellCount];
+		queue = new int[board.cellCount];
+		deadlockDetector = new SokobanDeadlockDetector(board.level);
+		searchReachability = new SokobanReachability(board.level);
+	}
+
+	/**
+	 * Look for the PI-corral with the fewest pushes in a position whose player region has been filled into the given
+	 * reachability. Return {@link #NONE}, {@link #PI_CORRAL} with {@link #corralBoxes} and {@link #corralCells} set, or
+	 * {@link #DEADLOCK} if a PI-corral can never be resolved.
+	 */
+	int analyze(long[] boxes, SokobanReachability reachability, int player) {
+		if (stamp > Integer.MAX_VALUE - board.cellCount) {
+			Arrays.fill(regionStamps, 0);
+			stamp = 0;
+		}
+		// every corral gets its own stamp, cells stamped since this call started have been seen
+		int firstStamp = stamp + 1;
+		int bestPushes = Integer.MAX_VALUE;
+		for (int start = 0; start < board.cellCount; start++) {
+			if (regionStamps[start] >= firstStamp || !isCorralCell(boxes, reachability, start))
+				continue;
+			stamp++;
+			int size = fillRegion(boxes, reachability, start);
+			int pushes = countPiPushes(boxes, reachability, size);
+			if (pushes <= 0 || pushes >= bestPushes)
+				continue;
+			bestPushes = pushes;
+			System.arraycopy(regionBoxes, 0, corralBoxes, 0, regionBoxes.length);
+			Arrays.fill(corralCells, 0);
+			for (int i = 0; i < size; i++)
+				SokobanBits.set(corralCells, queue[i]);
+		}
+		if (bestPushes == Integer.MAX_VALUE)
+			return NONE;
+		return isDeadlocked(player) ? DEADLOCK : PI_CORRAL;
+	}
+
+	/**
+	 * Return the number of pushes into the region just filled if it is an unsolved PI-corral, else 0. Fills
+	 * {@link #regionBoxes} with the diamonds fencing it.
+	 */
+	private int countPiPushes(long[] boxes, SokobanReachability reachability, int size) {
+		Arrays.fill(regionBoxes, 0);
+		boolean solved = true;
+		for (int i = 0; i < size; i++) {
+			int cell = queue[i];
+			if (SokobanBits.get(board.goals, cell))
+				solved = false;
+			for (int d = 0; d < 4; d++) {
+				int next = cell + board.steps[d];
+				if (SokobanBits.get(boxes, next)) {
+					SokobanBits.set(regionBoxes, next);
+					if (!SokobanBits.get(board.goals, next))
+						solved = false;
+				}
+			}
+		}
+		if (solved)
+			return 0;
+
+		int pushes = 0;
+		for (int i = 0; i < regionBoxes.length; i++) {
+			long word = regionBoxes[i];
+			while (word != 0) {
+				int box = (i << 6) + Long.numberOfTrailingZeros(word);
+				word &= word - 1;
+				for (int d = 0; d < 4; d++) {
+					int target = box + board.steps[d];
+					int stand = box - board.steps[d];
+					if (!SokobanBits.get(board.floor, target) || SokobanBits.get(boxes, target)
+							|| SokobanBits.get(board.deadSquares, target))
+						continue;
+					boolean intoCorral = regionStamps[target] == stamp;
+					if (reachability.isReached(stand)) {
+						if (!intoCorral)
+							return 0; // not an I-corral
+						pushes++;
+					} else if (intoCorral && SokobanBits.get(board.floor, stand) && !SokobanBits.get(boxes, stand)) {
+						return 0; // not a P-corral: the player cannot get behind this diamond
+					}
+				}
+			}
+		}
+		return pushes;
+	}
+
+	/** Flood fill the corral containing the start cell into {@link #queue}, marking it with the current stamp. */
+	private int fillRegion(long[] boxes, SokobanReachability reachability, int start) {
+		int tail = 0;
+		queue[tail++] = start;
+		regionStamps[start] = stamp;
+		for (int head = 0; head < tail; head++) {
+			int cell = queue[head];
+			for (int d = 0; d < 4; d++) {
+				int next = cell + board.steps[d];
+				if (regionStamps[next] != stamp && isCorralCell(boxes, reachability, next)) {
+					regionStamps[next] = stamp;
+					queue[tail++] = next;
+				}
+			}
+		}
+		return tail;
+	}
+
+	private boolean isCorralCell(long[] boxes, SokobanReachability reachability, int cell) {
+		return SokobanBits.get(board.floor, cell) && !SokobanBits.get(boxes, cell) && !reachability.isReached(cell);
+	}
+
+	/**
+	 * Search positions with only the fencing diamonds of the corral on the board. The corral is resolved once the player
+	 * gets into it or all those diamonds stand on targets, and deadlocked if that never happens.
+	 */
+	private boolean isDeadlocked(int player) {
+		long[] startBoxes = corralBoxes.clone();
+		CorralKey key = new CorralKey(startBoxes, searchReachability.fill(board.floor, startBoxes, player));
+		Boolean cached = deadlockCache.get(key);
+		if (cached != null)
+			return cached.booleanValue();
+
+		boolean deadlocked = search(startBoxes, player);
+		if (deadlockCache.size() >= CACHE_LIMIT)
+			deadlockCache.clear();
+		deadlockCache.put(key, Boolean.valueOf(deadlocked));
+		return deadlocked;
+	}
+
+	/** Return whether the corral search ran out of positions without resolving the corral. */
+	private boolean search(long[] startBoxes, int startPlayer) {
+		Set<CorralKey> seen = new HashSet<CorralKey>();
+		ArrayDeque<CorralKey> open = new ArrayDeque<CorralKey>();
+		CorralKey start = new CorralKey(startBoxes, startPlayer);
+		open.add(start);
+		seen.add(start);
+		while (!open.isEmpty()) {
+			if (seen.size() > DEADLOCK_SEARCH_LIMIT)
+				return false;
+			CorralKey position = open.poll();
+			long[] boxes = position.boxes;
+			if (board.isSolved(boxes))
+				return false;
+			searchReachability.fill(board.floor, boxes, position.player);
+			for (int i = 0; i < corralCells.length; i++)
+				if ((searchReachability.reached()[i] & corralCells[i]) != 0)
+					return false;
+
+			for (int i = 0; i < boxes.length; i++) {
+				long word = boxes[i];
+				while (word != 0) {
+					int box = (i << 6) + Long.numberOfTrailingZeros(word);
+					word &= word - 1;
+					for (int d = 0; d < 4; d++) {
+						int target = box + board.steps[d];
+						if (!SokobanBits.get(board.floor, target) || SokobanBits.get(boxes, target)
+								|| SokobanBits.get(board.deadSquares, target)
+								|| !searchReachability.isReached(box - board.steps[d]))
+							continue;
+						long[] childBoxes = boxes.clone();
+						SokobanBits.clear(childBoxes, box);
+						SokobanBits.set(childBoxes, target);
+						if (deadlockDetector.isFreezeDeadlock(childBoxes, target))
+							continue;
+						// the player ends up where the diamond was, exact positions are good enough here
+						CorralKey child = new CorralKey(childBoxes, box);
+						if (seen.add(child))
+							open.add(child);
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+}
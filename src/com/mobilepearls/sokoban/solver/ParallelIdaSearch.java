@@ -0,0 +1,205 @@
+package com.mobilepearls.sokoban.solver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.mobilepearls.sokoban.solver.SokobanSolution.Status;
+
+/**
+ * Parallel IDA* over push space. The start position is expanded breadth first into many more subtrees than threads,
+ * and every iteration hands the subtrees to a thread pool as separate tasks, so idle threads pick up the remaining
+ * subtrees instead of waiting on a slow one. All threads share a striped transposition table, cleared per iteration.
+ * <p>
+ * Each iteration only searches below a bound on cost plus lower bound, raised to the least total that exceeded it, so
+ * any solution found within an iteration is optimal and the search stops at the first one.
+ */
+final class ParallelIdaSearch {
+
+	private static final class SubtreeResult {
+
+		int nextBound = Integer.MAX_VALUE;
+		SearchNode solution;
+		final SolverStatistics statistics = new SolverStatistics();
+	}
+
+	private static final int CHECK_INTERVAL = 1024;
+	private static final int FOUND = -1;
+	private static final long FRONTIER_TABLE_BYTES = 16L << 20;
+	private static final int SUBTREES_PER_THREAD = 16;
+
+	private final Board board;
+	private final int boxCount;
+	private final long deadline;
+	private final ThreadLocal<PushGenerator> generators = new ThreadLocal<PushGenerator>() {
+		@Override
+		protected PushGenerator initialValue() {
+			return new PushGenerator(board, metric, boxCount);
+		}
+	};
+	private volatile boolean limitReached;
+	private final SokobanSolver.Metric metric;
+	private final long nodeLimit;
+	private final AtomicLong nodesExpanded = new AtomicLong();
+	private volatile boolean solutionFound;
+	private final StripedTranspositionTable table;
+	private final int threads;
+
+	ParallelIdaSearch(Board board, SokobanSolver.Metric metric, long timeLimitMillis, long nodeLimit, int boxCount,
+			long tableBytes, int threads) {
+		this.board = board;
+		this.metric = metric;
+		this.nodeLimit = nodeLimit;
+		this.boxCount = boxCount;
+		this.threads = threads;
+		this.deadline = (timeLimitMillis > 0) ? System.nanoTime() + timeLimitMillis * 1000000 : Long.MAX_VALUE;
+		table = new StripedTranspositionTable(tableBytes, Math.min(64, Integer.highestOneBit(threads) * 4));
+	}
+
+	/** Expand the root breadth first until there are enough subtrees to keep all threads busy. */
+	private List<SearchNode> buildFrontier(SearchNode root, PushGenerator generator, SolverStatistics statistics) {
+		TranspositionTable seen = new TranspositionTable(FRONTIER_TABLE_BYTES);
+		seen.store(root.hash, root.fingerprint, root.cost);
+		List<SearchNode> frontier = new ArrayList<SearchNode>();
+		frontier.add(root);
+		List<SearchNode> children = new ArrayList<SearchNode>();
+		while (frontier.size() < threads * SUBTREES_PER_THREAD && !checkLimits(0)) {
+			List<SearchNode> next = new ArrayList<SearchNode>();
+			boolean expanded = false;
+			for (SearchNode node : frontier) {
+				if (board.isSolved(node.boxes)) {
+					// keep solutions, the iterations find out whether they are optimal
+					next.add(node);
+					continue;
+				}
+				expanded = true;
+				statistics.nodesExpanded++;
+				children.clear();
+				generator.expand(node, children, statistics);
+				for (SearchNode child : children)
+					if (seen.store(child.hash, child.fingerprint, child.cost))
+						next.add(child);
+			}
+			frontier = next;
+			if (!expanded)
+				break;
+		}
+		return frontier;
+	}
+
+	/** Count the given expansions and return whether the search should stop. */
+	private boolean checkLimits(int expansions) {
+		long total = nodesExpanded.addAndGet(expansions);
+		if (System.nanoTime() > deadline || (nodeLimit > 0 && total >= nodeLimit))
+			limitReached = true;
+		return limitReached || solutionFound;
+	}
+
+	SokobanSolution run(long[] startBoxes, int startPlayer) {
+		long startTime = System.nanoTime();
+		SolverStatistics statistics = new SolverStatistics();
+		PushGenerator generator = new PushGenerator(board, metric, boxCount);
+		Status status = Status.UNSOLVABLE;
+		SearchNode solved = null;
+
+		SearchNode root = generator.root(startBoxes, startPlayer);
+		List<SearchNode> frontier = (root == null) ? Collections.<SearchNode> emptyList()
+				: buildFrontier(root, generator, statistics);
+		nodesExpanded.addAndGet(statistics.nodesExpanded);
+		int bound = Integer.MAX_VALUE;
+		for (SearchNode node : frontier)
+			bound = Math.min(bound, node.total());
+
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try {
+			while (!frontier.isEmpty() && bound != Integer.MAX_VALUE && !limitReached) {
+				table.clear();
+				List<Future<SubtreeResult>> futures = new ArrayList<Future<SubtreeResult>>(frontier.size());
+				for (SearchNode node : frontier)
+					futures.add(pool.submit(subtreeTask(node, bound)));
+
+				int nextBound = Integer.MAX_VALUE;
+				for (Future<SubtreeResult> future : futures) {
+					SubtreeResult result = future.get();
+					statistics.add(result.statistics);
+					nextBound = Math.min(nextBound, result.nextBound);
+					if (result.solution != null && (solved == null || result.solution.cost < solved.cost))
+						solved = result.solution;
+				}
+				statistics.sampleMemory();
+				if (solved != null)
+					break;
+				bound = nextBound;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			limitReached = true;
+		} catch (ExecutionException e) {
+			throw new RuntimeException("Search thread failed", e.getCause());
+		} finally {
+			pool.shutdownNow();
+		}
+
+		if (solved != null)
+			status = Status.SOLVED;
+		else if (limitReached)
+			status = Status.LIMIT_REACHED;
+		statistics.elapsedNanos = System.nanoTime() - startTime;
+		table.recordStatistics(statistics);
+		String lurd = (solved == null) ? null : generator.toLurd(solved, startBoxes, startPlayer);
+		return new SokobanSolution(status, lurd, statistics);
+	}
+
+	/** Depth first search below the bound, returning {@link #FOUND} or the least total exceeding the bound. */
+	private int search(SearchNode node, int bound, PushGenerator generator, SubtreeResult result) {
+		int total = node.total();
+		if (total > bound)
+			return total;
+		if (board.isSolved(node.boxes)) {
+			result.solution = node;
+			solutionFound = true;
+			return FOUND;
+		}
+		// reached before in this iteration at no higher cost, that visit covers this subtree
+		if (!table.store(node.hash, node.fingerprint, node.cost))
+			return Integer.MAX_VALUE;
+		if (++result.statistics.nodesExpanded % CHECK_INTERVAL == 0) {
+			result.statistics.sampleMemory();
+			if (checkLimits(CHECK_INTERVAL))
+				return Integer.MAX_VALUE;
+		} else if (solutionFound || limitReached) {
+			return Integer.MAX_VALUE;
+		}
+
+		List<SearchNode> children = new ArrayList<SearchNode>();
+		generator.expand(node, children, result.statistics);
+		Collections.sort(children, AStarSearch.ORDER);
+		int nextBound = Integer.MAX_VALUE;
+		for (SearchNode child : children) {
+			int childResult = search(child, bound, generator, result);
+			if (childResult == FOUND)
+				return FOUND;
+			nextBound = Math.min(nextBound, childResult);
+		}
+		return nextBound;
+	}
+
+	private Callable<SubtreeResult> subtreeTask(final SearchNode node, final int bound) {
+		return new Callable<SubtreeResult>() {
+			@Override
+			public SubtreeResult call() {
+				SubtreeResult result = new SubtreeResult();
+				if (!solutionFound && !limitReached)
+					result.nextBound = search(node, bound, generators.get(), result);
+				return result;
+			}
+		};
+	}
+
+}
@@ -0,0 +1,49 @@
+package com.mobilepearls.sokoban.solver;
+
+import java.util.Arrays;
+
+import com.mobilepearls.sokoban.SokobanBits;
+
+/**
+ * The least number of pushes needed to move a diamond from any cell to each target, respecting walls but ignoring other
+ * diamonds. Found by pulling a diamond backwards from each target, and stored in one flat array indexed by target and
+ * cell so lookups inside the search allocate nothing.
+ */
+final class PushDistanceTable {
+
+	/** Distance of cells a diamond can never be pushed from to the target. */
+	static final short UNREACHABLE = Short.MAX_VALUE;
+
+	private final int cellCount;
+	private final short[] distances;
+
+	PushDistanceTable(Board board) {
+		cellCount = board.cellCount;
+		distances = new short[board.goalCells.length * cellCount];
+		Arrays.fill(distances, UNREACHABLE);
+
+		int[] queue = new int[cellCount];
+		for (int goal = 0; goal < board.goalCells.length; goal++) {
+			int offset = goal * cellCount;
+			int tail = 0;
+			queue[tail++] = board.goalCells[goal];
+			distances[offset + board.goalCells[goal]] = 0;
+			for (int head = 0; head < tail; head++) {
+				int cell = queue[head];
+				for (int step : board.steps) {
+					int to = cell + step;
+					if (SokobanBits.get(board.floor, to) && SokobanBits.get(board.floor, to + step)
+							&& distances[offset + to] == UNREACHABLE) {
+						distances[offset + to] = (short) (distances[offset + cell] + 1);
+						queue[tail++] = to;
+					}
+				}
+			}
+		}
+	}
+
+	int distance(int goalIndex, int cell) {
+		return distances[goalIndex * cellCount + cell];
+	}
+
+}
@@ -0,0 +1,185 @@
+package com.mobilepearls.sokoban.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.mobilepearls.sokoban.SokobanBits;
+import com.mobilepearls.sokoban.SokobanDeadlockDetector;
+import com.mobilepearls.sokoban.SokobanReachability;
+import com.mobilepearls.sokoban.SokobanZobrist;
+
+/**
+ * Generates the children of search nodes: every push the player can make that does not lead into a dead square, a
+ * freeze, an unresolvable corral or a position without diamond to target assignment. Walking between pushes is folded
+ * into the reachability of the player. Holds buffers for all of this, so each search thread needs its own instance.
+ */
+final class PushGenerator {
+
+	private final Board board;
+	private final CorralAnalyzer corralAnalyzer;
+	private final SokobanDeadlockDetector deadlockDetector;
+	private final int[] distances;
+	private final int[] distanceStamps;
+	private final SokobanReachability keyReachability;
+	private final AssignmentLowerBound lowerBound;
+	private final SokobanSolver.Metric metric;
+	private final int[] queue;
+	/** Reachability of the node being expanded, kept separate from {@link #keyReachability} used for its children. */
+	private final SokobanReachability reachability;
+	private int stamp;
+
+	PushGenerator(Board board, SokobanSolver.Metric metric, int boxCount) {
+		this.board = board;
+		this.metric = metric;
+		lowerBound = new AssignmentLowerBound(board, board.distances, boxCount);
+		reachability = new SokobanReachability(board.level);
+		keyReachability = new SokobanReachability(board.level);
+		deadlockDetector = new SokobanDeadlockDetector(board.level);
+		corralAnalyzer = new CorralAnalyzer(board);
+		distances = new int[board.cellCount];
+		distanceStamps = new int[board.cellCount];
+		queue = new int[board.cellCount];
+	}
+
+	private void appendWalk(StringBuilder result, long[] boxes, int from, int to) {
+		// search backwards from the destination so the path can be read off forwards
+		computeDistances(boxes, to);
+		int cell = from;
+		while (cell != to) {
+			for (int d = 0; d < 4; d++) {
+				int next = cell + board.steps[d];
+				int distance = distanceTo(next);
+				if (distance >= 0 && distance == distanceTo(cell) - 1) {
+					result.append(Board.MOVE_CHARS[d]);
+					cell = next;
+					break;
+				}
+			}
+		}
+	}
+
+	/** Breadth first search of walking distances from the player, readable with {@link #distanceTo(int)}. */
+	private void computeDistances(long[] boxes, int player) {
+		if (++stamp == Integer.MAX_VALUE) {
+			Arrays.fill(distanceStamps, 0);
+			stamp = 1;
+		}
+		int head = 0;
+		int tail = 0;
+		queue[tail++] = player;
+		distances[player] = 0;
+		distanceStamps[player] = stamp;
+		while (head < tail) {
+			int cell = queue[head++];
+			for (int d = 0; d < 4; d++) {
+				int next = cell + board.steps[d];
+				if (distanceStamps[next] != stamp && SokobanBits.get(board.floor, next)
+						&& !SokobanBits.get(boxes, next)) {
+					distanceStamps[next] = stamp;
+					distances[next] = distances[cell] + 1;
+					queue[tail++] = next;
+				}
+			}
+		}
+	}
+
+	private int distanceTo(int cell) {
+		return (distanceStamps[cell] == stamp) ? distances[cell] : -1;
+	}
+
+	/** Add the children of the node to the list. */
+	void expand(SearchNode node, List<SearchNode> children, SolverStatistics statistics) {
+		long[] boxes = node.boxes;
+		reachability.fill(board.floor, boxes, node.player);
+		if (metric == SokobanSolver.Metric.MOVES)
+			computeDistances(boxes, node.player);
+
+		int corral = corralAnalyzer.analyze(boxes, reachability, node.player);
+		if (corral == CorralAnalyzer.DEADLOCK) {
+			statistics.corralDeadlocks++;
+			return;
+		}
+		// postponing the other pushes keeps the number of pushes but not of moves
+		boolean restrictToCorral = corral == CorralAnalyzer.PI_CORRAL && metric == SokobanSolver.Metric.PUSHES;
+		if (restrictToCorral)
+			statistics.corralPrunes++;
+		lowerBound.prepare(boxes);
+
+		for (int i = 0; i < boxes.length; i++) {
+			long word = boxes[i];
+			while (word != 0) {
+				int box = (i << 6) + Long.numberOfTrailingZeros(word);
+				word &= word - 1;
+				for (int d = 0; d < 4; d++) {
+					int step = board.steps[d];
+					int target = box + step;
+					int stand = box - step;
+					if (!SokobanBits.get(board.floor, target) || SokobanBits.get(boxes, target)
+							|| SokobanBits.get(board.deadSquares, target) || !reachability.isReached(stand))
+						continue;
+					if (restrictToCorral && (!SokobanBits.get(corralAnalyzer.corralBoxes, box)
+							|| !SokobanBits.get(corralAnalyzer.corralCells, target)))
+						continue;
+
+					long[] childBoxes = boxes.clone();
+					SokobanBits.clear(childBoxes, box);
+					SokobanBits.set(childBoxes, target);
+					if (deadlockDetector.isFreezeDeadlock(childBoxes, target))
+						continue;
+					int estimate = lowerBound.estimateMove(box, target);
+					if (estimate == AssignmentLowerBound.DEADLOCK)
+						continue;
+					int cost = node.cost + 1;
+					if (metric == SokobanSolver.Metric.MOVES)
+						cost += distanceTo(stand);
+
+					long boxHash = node.hash ^ SokobanZobrist.playerKey(node.keyPlayer) ^ SokobanZobrist.boxKey(box)
+							^ SokobanZobrist.boxKey(target);
+					children.add(newNode(node, childBoxes, box, d, cost, estimate, boxHash));
+					statistics.nodesGenerated++;
+				}
+			}
+		}
+	}
+
+	private SearchNode newNode(SearchNode parent, long[] boxes, int player, int direction, int cost, int estimate,
+			long boxHash) {
+		int keyPlayer = (metric == SokobanSolver.Metric.PUSHES) ? keyReachability.fill(board.floor, boxes, player)
+				: player;
+		// after a push the player stands where the pushed diamond was
+		int boxFrom = (parent == null) ? -1 : player;
+		return new SearchNode(parent, boxes, player, keyPlayer, boxHash ^ SokobanZobrist.playerKey(keyPlayer), boxFrom,
+				direction, cost, estimate);
+	}
+
+	/** Return the root node for a start position, or null if the position is already known to be dead. */
+	SearchNode root(long[] startBoxes, int startPlayer) {
+		int estimate = lowerBound.prepare(startBoxes);
+		if (estimate == AssignmentLowerBound.DEADLOCK || board.hasDeadBox(startBoxes))
+			return null;
+		return newNode(null, startBoxes.clone(), startPlayer, -1, 0, estimate, SokobanZobrist.hashBoxes(startBoxes));
+	}
+
+	/** Replay the pushes leading to the node and fill in the walks between them. */
+	String toLurd(SearchNode node, long[] startBoxes, int startPlayer) {
+		List<SearchNode> path = new ArrayList<SearchNode>();
+		for (SearchNode n = node; n.parent != null; n = n.parent)
+			path.add(n);
+
+		StringBuilder result = new StringBuilder();
+		long[] boxes = startBoxes.clone();
+		int player = startPlayer;
+		for (int i = path.size() - 1; i >= 0; i--) {
+			SearchNode push = path.get(i);
+			int step = board.steps[push.direction];
+			appendWalk(result, boxes, player, push.boxFrom - step);
+			result.append(Board.PUSH_CHARS[push.direction]);
+			SokobanBits.clear(boxes, push.boxFrom);
+			SokobanBits.set(boxes, push.boxFrom + step);
+			player = push.boxFrom;
+		}
+		return result.toString();
+	}
+
+}
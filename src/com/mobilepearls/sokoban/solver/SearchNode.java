@@ -0,0 +1,42 @@
+package com.mobilepearls.sokoban.solver;
+
+/**
+ * A position reached by a push: the diamonds, the cell the player stands on after the push and the push leading here.
+ * Positions are identified in the {@link TranspositionTable} by the diamonds and the key player cell, which is the
+ * normalized player cell when searching for pushes and the exact player cell when searching for moves.
+ */
+final class SearchNode {
+
+	final long[] boxes;
+	/** The cell of the pushed diamond before the push, or -1 for the root. */
+	final int boxFrom;
+	final int cost;
+	final int direction;
+	final int estimate;
+	/** See {@link TranspositionTable#fingerprint(long[])}. */
+	final int fingerprint;
+	/** Zobrist hash of the diamonds and the key player cell. */
+	final long hash;
+	final int keyPlayer;
+	final SearchNode parent;
+	final int player;
+
+	SearchNode(SearchNode parent, long[] boxes, int player, int keyPlayer, long hash, int boxFrom, int direction,
+			int cost, int estimate) {
+		this.parent = parent;
+		this.boxes = boxes;
+		this.player = player;
+		this.keyPlayer = keyPlayer;
+		this.hash = hash;
+		this.fingerprint = TranspositionTable.fingerprint(boxes);
+		this.boxFrom = boxFrom;
+		this.direction = direction;
+		this.cost = cost;
+		this.estimate = estimate;
+	}
+
+	int total() {
+		return cost + estimate;
+	}
+
+}
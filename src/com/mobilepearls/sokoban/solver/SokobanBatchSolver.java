@@ -0,0 +1,340 @@
+package com.mobilepearls.sokoban.solver;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.mobilepearls.sokoban.SokobanLevels;
+
+/**
+ * Command line runner solving every level in {@link SokobanLevels} with per level time, node, heap and table limits,
+ * spreading the levels over a thread pool. The heap limit defaults to an equal share per thread of three quarters of
+ * the maximum heap, and a level running out of memory anyway is recorded as OUT_OF_MEMORY instead of ending the run.
+ * Each result is appended to a CSV file as soon as it is known, and levels already in the file are skipped, so an
+ * interrupted run picks up where it stopped. Each row records the metric and limits it was solved with, and a level
+ * solved for another metric or given up on under other limits is solved again. A JSON report of all rows is written at
+ * the end.
+ *
+ * <pre>
+ * SokobanBatchSolver [--csv solve.csv] [--json solve.json] [--time-ms 10000] [--max-nodes 0] [--heap-mb N]
+ *                    [--table-mb 64] [--threads N] [--sets 0,1,2] [--metric PUSHES|MOVES]
+ * </pre>
+ */
+public final class SokobanBatchSolver {
+
+	private static final String CSV_HEADER = "set,level,metric,time_ms,max_nodes,heap_mb,status,moves,pushes,"
+			+ "nodes_expanded,wall_ms,peak_heap_bytes,lurd";
+	private static final int CSV_FIELDS = 13;
+	private static final int FIELD_HEAP_MB = 5;
+	private static final int FIELD_LEVEL = 1;
+	private static final int FIELD_LURD = 12;
+	private static final int FIELD_MAX_NODES = 4;
+	private static final int FIELD_METRIC = 2;
+	private static final int FIELD_MOVES = 7;
+	private static final int FIELD_NODES = 9;
+	private static final int FIELD_PEAK_HEAP = 11;
+	private static final int FIELD_PUSHES = 8;
+	private static final int FIELD_SET = 0;
+	private static final int FIELD_STATUS = 6;
+	private static final int FIELD_TIME_MS = 3;
+	private static final int FIELD_WALL_MS = 10;
+	/** Status of a level whose search ran out of memory before reaching the heap limit. */
+	private static final String OUT_OF_MEMORY = "OUT_OF_MEMORY";
+
+	/**
+	 * Return whether a row read back from the CSV file was written completely. The solution is the last field, so a line
+	 * cut off inside it still has all fields, but its solution is shorter than the number of moves.
+	 */
+	private static boolean isComplete(String[] row) {
+		if (row.length != CSV_FIELDS)
+			return false;
+		// a damaged number throws a NumberFormatException
+		for (int i = 0; i < CSV_FIELDS; i++)
+			if (!isText(i))
+				Long.parseLong(row[i]);
+		return !SokobanSolution.Status.SOLVED.name().equals(row[FIELD_STATUS])
+				|| row[FIELD_LURD].length() == Integer.parseInt(row[FIELD_MOVES]);
+	}
+
+	private static boolean isText(int field) {
+		return field == FIELD_METRIC || field == FIELD_STATUS || field == FIELD_LURD;
+	}
+
+	private static String key(int levelSet, int level) {
+		return String.format("%02d-%05d", levelSet, level);
+	}
+
+	public static void main(String[] args) throws IOException, InterruptedException {
+		SokobanBatchSolver runner = new SokobanBatchSolver();
+		for (int i = 0; i < args.length; i += 2) {
+			if (i + 1 >= args.length)
+				usage("Missing value for " + args[i]);
+			String value = args[i + 1];
+			if ("--csv".equals(args[i])) {
+				runner.csvFile = new File(value);
+			} else if ("--json".equals(args[i])) {
+				runner.jsonFile = new File(value);
+			} else if ("--time-ms".equals(args[i])) {
+				runner.timeLimitMillis = Long.parseLong(value);
+			} else if ("--max-nodes".equals(args[i])) {
+				runner.nodeLimit = Long.parseLong(value);
+			} else if ("--heap-mb".equals(args[i])) {
+				runner.heapBytes = Long.parseLong(value) << 20;
+			} else if ("--table-mb".equals(args[i])) {
+				runner.tableBytes = Long.parseLong(value) << 20;
+				if (runner.tableBytes > TranspositionTable.MAX_BUDGET_BYTES)
+					usage("--table-mb must not exceed " + (TranspositionTable.MAX_BUDGET_BYTES >> 20));
+			} else if ("--threads".equals(args[i])) {
+				runner.threads = Integer.parseInt(value);
+			} else if ("--metric".equals(args[i])) {
+				runner.metric = SokobanSolver.Metric.valueOf(value);
+			} else if ("--sets".equals(args[i])) {
+				runner.levelSets = new ArrayList<Integer>();
+				for (String set : value.split(","))
+					runner.levelSets.add(Integer.valueOf(set.trim()));
+			} else {
+				usage("Unknown option " + args[i]);
+			}
+		}
+		runner.run();
+	}
+
+	private static void usage(String message) {
+		System.err.println(message);
+		System.err.println("Usage: SokobanBatchSolver [--csv file] [--json file] [--time-ms ms] [--max-nodes n]"
+				+ " [--heap-mb mb] [--table-mb mb] [--threads n] [--sets 0,1,...] [--metric PUSHES|MOVES]");
+		System.exit(1);
+	}
+
+	private File csvFile = new File("solve.csv");
+	/** The heap limit per level, 0 for none or negative for a share of the maximum heap per thread. */
+	private long heapBytes = -1;
+	private File jsonFile = new File("solve.json");
+	private List<Integer> levelSets;
+	private SokobanSolver.Metric metric = SokobanSolver.Metric.PUSHES;
+	private long nodeLimit;
+	/** Rows by {@link #key(int, int)}, sorted by level set and level. */
+	private final Map<String, String[]> rows = new TreeMap<String, String[]>();
+	private long tableBytes = SokobanSolver.DEFAULT_TABLE_BYTES;
+	private int threads = Runtime.getRuntime().availableProcessors();
+	private long timeLimitMillis = 10000;
+
+	/** Append a row to the CSV file, flushed immediately so it survives a crash. */
+	private synchronized void append(Writer csv, String[] row) throws IOException {
+		StringBuilder line = new StringBuilder();
+		for (int i = 0; i < row.length; i++) {
+			if (i > 0)
+				line.append(',');
+			line.append(row[i]);
+		}
+		csv.write(line.append('\n').toString());
+		csv.flush();
+		rows.put(key(Integer.parseInt(row[FIELD_SET]), Integer.parseInt(row[FIELD_LEVEL])), row);
+	}
+
+	/**
+	 * Return whether a row of a previous run holds for the current settings: a solution or proof of unsolvability for
+	 * the same metric, or a level given up on under the same limits.
+	 */
+	private boolean isReusable(String[] row) {
+		if (!metric.name().equals(row[FIELD_METRIC]))
+			return false;
+		String status = row[FIELD_STATUS];
+		if (SokobanSolution.Status.SOLVED.name().equals(status)
+				|| SokobanSolution.Status.UNSOLVABLE.name().equals(status))
+			return true;
+		return Long.parseLong(row[FIELD_TIME_MS]) == timeLimitMillis
+				&& Long.parseLong(row[FIELD_MAX_NODES]) == nodeLimit
+				&& Long.parseLong(row[FIELD_HEAP_MB]) == heapBytes >> 20;
+	}
+
+	/** Load the rows of a previous run which hold for the current settings, dropping a partially written last line. */
+	private void loadPreviousRows() throws IOException {
+		if (!csvFile.exists())
+			return;
+		BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(csvFile), "UTF-8"));
+		try {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String[] row = line.split(",", -1);
+				if (line.equals(CSV_HEADER))
+					continue;
+				try {
+					if (isComplete(row) && isReusable(row))
+						rows.put(key(Integer.parseInt(row[FIELD_SET]), Integer.parseInt(row[FIELD_LEVEL])), row);
+				} catch (NumberFormatException e) {
+					// damaged line, the level is solved again
+				}
+			}
+		} finally {
+			reader.close();
+		}
+	}
+
+	/**
+	 * Replace the CSV file with the complete rows of the previous run, written to a temporary file first so that a crash
+	 * while rewriting does not lose them.
+	 */
+	private void rewritePreviousRows() throws IOException {
+		File temporary = new File(csvFile.getPath() + ".tmp");
+		Writer csv = new OutputStreamWriter(new FileOutputStream(temporary), "UTF-8");
+		try {
+			csv.write(CSV_HEADER + "\n");
+			for (String[] row : rows.values())
+				append(csv, row);
+		} finally {
+			csv.close();
+		}
+		// renaming over an existing file fails on some platforms
+		if (!temporary.renameTo(csvFile) && !(csvFile.delete() && temporary.renameTo(csvFile)))
+			throw new IOException("Cannot rename " + temporary + " to " + csvFile);
+	}
+
+	/** Return a new row for a level, starting with the settings it is solved with. */
+	private String[] row(int levelSet, int level, String status) {
+		String[] row = new String[CSV_FIELDS];
+		row[FIELD_SET] = Integer.toString(levelSet);
+		row[FIELD_LEVEL] = Integer.toString(level);
+		row[FIELD_METRIC] = metric.name();
+		row[FIELD_TIME_MS] = Long.toString(timeLimitMillis);
+		row[FIELD_MAX_NODES] = Long.toString(nodeLimit);
+		row[FIELD_HEAP_MB] = Long.toString(heapBytes >> 20);
+		row[FIELD_STATUS] = status;
+		return row;
+	}
+
+	private void run() throws IOException, InterruptedException {
+		if (heapBytes < 0)
+			heapBytes = Runtime.getRuntime().maxMemory() / 4 * 3 / threads;
+		loadPreviousRows();
+		rewritePreviousRows();
+		Writer csv = new OutputStreamWriter(new FileOutputStream(csvFile, true), "UTF-8");
+		try {
+			List<int[]> pending = new ArrayList<int[]>();
+			for (int set = 0; set < SokobanLevels.getLevelSetCount(); set++) {
+				if (levelSets != null && !levelSets.contains(set))
+					continue;
+				for (int level = 0; level < SokobanLevels.getLevelCount(set); level++)
+					if (!rows.containsKey(key(set, level)))
+						pending.add(new int[] { set, level });
+			}
+			System.out.println(rows.size() + " levels already done, " + pending.size() + " to go on " + threads
+					+ " threads");
+
+			solveAll(csv, pending);
+		} finally {
+			csv.close();
+		}
+		writeJson();
+		summarize();
+	}
+
+	private String[] solve(int levelSet, int level) {
+		SokobanSolver solver = SokobanSolver.forLevel(levelSet, level);
+		solver.setMetric(metric);
+		solver.setTimeLimitMillis(timeLimitMillis);
+		solver.setNodeLimit(nodeLimit);
+		solver.setHeapBytes(heapBytes);
+		solver.setTableBytes(tableBytes);
+		long start = System.nanoTime();
+		SokobanSolution solution;
+		try {
+			solution = solver.solve();
+		} catch (OutOfMemoryError e) {
+			// the search is unreachable once this returns, so the other threads get the memory back
+			String[] row = row(levelSet, level, OUT_OF_MEMORY);
+			row[FIELD_MOVES] = "0";
+			row[FIELD_PUSHES] = "0";
+			row[FIELD_NODES] = "0";
+			row[FIELD_WALL_MS] = Long.toString((System.nanoTime() - start) / 1000000);
+			row[FIELD_PEAK_HEAP] = "0";
+			row[FIELD_LURD] = "";
+			return row;
+		}
+		SolverStatistics statistics = solution.getStatistics();
+		String[] row = row(levelSet, level, solution.getStatus().name());
+		row[FIELD_MOVES] = Integer.toString(solution.getMoves());
+		row[FIELD_PUSHES] = Integer.toString(solution.getPushes());
+		row[FIELD_NODES] = Long.toString(statistics.getNodesExpanded());
+		row[FIELD_WALL_MS] = Long.toString(statistics.getElapsedMillis());
+		row[FIELD_PEAK_HEAP] = Long.toString(statistics.getPeakMemoryBytes());
+		row[FIELD_LURD] = solution.isSolved() ? solution.getLurd() : "";
+		return row;
+	}
+
+	private void solveAll(final Writer csv, List<int[]> pending) throws IOException, InterruptedException {
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<String[]>> futures = new ArrayList<Future<String[]>>();
+			for (final int[] level : pending) {
+				futures.add(pool.submit(new Callable<String[]>() {
+					@Override
+					public String[] call() throws IOException {
+						String[] row = solve(level[0], level[1]);
+						append(csv, row);
+						System.out.println(key(level[0], level[1]) + " " + row[FIELD_STATUS] + " " + row[FIELD_PUSHES]
+								+ " pushes, " + row[FIELD_WALL_MS] + " ms");
+						return row;
+					}
+				}));
+			}
+			for (Future<String[]> future : futures)
+				future.get();
+		} catch (ExecutionException e) {
+			throw new IOException("Solving failed: " + e.getCause());
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	private void summarize() {
+		int solved = 0;
+		long nodes = 0;
+		long millis = 0;
+		for (String[] row : rows.values()) {
+			if (SokobanSolution.Status.SOLVED.name().equals(row[FIELD_STATUS]))
+				solved++;
+			nodes += Long.parseLong(row[FIELD_NODES]);
+			millis += Long.parseLong(row[FIELD_WALL_MS]);
+		}
+		System.out.println(String.format("%d of %d levels solved, %d nodes in %d ms of solver time (%.0f nodes/s)",
+				solved, rows.size(), nodes, millis, millis == 0 ? 0 : nodes * 1000.0 / millis));
+	}
+
+	private void writeJson() throws IOException {
+		String[] names = CSV_HEADER.split(",");
+		Writer json = new OutputStreamWriter(new FileOutputStream(jsonFile), "UTF-8");
+		try {
+			json.write("[\n");
+			List<String[]> all = new ArrayList<String[]>(rows.values());
+			for (int r = 0; r < all.size(); r++) {
+				String[] row = all.get(r);
+				json.write("  {");
+				for (int i = 0; i < CSV_FIELDS; i++) {
+					if (i > 0)
+						json.write(", ");
+					json.write("\"" + names[i] + "\": " + (isText(i) ? "\"" + row[i] + "\"" : row[i]));
+				}
+				json.write(r + 1 < all.size() ? "},\n" : "}\n");
+			}
+			json.write("]\n");
+		} finally {
+			json.close();
+		}
+	}
+
+}
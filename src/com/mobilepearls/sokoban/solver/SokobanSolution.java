@@ -0,0 +1,65 @@
+package com.mobilepearls.sokoban.solver;
+
+/** The result of a {@link SokobanSolver} run. */
+public final class SokobanSolution {
+
+	public enum Status {
+		/** The search gave up after reaching its time, node or heap limit. */
+		LIMIT_REACHED,
+		/** A solution was found, optimal for the {@link SokobanSolver.Metric} searched for. */
+		SOLVED,
+		/** The search space was exhausted: the position cannot be solved. */
+		UNSOLVABLE
+	}
+
+	private final String lurd;
+	private final SolverStatistics statistics;
+	private final Status status;
+
+	SokobanSolution(Status status, String lurd, SolverStatistics statistics) {
+		this.status = status;
+		this.lurd = lurd;
+		this.statistics = statistics;
+	}
+
+	/**
+	 * Return the solution in LURD notation: one letter per move, upper case for pushes. Null if not {@link Status#SOLVED}.
+	 */
+	public String getLurd() {
+		return lurd;
+	}
+
+	public int getMoves() {
+		return lurd == null ? 0 : lurd.length();
+	}
+
+	public int getPushes() {
+		if (lurd == null)
+			return 0;
+		int pushes = 0;
+		for (int i = 0; i < lurd.length(); i++)
+			if (Character.isUpperCase(lurd.charAt(i)))
+				pushes++;
+		return pushes;
+	}
+
+	public SolverStatistics getStatistics() {
+		return statistics;
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	public boolean isSolved() {
+		return status == Status.SOLVED;
+	}
+
+	@Override
+	public String toString() {
+		if (!isSolved())
+			return status + ": " + statistics;
+		return getMoves() + " moves, " + getPushes() + " pushes: " + lurd + " (" + statistics + ")";
+	}
+
+}
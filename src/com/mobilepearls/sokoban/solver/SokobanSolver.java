@@ -0,0 +1,125 @@
+package com.mobilepearls.sokoban.solver;
+
+import com.mobilepearls.sokoban.SokobanBits;
+import com.mobilepearls.sokoban.SokobanGameState;
+import com.mobilepearls.sokoban.SokobanLevel;
+import com.mobilepearls.sokoban.SokobanLevels;
+
+/**
+ * Solver for Sokoban positions, independent of Android. Searches push space with A*, or with parallel IDA* when given
+ * more than one thread, bounded by an optimal diamond to target assignment, and returns an optimal solution for
+ * the configured {@link Metric} in LURD notation:
+ *
+ * <pre>
+ * SokobanSolution solution = SokobanSolver.forLevel(0, 0).solve();
+ * </pre>
+ */
+public final class SokobanSolver {
+
+	public enum Metric {
+		/** Minimize the number of moves, then nothing. */
+		MOVES,
+		/** Minimize the number of pushes, merging positions the player can walk between. */
+		PUSHES
+	}
+
+	/** Default memory budget of the transposition table. */
+	public static final long DEFAULT_TABLE_BYTES = 64L << 20;
+
+	/** Create a solver for the start of a level from {@link SokobanLevels}. */
+	public static SokobanSolver forLevel(int levelSet, int level) {
+		return new SokobanSolver(SokobanLevels.getLevel(levelSet, level));
+	}
+
+	public static void main(String[] args) {
+		if (args.length < 2) {
+			System.err.println("Usage: SokobanSolver <level set> <level> [PUSHES|MOVES] [threads]");
+			System.exit(1);
+		}
+		SokobanSolver solver = forLevel(Integer.parseInt(args[0]), Integer.parseInt(args[1]));
+		if (args.length > 2)
+			solver.setMetric(Metric.valueOf(args[2]));
+		if (args.length > 3)
+			solver.setThreads(Integer.parseInt(args[3]));
+		System.out.println(solver.solve());
+	}
+
+	private long heapBytes;
+	private final SokobanLevel level;
+	private Metric metric = Metric.PUSHES;
+	private long nodeLimit;
+	private final long[] startBoxes;
+	private final int startPlayer;
+	private long tableBytes = DEFAULT_TABLE_BYTES;
+	private int threads = 1;
+	private long timeLimitMillis;
+
+	/** Create a solver for the position of a game in progress. */
+	public SokobanSolver(SokobanGameState state) {
+		level = state.getLevel();
+		startBoxes = state.getBoxes().clone();
+		startPlayer = state.getPlayerCell();
+	}
+
+	/** Create a solver for the start of a level. */
+	public SokobanSolver(SokobanLevel level) {
+		this.level = level;
+		startBoxes = level.getBoxes();
+		startPlayer = level.getPlayer();
+	}
+
+	/**
+	 * Give up once the positions kept on the heap are estimated to take this many bytes, or pass 0 for no limit (the
+	 * default). This bounds the open list of A*; IDA* only keeps the current path and a small frontier on the heap.
+	 */
+	public void setHeapBytes(long heapBytes) {
+		this.heapBytes = heapBytes;
+	}
+
+	public void setMetric(Metric metric) {
+		this.metric = metric;
+	}
+
+	/** Give up after expanding this many nodes, or 0 for no limit (the default). */
+	public void setNodeLimit(long nodeLimit) {
+		this.nodeLimit = nodeLimit;
+	}
+
+	/**
+	 * Set the memory budget of the off-heap table of visited positions. Once full, old entries are overwritten and some
+	 * positions may be searched again, but the table never grows beyond it. The budget is limited to 1 GiB. This does
+	 * not bound the positions waiting to be searched, see {@link #setHeapBytes(long)}.
+	 */
+	public void setTableBytes(long tableBytes) {
+		if (tableBytes > TranspositionTable.MAX_BUDGET_BYTES)
+			throw new IllegalArgumentException("Table budget exceeds " + (TranspositionTable.MAX_BUDGET_BYTES >> 20)
+					+ " MB: " + (tableBytes >> 20) + " MB");
+		this.tableBytes = tableBytes;
+	}
+
+	/**
+	 * Set the number of threads to search with. One thread (the default) runs A*, more run IDA* with subtrees spread
+	 * over a thread pool, see {@link ParallelIdaSearch}.
+	 */
+	public void setThreads(int threads) {
+		if (threads < 1)
+			throw new IllegalArgumentException("Need at least one thread: " + threads);
+		this.threads = threads;
+	}
+
+	/** Give up after searching this long, or 0 for no limit (the default). */
+	public void setTimeLimitMillis(long timeLimitMillis) {
+		this.timeLimitMillis = timeLimitMillis;
+	}
+
+	public SokobanSolution solve() {
+		Board board = new Board(level);
+		int boxCount = SokobanBits.count(startBoxes);
+		if (threads > 1)
+			return new ParallelIdaSearch(board, metric, timeLimitMillis, nodeLimit, boxCount, tableBytes, threads).run(
+					startBoxes, startPlayer);
+		return new AStarSearch(board, metric, timeLimitMillis, nodeLimit, boxCount, tableBytes, heapBytes).run(
+				startBoxes, startPlayer);
+	}
+
+}
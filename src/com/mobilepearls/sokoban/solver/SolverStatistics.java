@@ -0,0 +1,102 @@
+package com.mobilepearls.sokoban.solver;
+
+/** Counters collected while searching, to track solver throughput. */
+public final class SolverStatistics {
+
+	long corralDeadlocks;
+	long corralPrunes;
+	long elapsedNanos;
+	long nodesExpanded;
+	long nodesGenerated;
+	long peakMemoryBytes;
+	double tableBytesPerEntry;
+	long tableEvictions;
+	double tableHitRate;
+	double tableLoadFactor;
+
+	/** Return the number of positions found dead because a PI-corral could never be resolved. */
+	public long getCorralDeadlocks() {
+		return corralDeadlocks;
+	}
+
+	/** Return the number of expansions restricted to the pushes into a PI-corral. */
+	public long getCorralPrunes() {
+		return corralPrunes;
+	}
+
+	public long getElapsedMillis() {
+		return elapsedNanos / 1000000;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	public long getNodesExpanded() {
+		return nodesExpanded;
+	}
+
+	public long getNodesGenerated() {
+		return nodesGenerated;
+	}
+
+	/** Return the number of nodes expanded per second of search. */
+	public double getNodesPerSecond() {
+		return elapsedNanos == 0 ? 0 : nodesExpanded * 1e9 / elapsedNanos;
+	}
+
+	/** Return the highest heap usage sampled during the search, in bytes. */
+	public long getPeakMemoryBytes() {
+		return peakMemoryBytes;
+	}
+
+	/** Return the memory the transposition table used per stored position, including free slots. */
+	public double getTableBytesPerEntry() {
+		return tableBytesPerEntry;
+	}
+
+	/** Return the number of transposition table entries overwritten because the table reached its memory budget. */
+	public long getTableEvictions() {
+		return tableEvictions;
+	}
+
+	/** Return the fraction of transposition table lookups that found the position. */
+	public double getTableHitRate() {
+		return tableHitRate;
+	}
+
+	public double getTableLoadFactor() {
+		return tableLoadFactor;
+	}
+
+	/** Add the counters of a search thread. */
+	void add(SolverStatistics other) {
+		corralDeadlocks += other.corralDeadlocks;
+		corralPrunes += other.corralPrunes;
+		nodesExpanded += other.nodesExpanded;
+		nodesGenerated += other.nodesGenerated;
+	}
+
+	void recordTable(double hitRate, double loadFactor, double bytesPerEntry, long evictions) {
+		tableHitRate = hitRate;
+		tableLoadFactor = loadFactor;
+		tableBytesPerEntry = bytesPerEntry;
+		tableEvictions = evictions;
+	}
+
+	void sampleMemory() {
+		Runtime runtime = Runtime.getRuntime();
+		long used = runtime.totalMemory() - runtime.freeMemory();
+		if (used > peakMemoryBytes)
+			peakMemoryBytes = used;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				"%d nodes expanded, %d generated in %d ms (%.0f nodes/s), peak heap %d KiB, table hit rate %.2f, load %.2f",
+				nodesExpanded, nodesGenerated, getElapsedMillis(), getNodesPerSecond(), peakMemoryBytes / 1024,
+				tableHitRate, tableLoadFactor);
+	}
+
+}
@@ -0,0 +1,61 @@
+package com.mobilepearls.sokoban.solver;
+
+/**
+ * A {@link TranspositionTable} for concurrent searches, split by the high bits of the hash into stripes that are locked
+ * independently, so threads rarely wait on each other.
+ */
+final class StripedTranspositionTable {
+
+	private final TranspositionTable[] stripes;
+
+	/** Create a table with the given number of stripes, a power of two up to 64. */
+	StripedTranspositionTable(long memoryBudgetBytes, int stripeCount) {
+		if (stripeCount > 64 || Integer.bitCount(stripeCount) != 1)
+			throw new IllegalArgumentException("Stripe count must be a power of two up to 64: " + stripeCount);
+		stripes = new TranspositionTable[stripeCount];
+		for (int i = 0; i < stripeCount; i++)
+			stripes[i] = new TranspositionTable(memoryBudgetBytes / stripeCount);
+	}
+
+	void clear() {
+		for (TranspositionTable stripe : stripes) {
+			synchronized (stripe) {
+				stripe.clear();
+			}
+		}
+	}
+
+	/** Record the combined table statistics of all stripes. */
+	void recordStatistics(SolverStatistics statistics) {
+		long hits = 0;
+		long lookups = 0;
+		long size = 0;
+		long bytes = 0;
+		long evictions = 0;
+		for (TranspositionTable stripe : stripes) {
+			synchronized (stripe) {
+				hits += stripe.getHits();
+				lookups += stripe.getLookups();
+				size += stripe.getSize();
+				bytes += stripe.getAllocatedBytes();
+				evictions += stripe.getEvictions();
+			}
+		}
+		statistics.recordTable(lookups == 0 ? 0 : (double) hits / lookups,
+				(double) size * TranspositionTable.BYTES_PER_ENTRY / bytes, size == 0 ? 0 : (double) bytes / size,
+				evictions);
+	}
+
+	private TranspositionTable stripe(long hash) {
+		return stripes[(int) (hash >>> 58) & (stripes.length - 1)];
+	}
+
+	/** See {@link TranspositionTable#store(long, int, int)}. */
+	boolean store(long hash, int fingerprint, int cost) {
+		TranspositionTable stripe = stripe(hash);
+		synchronized (stripe) {
+			return stripe.store(hash, fingerprint, cost);
+		}
+	}
+
+}
@@ -0,0 +1,217 @@
+package com.mobilepearls.sokoban.solver;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+/**
+ * Off-heap open addressing table of visited positions and the cheapest cost they were reached with. Each entry takes
+ * two longs in a direct buffer: the Zobrist hash of the position, and a 32-bit fingerprint of the diamonds packed with
+ * the cost and the age of the entry. Both must match for a hit, so a false match needs a 96-bit collision.
+ * <p>
+ * The table starts small and doubles up to its memory budget. Once there, a store that finds no free slot within the
+ * probe window overwrites the oldest entry, preferring the deepest among equally old ones, instead of failing.
+ */
+final class TranspositionTable {
+
+	private static final int AGE_BITS = 8;
+	private static final int AGE_MASK = (1 << AGE_BITS) - 1;
+	static final int BYTES_PER_ENTRY = 16;
+	private static final int COST_MASK = (1 << 24) - 1;
+	/** The largest power of two capacity whose buffer size still fits in an int. */
+	private static final int MAX_CAPACITY = Integer.highestOneBit(Integer.MAX_VALUE / BYTES_PER_ENTRY);
+	/** The largest memory budget a single table can honour. */
+	static final long MAX_BUDGET_BYTES = (long) MAX_CAPACITY * BYTES_PER_ENTRY;
+	private static final int MIN_CAPACITY = 1 << 12;
+	static final int NOT_FOUND = -1;
+	private static final int PROBE_LIMIT = 16;
+
+	/** Return a 32-bit fingerprint of the diamonds independent of their Zobrist hash. */
+	static int fingerprint(long[] boxes) {
+		long hash = 0;
+		for (long word : boxes) {
+			hash = (hash ^ word) * 0x9E3779B97F4A7C15L;
+			hash ^= hash >>> 29;
+		}
+		return (int) (hash >>> 32);
+	}
+
+	private int age;
+	private int capacity;
+	private long evictions;
+	private long hits;
+	private long lookups;
+	private int mask;
+	private final int maxCapacity;
+	private int size;
+	private LongBuffer slots;
+
+	/** Create a table growing up to the given budget, which must not exceed {@link #MAX_BUDGET_BYTES}. */
+	TranspositionTable(long memoryBudgetBytes) {
+		if (memoryBudgetBytes > MAX_BUDGET_BYTES)
+			throw new IllegalArgumentException("Table budget of " + memoryBudgetBytes + " bytes exceeds "
+					+ MAX_BUDGET_BYTES);
+		long entries = Math.max(MIN_CAPACITY, memoryBudgetBytes / BYTES_PER_ENTRY);
+		maxCapacity = (int) Math.min(MAX_CAPACITY, Long.highestOneBit(entries));
+		allocate(Math.min(maxCapacity, MIN_CAPACITY));
+	}
+
+	private void allocate(int newCapacity) {
+		capacity = newCapacity;
+		mask = newCapacity - 1;
+		slots = ByteBuffer.allocateDirect(newCapacity * BYTES_PER_ENTRY).order(ByteOrder.nativeOrder()).asLongBuffer();
+	}
+
+	/** Remove all entries, keeping the memory allocated. */
+	void clear() {
+		for (int i = 0; i < 2 * capacity; i++)
+			slots.put(i, 0);
+		size = 0;
+	}
+
+	long getAllocatedBytes() {
+		return (long) capacity * BYTES_PER_ENTRY;
+	}
+
+	/** Return the memory used per stored position, including free slots. */
+	double getBytesPerEntry() {
+		return size == 0 ? 0 : (double) capacity * BYTES_PER_ENTRY / size;
+	}
+
+	long getEvictions() {
+		return evictions;
+	}
+
+	double getHitRate() {
+		return lookups == 0 ? 0 : (double) hits / lookups;
+	}
+
+	long getHits() {
+		return hits;
+	}
+
+	long getLookups() {
+		return lookups;
+	}
+
+	int getSize() {
+		return size;
+	}
+
+	double getLoadFactor() {
+		return (double) size / capacity;
+	}
+
+	private void grow() {
+		LongBuffer old = slots;
+		int oldCapacity = capacity;
+		allocate(capacity * 2);
+		size = 0;
+		for (int i = 0; i < oldCapacity; i++) {
+			long key = old.get(2 * i);
+			if (key != 0)
+				insertRehashed(key, old.get(2 * i + 1));
+		}
+	}
+
+	/**
+	 * Insert an entry of the old table within the probe window, so that it can still be found. If the window is full,
+	 * the entry or the window entry most eligible for eviction is dropped, as in {@link #store(long, int, int)}.
+	 */
+	private void insertRehashed(long key, long data) {
+		int victim = -1;
+		long victimScore = score(data);
+		for (int p = 0, i = (int) key & mask; p < PROBE_LIMIT; p++, i = (i + 1) & mask) {
+			if (slots.get(2 * i) == 0) {
+				slots.put(2 * i, key);
+				slots.put(2 * i + 1, data);
+				size++;
+				return;
+			}
+			long score = score(slots.get(2 * i + 1));
+			if (score > victimScore) {
+				victimScore = score;
+				victim = i;
+			}
+		}
+		evictions++;
+		if (victim >= 0) {
+			slots.put(2 * victim, key);
+			slots.put(2 * victim + 1, data);
+		}
+	}
+
+	/** Return the cost a position was stored with, or {@link #NOT_FOUND}. */
+	int lookup(long hash, int fingerprint) {
+		long key = (hash == 0) ? 1 : hash;
+		lookups++;
+		for (int p = 0, i = (int) key & mask; p < PROBE_LIMIT; p++, i = (i + 1) & mask) {
+			long slotKey = slots.get(2 * i);
+			if (slotKey == 0)
+				return NOT_FOUND;
+			long data = slots.get(2 * i + 1);
+			if (slotKey == key && (int) (data >>> 32) == fingerprint) {
+				hits++;
+				return (int) (data >>> AGE_BITS) & COST_MASK;
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	/** Start a new age, entries stored before become candidates for eviction. */
+	void nextAge() {
+		age = (age + 1) & AGE_MASK;
+	}
+
+	private long pack(int fingerprint, int cost) {
+		return ((long) fingerprint << 32) | ((long) Math.min(cost, COST_MASK) << AGE_BITS) | age;
+	}
+
+	/** Rank an entry for eviction: older entries first, and the deepest among equally old ones. */
+	private long score(long data) {
+		int slotAge = (age - (int) data) & AGE_MASK;
+		return ((long) slotAge << 24) | ((int) (data >>> AGE_BITS) & COST_MASK);
+	}
+
+	/**
+	 * Store a position reached with the given cost unless it is already stored with the same or a lower cost. Return
+	 * whether it was stored, i.e. whether the position is new or has been reached more cheaply.
+	 */
+	boolean store(long hash, int fingerprint, int cost) {
+		long key = (hash == 0) ? 1 : hash;
+		lookups++;
+		if (size >= capacity - (capacity >>> 2) && capacity < maxCapacity)
+			grow();
+
+		int victim = -1;
+		long victimScore = -1;
+		for (int p = 0, i = (int) key & mask; p < PROBE_LIMIT; p++, i = (i + 1) & mask) {
+			long slotKey = slots.get(2 * i);
+			if (slotKey == 0) {
+				slots.put(2 * i, key);
+				slots.put(2 * i + 1, pack(fingerprint, cost));
+				size++;
+				return true;
+			}
+			long data = slots.get(2 * i + 1);
+			int slotCost = (int) (data >>> AGE_BITS) & COST_MASK;
+			if (slotKey == key && (int) (data >>> 32) == fingerprint) {
+				hits++;
+				if (slotCost <= cost)
+					return false;
+				slots.put(2 * i + 1, pack(fingerprint, cost));
+				return true;
+			}
+			long score = score(data);
+			if (score > victimScore) {
+				victimScore = score;
+				victim = i;
+			}
+		}
+		evictions++;
+		slots.put(2 * victim, key);
+		slots.put(2 * victim + 1, pack(fingerprint, cost));
+		return true;
+	}
+
+}